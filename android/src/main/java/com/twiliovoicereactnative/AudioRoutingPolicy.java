@@ -0,0 +1,168 @@
+package com.twiliovoicereactnative;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.twilio.audioswitch.AudioDevice;
+import com.twiliovoicereactnative.CallRecordDatabase.CallRecord;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static com.twiliovoicereactnative.CommonConstants.AudioRoutingPolicyKeyAutoSwitchOnConnect;
+import static com.twiliovoicereactnative.CommonConstants.AudioRoutingPolicyKeyIncomingCallDeviceTypes;
+import static com.twiliovoicereactnative.CommonConstants.AudioRoutingPolicyKeyOutgoingCallDeviceTypes;
+import static com.twiliovoicereactnative.CommonConstants.AudioRoutingPolicyKeyPreferredDeviceTypes;
+
+/**
+ * Decides which audio device a call is routed to when the AudioSwitch is activated, and whether a
+ * newly connected audio device takes over an active call. Devices are chosen by type, in the order
+ * of preference for the direction of the call. Devices of the same type are chosen in the order
+ * AudioSwitch lists them, so a wired headset is preferred over the earpiece.
+ * <p>
+ * A policy is immutable and is persisted as JSON in the shared preferences, so it also applies to
+ * calls received before the JS layer has started.
+ */
+class AudioRoutingPolicy {
+  private static final SDKLog logger = new SDKLog(AudioRoutingPolicy.class);
+
+  private final List<String> preferredDeviceTypes;
+  private final List<String> incomingCallDeviceTypes;
+  private final List<String> outgoingCallDeviceTypes;
+  private final boolean autoSwitchOnConnect;
+
+  /**
+   * Constructor for the AudioRoutingPolicy class.
+   * @param preferredDeviceTypes audio device types in order of preference
+   * @param incomingCallDeviceTypes audio device types in order of preference for incoming calls,
+   *                                null to use the preferred device types
+   * @param outgoingCallDeviceTypes audio device types in order of preference for outgoing calls,
+   *                                null to use the preferred device types
+   * @param autoSwitchOnConnect whether an active call switches to a newly connected audio device
+   *                            that is preferred over the selected one
+   */
+  public AudioRoutingPolicy(@NonNull final List<String> preferredDeviceTypes,
+                            @Nullable final List<String> incomingCallDeviceTypes,
+                            @Nullable final List<String> outgoingCallDeviceTypes,
+                            final boolean autoSwitchOnConnect) {
+    this.preferredDeviceTypes = Collections.unmodifiableList(new ArrayList<>(preferredDeviceTypes));
+    this.incomingCallDeviceTypes = (null != incomingCallDeviceTypes)
+      ? Collections.unmodifiableList(new ArrayList<>(incomingCallDeviceTypes))
+      : null;
+    this.outgoingCallDeviceTypes = (null != outgoingCallDeviceTypes)
+      ? Collections.unmodifiableList(new ArrayList<>(outgoingCallDeviceTypes))
+      : null;
+    this.autoSwitchOnConnect = autoSwitchOnConnect;
+  }
+
+  public boolean isAutoSwitchOnConnect() {
+    return autoSwitchOnConnect;
+  }
+
+  /**
+   * Get the audio device types in order of preference for a call.
+   * @param direction the direction of the call
+   * @return the device types of the call direction if set, the preferred device types otherwise
+   */
+  public List<String> getDeviceTypes(@NonNull final CallRecord.Direction direction) {
+    final List<String> deviceTypes = (CallRecord.Direction.INCOMING == direction)
+      ? incomingCallDeviceTypes
+      : outgoingCallDeviceTypes;
+    return (null != deviceTypes) ? deviceTypes : preferredDeviceTypes;
+  }
+
+  /**
+   * Select the audio device a call is routed to.
+   * @param audioDevices the available audio devices, in AudioSwitch order
+   * @param direction the direction of the call
+   * @return the most preferred available audio device, null when no available audio device is of
+   * a preferred type
+   */
+  @Nullable
+  public AudioDevice select(@NonNull final Collection<AudioDevice> audioDevices,
+                            @NonNull final CallRecord.Direction direction) {
+    for (String deviceType: getDeviceTypes(direction)) {
+      for (AudioDevice audioDevice: audioDevices) {
+        if (deviceType.equals(getDeviceType(audioDevice))) {
+          return audioDevice;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Check a device type sent by the JS layer.
+   * @param deviceType the device type
+   * @return true if the device type is one of the audio device types the JS layer is sent
+   */
+  public static boolean isValidDeviceType(@Nullable final String deviceType) {
+    return null != deviceType && AudioSwitchManager.AUDIO_DEVICE_TYPE.containsValue(deviceType);
+  }
+
+  /**
+   * Serialize the policy for the shared preferences.
+   * @return the policy as JSON, keyed like the policy sent by the JS layer
+   */
+  public String toJson() {
+    try {
+      final JSONObject json = new JSONObject()
+        .put(AudioRoutingPolicyKeyPreferredDeviceTypes, new JSONArray(preferredDeviceTypes))
+        .put(AudioRoutingPolicyKeyAutoSwitchOnConnect, autoSwitchOnConnect);
+      if (null != incomingCallDeviceTypes) {
+        json.put(AudioRoutingPolicyKeyIncomingCallDeviceTypes, new JSONArray(incomingCallDeviceTypes));
+      }
+      if (null != outgoingCallDeviceTypes) {
+        json.put(AudioRoutingPolicyKeyOutgoingCallDeviceTypes, new JSONArray(outgoingCallDeviceTypes));
+      }
+      return json.toString();
+    } catch (JSONException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Parse a policy from the shared preferences.
+   * @param json the policy as JSON, see {@link #toJson()}
+   * @return the policy, null if there is none or it cannot be parsed
+   */
+  @Nullable
+  public static AudioRoutingPolicy fromJson(@Nullable final String json) {
+    if (null == json) {
+      return null;
+    }
+    try {
+      final JSONObject jsonObject = new JSONObject(json);
+      return new AudioRoutingPolicy(
+        parseDeviceTypes(jsonObject.getJSONArray(AudioRoutingPolicyKeyPreferredDeviceTypes)),
+        parseDeviceTypes(jsonObject.optJSONArray(AudioRoutingPolicyKeyIncomingCallDeviceTypes)),
+        parseDeviceTypes(jsonObject.optJSONArray(AudioRoutingPolicyKeyOutgoingCallDeviceTypes)),
+        jsonObject.optBoolean(AudioRoutingPolicyKeyAutoSwitchOnConnect, false));
+    } catch (JSONException e) {
+      logger.warning(e, "Unable to parse the persisted audio routing policy, ignoring it");
+      return null;
+    }
+  }
+
+  private static List<String> parseDeviceTypes(@Nullable final JSONArray jsonArray)
+    throws JSONException {
+    if (null == jsonArray) {
+      return null;
+    }
+    final List<String> deviceTypes = new ArrayList<>(jsonArray.length());
+    for (int i = 0; i < jsonArray.length(); ++i) {
+      deviceTypes.add(jsonArray.getString(i));
+    }
+    return deviceTypes;
+  }
+
+  private static String getDeviceType(@NonNull final AudioDevice audioDevice) {
+    return AudioSwitchManager.AUDIO_DEVICE_TYPE.get(audioDevice.getClass().getSimpleName());
+  }
+}
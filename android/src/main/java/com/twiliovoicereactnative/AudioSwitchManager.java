@@ -1,12 +1,22 @@
 package com.twiliovoicereactnative;
 
 import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
 
 import com.twilio.audioswitch.AudioDevice;
 import com.twilio.audioswitch.AudioSwitch;
 
-import java.util.HashMap;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 import static com.twiliovoicereactnative.CommonConstants.AudioDeviceKeyEarpiece;
@@ -17,20 +27,86 @@ import kotlin.Unit;
 
 /**
  * AudioSwitchManager maintains a persistent AudioSwitch object and listens for audio
- * device changes. Generates UUIDs per audio device when the AudioSwitch library updates available
- * audio devices.
+ * device changes. Each audio device is identified by a UUID derived from its type & name, so a
+ * device keeps its UUID across AudioSwitch updates and application launches.
+ * <p>
+ * AudioSwitch updates that change neither the available devices nor the selected device are
+ * ignored. Every other update produces a new snapshot with an incremented revision, and listeners
+ * are told which devices were added & removed rather than handed the whole list again.
+ * <p>
+ * AudioSwitch invokes its callback on the main thread, which is the only thread that publishes
+ * snapshots or notifies the listener, so listeners observe revisions in order. Other threads only
+ * read the current snapshot, which is published atomically and never locked.
+ * <p>
+ * When an {@link AudioRoutingPolicy} is set, the audio device it prefers for a call is selected
+ * before the AudioSwitch is activated, so the call is routed correctly from its first audio frame.
  */
 class AudioSwitchManager {
+  private static final SDKLog logger = new SDKLog(AudioSwitchManager.class);
+
   /**
-   * The functional interface of a listener to be bound to the AudioSwitchManager.
+   * The interface of a listener to be bound to the AudioSwitchManager.
    */
-  @FunctionalInterface
   interface AudioManagerListener {
-    void apply(
-      Map<String, AudioDevice> audioDevices,
-      String selectedAudioDeviceUuid,
-      AudioDevice selectedDevice
-    );
+    /**
+     * Invoked with the current audio devices when the listener is set.
+     * @param snapshot the current audio devices
+     */
+    void onAudioDevices(@NonNull Snapshot snapshot);
+
+    /**
+     * Invoked when the available audio devices or the selected audio device change.
+     * @param snapshot the audio devices after the change
+     * @param addedAudioDevices the audio devices added by the change, keyed by UUID
+     * @param removedAudioDeviceUuids the UUIDs of the audio devices removed by the change
+     */
+    void onAudioDevicesChanged(@NonNull Snapshot snapshot,
+                               @NonNull Map<String, AudioDevice> addedAudioDevices,
+                               @NonNull List<String> removedAudioDeviceUuids);
+  }
+
+  /**
+   * An immutable view of the audio devices. A new snapshot is published whenever they change, so
+   * a snapshot is safe to read from any thread.
+   */
+  static class Snapshot {
+    private final Map<String, AudioDevice> audioDevices;
+    private final String selectedAudioDeviceUuid;
+    private final int revision;
+
+    private Snapshot(@NonNull final Map<String, AudioDevice> audioDevices,
+                     @Nullable final String selectedAudioDeviceUuid,
+                     final int revision) {
+      this.audioDevices = Collections.unmodifiableMap(audioDevices);
+      this.selectedAudioDeviceUuid = selectedAudioDeviceUuid;
+      this.revision = revision;
+    }
+
+    /**
+     * Get the audio devices.
+     * @return A map of UUIDs to available audio devices
+     */
+    public Map<String, AudioDevice> getAudioDevices() {
+      return audioDevices;
+    }
+
+    @Nullable
+    public String getSelectedAudioDeviceUuid() {
+      return selectedAudioDeviceUuid;
+    }
+
+    @Nullable
+    public AudioDevice getSelectedAudioDevice() {
+      return (null != selectedAudioDeviceUuid) ? audioDevices.get(selectedAudioDeviceUuid) : null;
+    }
+
+    /**
+     * Get the revision of the snapshot, incremented each time the audio devices change.
+     * @return the revision
+     */
+    public int getRevision() {
+      return revision;
+    }
   }
 
   /**
@@ -43,46 +119,45 @@ class AudioSwitchManager {
     "Earpiece", AudioDeviceKeyEarpiece);
 
   /**
-   * Map of UUIDs to all available AudioDevices. Kept up-to-date by the AudioSwitch.
+   * The available audio devices & the selected audio device. Replaced as a whole, never mutated,
+   * by the main thread whenever the AudioSwitch updates, so a reader never sees the devices of one
+   * update with the selection of another.
    */
-  private final HashMap<String, AudioDevice> audioDevices;
+  private volatile Snapshot snapshot = new Snapshot(Collections.emptyMap(), null, 0);
   /**
    * The AudioSwitch.
    */
   private final AudioSwitch audioSwitch;
   /**
-   * A listener function that is invoked when the AudioSwitch updates.
+   * AudioSwitch is driven from the main thread, regardless of which thread requests the change.
+   */
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  /**
+   * A listener function that is invoked when the AudioSwitch updates. Confined to the main thread.
    */
   private AudioManagerListener listener = null;
   /**
-   * The UUID of the selected audio device.
+   * The policy applied when a call is routed, null for the default AudioSwitch routing.
    */
-  private String selectedAudioDeviceUuid = null;
+  private volatile AudioRoutingPolicy routingPolicy;
+  /**
+   * The direction of the call the AudioSwitch was activated for, null while deactivated. Confined
+   * to the main thread.
+   */
+  private CallRecordDatabase.CallRecord.Direction activeCallDirection = null;
 
   /**
    * Constructor for the AudioSwitchManager class. Intended to be a singleton.
    * @param context The Android application context
    */
   public AudioSwitchManager(Context context) {
-    audioDevices = new HashMap<>();
     audioSwitch = new AudioSwitch(context);
+    routingPolicy = ConfigurationProperties.getAudioRoutingPolicy(context);
   }
 
   public void start() {
     audioSwitch.start((devices, selectedDevice) -> {
-
-      audioDevices.clear();
-      for (AudioDevice device : devices) {
-        String uuid = UUID.randomUUID().toString();
-        audioDevices.put(uuid, device);
-        if (device.equals(selectedDevice)) {
-          selectedAudioDeviceUuid = uuid;
-        }
-      }
-
-      if (this.listener != null) {
-        this.listener.apply(audioDevices, selectedAudioDeviceUuid, selectedDevice);
-      }
+      update(devices, selectedDevice);
       return Unit.INSTANCE;
     });
   }
@@ -93,15 +168,16 @@ class AudioSwitchManager {
 
   /**
    * Set a listener for the AudioSwitchManager. The listener function is invoked every time the
-   * AudioSwitch updates. Also invoked at the point the listener is set.
+   * AudioSwitch updates. Also invoked with the current audio devices once it is set. The listener
+   * is set & invoked on the main thread, so it never misses an update or receives one out of order.
    * @param listener A listener function.
    * @return The singleton AudioSwitchManager.
    */
   public AudioSwitchManager setListener(AudioManagerListener listener) {
-    this.listener = listener;
-
-    this.listener.apply(audioDevices, selectedAudioDeviceUuid, getSelectedAudioDevice());
-
+    mainHandler.post(() -> {
+      this.listener = listener;
+      listener.onAudioDevices(snapshot);
+    });
     return this;
   }
 
@@ -116,26 +192,146 @@ class AudioSwitchManager {
   }
 
   /**
-   * Get the audio devices.
-   * @return A map of UUIDs to available audio devices
+   * Set the policy applied when a call is routed. Takes effect the next time the AudioSwitch is
+   * activated or an audio device connects.
+   * @param routingPolicy the policy, null for the default AudioSwitch routing
+   */
+  public void setRoutingPolicy(@Nullable AudioRoutingPolicy routingPolicy) {
+    this.routingPolicy = routingPolicy;
+  }
+
+  /**
+   * Activate the AudioSwitch on the main thread, first selecting the audio device the routing
+   * policy prefers for the call. Safe to invoke from the call state thread.
+   * @param direction the direction of the call audio is routed for
+   */
+  public void activate(@NonNull CallRecordDatabase.CallRecord.Direction direction) {
+    mainHandler.post(() -> {
+      activeCallDirection = direction;
+      final AudioRoutingPolicy policy = routingPolicy;
+      if (null != policy) {
+        final Snapshot currentSnapshot = snapshot;
+        final AudioDevice audioDevice =
+          policy.select(currentSnapshot.audioDevices.values(), direction);
+        if (null != audioDevice && !audioDevice.equals(currentSnapshot.getSelectedAudioDevice())) {
+          audioSwitch.selectDevice(audioDevice);
+        }
+      }
+      audioSwitch.activate();
+    });
+  }
+
+  /**
+   * Deactivate the AudioSwitch on the main thread. Safe to invoke from the call state thread.
    */
-  public HashMap<String, AudioDevice> getAudioDevices() {
-    return audioDevices;
+  public void deactivate() {
+    mainHandler.post(() -> {
+      activeCallDirection = null;
+      audioSwitch.deactivate();
+    });
   }
 
   /**
-   * Get the UUID of the selected audio device.
-   * @return The UUID of the selected audio device.
+   * Select an audio device on the main thread. The device is ignored if it has been removed by the
+   * time the main thread gets to it.
+   * @param audioDevice The audio device to route audio to
    */
-  public String getSelectedAudioDeviceUuid() {
-    return selectedAudioDeviceUuid;
+  public void selectDevice(AudioDevice audioDevice) {
+    mainHandler.post(() -> {
+      if (!snapshot.audioDevices.containsValue(audioDevice)) {
+        logger.warning("Audio device removed before it could be selected, ignoring");
+        return;
+      }
+      audioSwitch.selectDevice(audioDevice);
+    });
+  }
+
+  /**
+   * Get the current audio devices. Safe to invoke from any thread.
+   * @return An immutable snapshot of the audio devices
+   */
+  public Snapshot getSnapshot() {
+    return snapshot;
+  }
+
+  /**
+   * Publish the audio devices reported by AudioSwitch, invoked on the main thread.
+   */
+  private void update(@NonNull final List<? extends AudioDevice> devices,
+                      @Nullable final AudioDevice selectedDevice) {
+    final Snapshot previousSnapshot = snapshot;
+
+    // identify the devices
+    final Map<String, AudioDevice> audioDevices = new LinkedHashMap<>();
+    String selectedAudioDeviceUuid = null;
+    for (AudioDevice device : devices) {
+      final String uuid = getAudioDeviceUuid(device, audioDevices);
+      audioDevices.put(uuid, device);
+      if (device.equals(selectedDevice)) {
+        selectedAudioDeviceUuid = uuid;
+      }
+    }
+
+    // diff against the previous snapshot
+    final Map<String, AudioDevice> addedAudioDevices = new LinkedHashMap<>();
+    for (Map.Entry<String, AudioDevice> entry : audioDevices.entrySet()) {
+      if (!previousSnapshot.audioDevices.containsKey(entry.getKey())) {
+        addedAudioDevices.put(entry.getKey(), entry.getValue());
+      }
+    }
+    final List<String> removedAudioDeviceUuids = new ArrayList<>();
+    for (String uuid : previousSnapshot.audioDevices.keySet()) {
+      if (!audioDevices.containsKey(uuid)) {
+        removedAudioDeviceUuids.add(uuid);
+      }
+    }
+    if (addedAudioDevices.isEmpty() &&
+      removedAudioDeviceUuids.isEmpty() &&
+      Objects.equals(previousSnapshot.selectedAudioDeviceUuid, selectedAudioDeviceUuid)) {
+      logger.debug("Audio devices unchanged, ignoring update");
+      return;
+    }
+
+    // publish
+    final Snapshot updatedSnapshot =
+      new Snapshot(audioDevices, selectedAudioDeviceUuid, previousSnapshot.revision + 1);
+    snapshot = updatedSnapshot;
+    if (this.listener != null) {
+      this.listener.onAudioDevicesChanged(
+        updatedSnapshot, addedAudioDevices, removedAudioDeviceUuids);
+    }
+
+    // switch the active call to a newly connected audio device the routing policy prefers
+    final AudioRoutingPolicy policy = routingPolicy;
+    if (null != activeCallDirection &&
+      null != policy &&
+      policy.isAutoSwitchOnConnect() &&
+      !addedAudioDevices.isEmpty()) {
+      final AudioDevice audioDevice = policy.select(audioDevices.values(), activeCallDirection);
+      if (null != audioDevice &&
+        addedAudioDevices.containsValue(audioDevice) &&
+        !audioDevice.equals(selectedDevice)) {
+        logger.debug("Switching to a newly connected audio device");
+        selectDevice(audioDevice);
+      }
+    }
   }
 
   /**
-   * Get the selected audio device.
-   * @return The selected audio device.
+   * Derive the UUID of an audio device from its type & name. Devices of the same type & name, such
+   * as two headsets of the same model, are told apart by the order AudioSwitch lists them in.
+   * @param device the audio device
+   * @param identifiedDevices the devices already identified in the same update
+   * @return the UUID of the audio device
    */
-  public AudioDevice getSelectedAudioDevice() {
-    return audioDevices.get(selectedAudioDeviceUuid);
+  private static String getAudioDeviceUuid(@NonNull final AudioDevice device,
+                                            @NonNull final Map<String, AudioDevice> identifiedDevices) {
+    final String identity = device.getClass().getSimpleName() + ':' + device.getName();
+    String uuid = UUID.nameUUIDFromBytes(identity.getBytes(StandardCharsets.UTF_8)).toString();
+    for (int duplicate = 1; identifiedDevices.containsKey(uuid); ++duplicate) {
+      uuid = UUID.nameUUIDFromBytes(
+        (identity + ':' + duplicate).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+    return uuid;
   }
 }
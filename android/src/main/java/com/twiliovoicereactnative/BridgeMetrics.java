@@ -0,0 +1,189 @@
+package com.twiliovoicereactnative;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableMapKeySetIterator;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the work done crossing the bridge to the JS layer: events sent, promises settled and
+ * payloads serialized. Each is recorded under a name within its category, along with the number
+ * of top level fields in its payload and how long it took, into a histogram with fixed latency
+ * buckets.
+ * <p>
+ * Recording never takes a lock, so it is safe from any thread. When disabled, recording returns
+ * before reading the clock. Bridge maps are consumed when sent, so callers count the fields of a
+ * payload before sending it, and only when enabled.
+ */
+class BridgeMetrics {
+  /**
+   * Upper bounds of the latency histogram buckets, in microseconds. Latencies above the last bound
+   * are counted in a final overflow bucket.
+   */
+  public static final long[] LATENCY_BUCKET_BOUNDS_MICROS =
+    { 10, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 50000 };
+
+  /*
+   * Names promise settlements are recorded under.
+   */
+  public static final String PROMISE_RESOLVED = "resolved";
+  public static final String PROMISE_REJECTED_WITH_CODE = "rejectedWithCode";
+  public static final String PROMISE_REJECTED_WITH_NAME = "rejectedWithName";
+  /**
+   * Fields of a promise rejection, its error code or name & its message.
+   */
+  public static final int PROMISE_REJECTION_FIELDS = 2;
+
+  /**
+   * What crossed the bridge.
+   */
+  public enum Category {
+    /**
+     * Events sent to the JS layer, named by their scope & event type.
+     */
+    EVENT,
+    /**
+     * Promises settled, named by how they were settled.
+     */
+    PROMISE,
+    /**
+     * Payloads built by the serializer, named by its entry point.
+     */
+    SERIALIZER
+  }
+
+  /**
+   * Metrics recorded under a single name.
+   */
+  static class Entry {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder fieldCount = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLongArray latencyHistogram =
+      new AtomicLongArray(LATENCY_BUCKET_BOUNDS_MICROS.length + 1);
+
+    private void record(final long latencyNanos, final int fields) {
+      count.increment();
+      fieldCount.add(fields);
+      totalLatencyNanos.add(latencyNanos);
+      latencyHistogram.incrementAndGet(bucket(latencyNanos / 1000));
+    }
+
+    public long getCount() {
+      return count.sum();
+    }
+    public long getFieldCount() {
+      return fieldCount.sum();
+    }
+    public long getTotalLatencyMicros() {
+      return totalLatencyNanos.sum() / 1000;
+    }
+    public long getLatencyHistogram(final int bucket) {
+      return latencyHistogram.get(bucket);
+    }
+  }
+
+  private final boolean enabled;
+  private final Map<Category, Map<String, Entry>> entries = new EnumMap<>(Category.class);
+
+  /**
+   * Constructor for the BridgeMetrics class.
+   * @param enabled whether metrics are recorded
+   */
+  public BridgeMetrics(final boolean enabled) {
+    this.enabled = enabled;
+    for (Category category: Category.values()) {
+      entries.put(category, new ConcurrentHashMap<>());
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Mark the start of a measurement.
+   * @return the start time to pass to {@link #record}, zero when disabled
+   */
+  public long start() {
+    return enabled ? System.nanoTime() : 0;
+  }
+
+  /**
+   * Count the top level fields of a payload, only when enabled.
+   * @param payload a map, array or single value, must not have been sent yet
+   * @return the number of fields, see {@link #countFields}, zero when disabled
+   */
+  public int countFieldsIfEnabled(@Nullable final Object payload) {
+    return enabled ? countFields(payload) : 0;
+  }
+
+  /**
+   * Record a measurement that started at {@link #start}.
+   * @param category what crossed the bridge
+   * @param name the name the measurement is recorded under
+   * @param startNanos the start time returned by {@link #start}
+   * @param fields the number of top level fields in the payload, see {@link #countFields}
+   */
+  public void record(@NonNull final Category category,
+                     @NonNull final String name,
+                     final long startNanos,
+                     final int fields) {
+    if (!enabled) {
+      return;
+    }
+    final long latencyNanos = System.nanoTime() - startNanos;
+    final Map<String, Entry> categoryEntries = entries.get(category);
+    Entry entry = categoryEntries.get(name);
+    if (null == entry) {
+      entry = categoryEntries.computeIfAbsent(name, key -> new Entry());
+    }
+    entry.record(latencyNanos, fields);
+  }
+
+  /**
+   * Get the metrics recorded for a category.
+   * @param category what crossed the bridge
+   * @return a live view of the metrics, keyed by name
+   */
+  public Map<String, Entry> getEntries(@NonNull final Category category) {
+    return entries.get(category);
+  }
+
+  private static int bucket(final long latencyMicros) {
+    for (int bucket = 0; bucket < LATENCY_BUCKET_BOUNDS_MICROS.length; ++bucket) {
+      if (latencyMicros <= LATENCY_BUCKET_BOUNDS_MICROS[bucket]) {
+        return bucket;
+      }
+    }
+    return LATENCY_BUCKET_BOUNDS_MICROS.length;
+  }
+
+  /**
+   * Count the top level fields of a payload.
+   * @param payload a map, array or single value, must not have been sent yet
+   * @return the number of map keys or array elements, one for a single value
+   */
+  public static int countFields(@Nullable final Object payload) {
+    if (payload instanceof ReadableMap) {
+      int fields = 0;
+      final ReadableMapKeySetIterator iterator = ((ReadableMap) payload).keySetIterator();
+      while (iterator.hasNextKey()) {
+        iterator.nextKey();
+        ++fields;
+      }
+      return fields;
+    } else if (payload instanceof ReadableArray) {
+      return ((ReadableArray) payload).size();
+    }
+    return (null != payload) ? 1 : 0;
+  }
+}
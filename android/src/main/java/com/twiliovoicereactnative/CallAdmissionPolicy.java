@@ -0,0 +1,87 @@
+package com.twiliovoicereactnative;
+
+import androidx.annotation.NonNull;
+
+import com.twilio.voice.Call;
+import com.twiliovoicereactnative.CallRecordDatabase.CallRecord;
+
+/**
+ * Decides how an incoming call invite is handled given the calls & invites already in progress.
+ * The decision is made before a call record is created, so invites that are turned away never
+ * post a notification, start the ringer or reach the JS layer.
+ */
+class CallAdmissionPolicy {
+  /**
+   * How an incoming call invite is handled.
+   */
+  public enum Decision {
+    /**
+     * Raise a high importance notification & play the ringtone.
+     */
+    RING,
+    /**
+     * Raise a default importance notification & play the call waiting tone over the active call.
+     */
+    CALL_WAITING,
+    /**
+     * Reject the call invite without notifying the user.
+     */
+    REJECT
+  }
+
+  private final int maxActiveCalls;
+  private final int maxPendingInvites;
+  private final Decision busyDecision;
+
+  /**
+   * Constructor for the CallAdmissionPolicy class.
+   * @param maxActiveCalls invites are rejected while this many calls are active, zero for no limit
+   * @param maxPendingInvites invites are rejected while this many invites are pending, zero for no
+   *                          limit
+   * @param busyDecision how invites are handled while at least one call is active
+   */
+  public CallAdmissionPolicy(final int maxActiveCalls,
+                             final int maxPendingInvites,
+                             @NonNull final Decision busyDecision) {
+    this.maxActiveCalls = maxActiveCalls;
+    this.maxPendingInvites = maxPendingInvites;
+    this.busyDecision = busyDecision;
+  }
+
+  /**
+   * Decide how to handle an incoming call invite. Must be invoked on the call state thread.
+   * @param snapshot the current call records
+   * @return the admission decision
+   */
+  public Decision admit(@NonNull final CallRecordDatabase.Snapshot snapshot) {
+    int activeCalls = 0;
+    int pendingInvites = 0;
+    for (CallRecord callRecord: snapshot.getCallRecords()) {
+      if (CallRecord.CallInviteState.ACTIVE == callRecord.getCallInviteState()) {
+        ++pendingInvites;
+      } else if (null != callRecord.getVoiceCall() &&
+        Call.State.DISCONNECTED != callRecord.getVoiceCall().getState()) {
+        ++activeCalls;
+      }
+    }
+    if ((maxPendingInvites > 0 && pendingInvites >= maxPendingInvites) ||
+      (maxActiveCalls > 0 && activeCalls >= maxActiveCalls)) {
+      return Decision.REJECT;
+    }
+    return (activeCalls > 0) ? busyDecision : Decision.RING;
+  }
+
+  /**
+   * Parse a busy policy configuration string.
+   * @param busyPolicy one of "ring", "callwaiting" or "reject"
+   * @return the decision applied while busy, defaults to ringing for unknown values
+   */
+  public static Decision parseBusyPolicy(final String busyPolicy) {
+    if ("callwaiting".equals(busyPolicy)) {
+      return Decision.CALL_WAITING;
+    } else if ("reject".equals(busyPolicy)) {
+      return Decision.REJECT;
+    }
+    return Decision.RING;
+  }
+}
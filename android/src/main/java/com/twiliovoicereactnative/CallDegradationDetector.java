@@ -0,0 +1,156 @@
+package com.twiliovoicereactnative;
+
+import androidx.annotation.NonNull;
+
+import com.twiliovoicereactnative.CallQualityAggregator.Metric;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Early warning of the quality degradation of a single call, so the application can react before
+ * the SDK raises its quality warnings.
+ * <p>
+ * Each monitored metric is modelled by an exponentially weighted moving average of its level and
+ * of its rate of change. The level projected over a short horizon is scored between the onset of
+ * degradation and the threshold of the matching SDK quality warning, and the scores of all metrics
+ * are combined into a single confidence. A call starts degrading when the confidence reaches the
+ * configured threshold, and recovers once it falls below half of it, so a confidence hovering
+ * around the threshold does not raise repeated events.
+ * <p>
+ * Like the quality aggregator it reads its samples from, the detector is owned by the call state
+ * thread.
+ */
+class CallDegradationDetector {
+  /**
+   * Weight of the latest sample in the moving averages.
+   */
+  private static final double SMOOTHING = 0.3;
+  /**
+   * How far ahead the level of a metric is projected, in seconds.
+   */
+  private static final double HORIZON_SECONDS = 5;
+  /**
+   * Samples of a metric needed before its model is trusted.
+   */
+  private static final int WARM_UP_SAMPLES = 3;
+
+  /**
+   * Moving averages of a single metric.
+   */
+  private static class Model {
+    private final Metric metric;
+    private final double onset;
+    private final double threshold;
+    private double level = Double.NaN;
+    private double slope = 0;
+    private long time = 0;
+    private int sampleCount = 0;
+
+    /**
+     * @param metric the modelled metric
+     * @param onset the level at which the metric starts to degrade
+     * @param threshold the level at which the metric is degraded, lower than the onset for
+     *                  metrics that degrade as they fall
+     */
+    Model(@NonNull final Metric metric, final double onset, final double threshold) {
+      this.metric = metric;
+      this.onset = onset;
+      this.threshold = threshold;
+    }
+
+    void update(final double value, final long time) {
+      if (Double.isNaN(value)) {
+        return;
+      }
+      if (0 == sampleCount++) {
+        level = value;
+      } else {
+        final double previousLevel = level;
+        level += SMOOTHING * (value - level);
+        final double elapsedSeconds = Math.max(time - this.time, 1) / 1000.0;
+        slope += SMOOTHING * ((level - previousLevel) / elapsedSeconds - slope);
+      }
+      this.time = time;
+    }
+
+    /**
+     * @return the degradation of the projected level, from 0 at the onset to 1 at the threshold
+     */
+    double score() {
+      if (sampleCount < WARM_UP_SAMPLES) {
+        return 0;
+      }
+      final double projected = level + slope * HORIZON_SECONDS;
+      return Math.min(Math.max((projected - onset) / (threshold - onset), 0), 1);
+    }
+  }
+
+  private final double confidenceThreshold;
+  // onsets are half of the SDK quality warning thresholds, or double them for the bitrate
+  private final Model[] models = {
+    new Model(Metric.JITTER, 15, 30),
+    new Model(Metric.RTT, 200, 400),
+    new Model(Metric.PACKET_LOSS, 1.5, 3),
+    new Model(Metric.AVAILABLE_BITRATE, 80000, 40000)
+  };
+  private double confidence = 0;
+  private boolean degrading = false;
+
+  /**
+   * Constructor for the CallDegradationDetector class.
+   * @param confidenceThreshold the confidence, between 0 and 1, at which a call is degrading
+   */
+  public CallDegradationDetector(final double confidenceThreshold) {
+    this.confidenceThreshold = confidenceThreshold;
+  }
+
+  /**
+   * Update the models with the latest sample of an aggregator.
+   * @param aggregator the quality aggregator of the call
+   * @param time the time of the sample, in the SystemClock.elapsedRealtime() time base
+   * @return true if the call started degrading with this sample
+   */
+  public boolean update(@NonNull final CallQualityAggregator aggregator, final long time) {
+    double healthy = 1;
+    for (Model model: models) {
+      model.update(aggregator.getLatest(model.metric), time);
+      healthy *= 1 - model.score();
+    }
+    confidence = 1 - healthy;
+    if (degrading) {
+      degrading = confidence >= confidenceThreshold / 2;
+      return false;
+    }
+    degrading = confidence >= confidenceThreshold;
+    return degrading;
+  }
+
+  /**
+   * Get the confidence that the call is degrading, as of the latest sample.
+   * @return the confidence, between 0 and 1
+   */
+  public double getConfidence() {
+    return confidence;
+  }
+
+  /**
+   * Get the metrics contributing to the degradation of the call, as of the latest sample.
+   * @return the degrading metrics, most degraded first
+   */
+  @NonNull
+  public List<Metric> getDegradingMetrics() {
+    final List<Model> degradingModels = new ArrayList<>();
+    for (Model model: models) {
+      if (model.score() > 0) {
+        degradingModels.add(model);
+      }
+    }
+    degradingModels.sort((lhs, rhs) -> Double.compare(rhs.score(), lhs.score()));
+    final List<Metric> degradingMetrics = new ArrayList<>();
+    for (Model model: degradingModels) {
+      degradingMetrics.add(model.metric);
+    }
+    return degradingMetrics;
+  }
+}
@@ -0,0 +1,114 @@
+package com.twiliovoicereactnative;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.twilio.voice.Call;
+import com.twilio.voice.CallException;
+import com.twiliovoicereactnative.CallRecordDatabase.CallRecord;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Fixed capacity history of completed calls. Entries are kept in a ring of primitive columns
+ * rather than one object per call, so the history costs a handful of arrays regardless of how
+ * many calls pass through it. Once full, the oldest entry is overwritten.
+ * <p>
+ * Like the call record database, the history is owned by the call state thread.
+ */
+class CallHistory {
+  private static final Call.CallQualityWarning[] QUALITY_WARNINGS =
+    Call.CallQualityWarning.values();
+
+  private final int capacity;
+  private final String[] callSids;
+  private final boolean[] outgoing;
+  private final long[] connectTimestamps;
+  private final long[] durations;
+  private final int[] errorCodes;
+  private final int[] qualityWarnings;
+  private int head = 0;
+  private int size = 0;
+
+  public CallHistory(final int capacity) {
+    this.capacity = Math.max(capacity, 0);
+    this.callSids = new String[this.capacity];
+    this.outgoing = new boolean[this.capacity];
+    this.connectTimestamps = new long[this.capacity];
+    this.durations = new long[this.capacity];
+    this.errorCodes = new int[this.capacity];
+    this.qualityWarnings = new int[this.capacity];
+  }
+
+  /**
+   * Record a call that has ended.
+   * @param callRecord the call record of the ended call
+   * @param callException the error the call ended with, if any
+   */
+  public void add(@NonNull final CallRecord callRecord, @Nullable final CallException callException) {
+    if (0 == capacity) {
+      return;
+    }
+    final long connectTimestamp =
+      (null != callRecord.getTimestamp()) ? callRecord.getTimestamp().getTime() : 0;
+    callSids[head] = callRecord.getCallSid();
+    outgoing[head] = CallRecord.Direction.OUTGOING == callRecord.getDirection();
+    connectTimestamps[head] = connectTimestamp;
+    durations[head] = (0 != connectTimestamp) ? System.currentTimeMillis() - connectTimestamp : 0;
+    errorCodes[head] = (null != callException) ? callException.getErrorCode() : 0;
+    qualityWarnings[head] = packQualityWarnings(callRecord.getCallQualityWarnings());
+    head = (head + 1) % capacity;
+    size = Math.min(size + 1, capacity);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /*
+   * Entry accessors, position 0 is the most recently completed call.
+   */
+  public String getCallSid(final int position) {
+    return callSids[index(position)];
+  }
+  public CallRecord.Direction getDirection(final int position) {
+    return outgoing[index(position)]
+      ? CallRecord.Direction.OUTGOING
+      : CallRecord.Direction.INCOMING;
+  }
+  public long getConnectTimestamp(final int position) {
+    return connectTimestamps[index(position)];
+  }
+  public long getDuration(final int position) {
+    return durations[index(position)];
+  }
+  public int getErrorCode(final int position) {
+    return errorCodes[index(position)];
+  }
+  public Set<Call.CallQualityWarning> getCallQualityWarnings(final int position) {
+    final int packed = qualityWarnings[index(position)];
+    final Set<Call.CallQualityWarning> warnings = EnumSet.noneOf(Call.CallQualityWarning.class);
+    for (Call.CallQualityWarning warning: QUALITY_WARNINGS) {
+      if (0 != (packed & (1 << warning.ordinal()))) {
+        warnings.add(warning);
+      }
+    }
+    return warnings;
+  }
+
+  private int index(final int position) {
+    if (position < 0 || position >= size) {
+      throw new IndexOutOfBoundsException("position " + position + ", size " + size);
+    }
+    return (head - 1 - position + capacity) % capacity;
+  }
+
+  private static int packQualityWarnings(@NonNull final Set<Call.CallQualityWarning> warnings) {
+    int packed = 0;
+    for (Call.CallQualityWarning warning: warnings) {
+      packed |= 1 << warning.ordinal();
+    }
+    return packed;
+  }
+}
@@ -1,7 +1,6 @@
 package com.twiliovoicereactnative;
 
 import android.os.Handler;
-import android.os.Looper;
 
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.twilio.voice.CallMessage;
@@ -12,7 +11,7 @@ import java.util.UUID;
 class CallInviteModuleProxy {
   private static final SDKLog logger = new SDKLog(CallInviteModuleProxy.class);
 
-  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  private final Handler callStateHandler = VoiceApplicationProxy.getCallStateHandler();
 
   private final ReactApplicationContext reactApplicationContext;
 
@@ -29,19 +28,20 @@ class CallInviteModuleProxy {
 
     final UUID uuid = UUID.fromString(uuidStr);
 
-    CallRecordDatabase.CallRecord callRecord = VoiceApplicationProxy
-      .getCallRecordDatabase()
-      .get(new CallRecordDatabase.CallRecord(uuid));
+    callStateHandler.post(() -> {
+      logger.debug(String.format(".getCallRecord(%s) > runnable", uuid));
 
-    if (null == callRecord || null == callRecord.getCallInvite()) {
-      final String warningMsg = this.reactApplicationContext
-        .getString(R.string.missing_callinvite_uuid, uuid);
-      promise.rejectWithName(CommonConstants.ErrorCodeInvalidArgumentError, warningMsg);
-      return;
-    }
+      final CallRecordDatabase.CallRecord callRecord = VoiceApplicationProxy
+        .getCallRecordDatabase()
+        .findByUuid(uuid);
+
+      if (null == callRecord || null == callRecord.getCallInvite()) {
+        final String warningMsg = this.reactApplicationContext
+          .getString(R.string.missing_callinvite_uuid, uuid);
+        promise.rejectWithName(CommonConstants.ErrorCodeInvalidArgumentError, warningMsg);
+        return;
+      }
 
-    mainHandler.post(() -> {
-      logger.debug(String.format(".getCallRecord(%s) > runnable", uuid));
       onSuccess.accept(callRecord);
     });
   }
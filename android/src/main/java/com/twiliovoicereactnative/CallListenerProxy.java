@@ -1,7 +1,6 @@
 package com.twiliovoicereactnative;
 
 import android.content.Context;
-import android.util.Pair;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -23,20 +22,21 @@ import static com.twiliovoicereactnative.CommonConstants.CallEventPreviousWarnin
 import static com.twiliovoicereactnative.CommonConstants.CallEventConnectFailure;
 import static com.twiliovoicereactnative.CommonConstants.CallEventQualityWarningsChanged;
 import static com.twiliovoicereactnative.Constants.JS_EVENT_KEY_CALL_INFO;
+import static com.twiliovoicereactnative.VoiceApplicationProxy.getCallHistory;
 import static com.twiliovoicereactnative.VoiceApplicationProxy.getCallRecordDatabase;
 import static com.twiliovoicereactnative.VoiceApplicationProxy.getJSEventEmitter;
 import static com.twiliovoicereactnative.VoiceApplicationProxy.getAudioSwitchManager;
 import static com.twiliovoicereactnative.VoiceApplicationProxy.getMediaPlayerManager;
 import static com.twiliovoicereactnative.VoiceApplicationProxy.getVoiceServiceApi;
-import static com.twiliovoicereactnative.JSEventEmitter.constructJSMap;
+import static com.twiliovoicereactnative.JSMapBuilder.jsMap;
 import static com.twiliovoicereactnative.ReactNativeArgumentsSerializer.*;
 
 import com.twiliovoicereactnative.CallRecordDatabase.CallRecord;
 
 import java.util.Date;
-import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 class CallListenerProxy implements Call.Listener {
   private static final SDKLog logger = new SDKLog(CallListenerProxy.class);
@@ -52,22 +52,29 @@ class CallListenerProxy implements Call.Listener {
   public void onConnectFailure(@NonNull Call call, @NonNull CallException callException) {
     debug("onConnectFailure");
 
+    // find call record & remove
+    CallRecord callRecord = getCallRecordDatabase().removeByUuid(uuid);
+    if (null == callRecord) {
+      debug("onConnectFailure: call record already removed, ignoring");
+      return;
+    }
+    callRecord.getTimeline().record(CallTimeline.Event.CONNECT_FAILURE);
+    getCallHistory().add(callRecord, callException);
+
     // stop sound and routing
     getMediaPlayerManager().stop();
-    getAudioSwitchManager().getAudioSwitch().deactivate();
-
-    // find call record & remove
-    CallRecord callRecord = Objects.requireNonNull(getCallRecordDatabase().remove(new CallRecord(uuid)));
+    getAudioSwitchManager().deactivate();
 
     // take down notification
     getVoiceServiceApi().cancelActiveCallNotification(callRecord);
 
     // serialize and notify JS
-    sendJSEvent(
-      constructJSMap(
-        new Pair<>(VoiceEventType, CallEventConnectFailure),
-        new Pair<>(JS_EVENT_KEY_CALL_INFO, serializeCall(callRecord)),
-        new Pair<>(VoiceErrorKeyError, serializeVoiceException(callException))));
+    sendJSEvent(() ->
+      jsMap()
+        .putString(VoiceEventType, CallEventConnectFailure)
+        .putMap(JS_EVENT_KEY_CALL_INFO, serializeCall(callRecord))
+        .putMap(VoiceErrorKeyError, serializeVoiceException(callException))
+        .build());
   }
 
   @Override
@@ -75,20 +82,26 @@ class CallListenerProxy implements Call.Listener {
     debug("onRinging");
 
     // find call record
-    CallRecord callRecord = Objects.requireNonNull(getCallRecordDatabase().get(new CallRecord(uuid)));
+    CallRecord callRecord = getCallRecordDatabase().findByUuid(uuid);
+    if (null == callRecord) {
+      debug("onRinging: call record already removed, ignoring");
+      return;
+    }
+    callRecord.getTimeline().record(CallTimeline.Event.RINGING);
     callRecord.setCall(call);
 
     // create notification & sound
     callRecord.setNotificationId(NotificationUtility.createNotificationIdentifier());
-    getAudioSwitchManager().getAudioSwitch().activate();
+    getAudioSwitchManager().activate(callRecord.getDirection());
     getMediaPlayerManager().play(MediaPlayerManager.SoundTable.RINGTONE);
     getVoiceServiceApi().raiseOutgoingCallNotification(callRecord);
 
     // notify JS layer
-    sendJSEvent(
-      constructJSMap(
-        new Pair<>(VoiceEventType, CallEventRinging),
-        new Pair<>(JS_EVENT_KEY_CALL_INFO, serializeCall(callRecord))));
+    sendJSEvent(() ->
+      jsMap()
+        .putString(VoiceEventType, CallEventRinging)
+        .putMap(JS_EVENT_KEY_CALL_INFO, serializeCall(callRecord))
+        .build());
   }
 
   @Override
@@ -96,16 +109,22 @@ class CallListenerProxy implements Call.Listener {
     debug("onConnected");
 
     // find call record
-    CallRecord callRecord = Objects.requireNonNull(getCallRecordDatabase().get(new CallRecord(uuid)));
+    CallRecord callRecord = getCallRecordDatabase().findByUuid(uuid);
+    if (null == callRecord) {
+      debug("onConnected: call record already removed, ignoring");
+      return;
+    }
+    callRecord.getTimeline().record(CallTimeline.Event.CONNECTED);
     callRecord.setCall(call);
     callRecord.setTimestamp(new Date());
     getMediaPlayerManager().stop();
 
     // notify JS layer
-    sendJSEvent(
-      constructJSMap(
-        new Pair<>(VoiceEventType, CallEventConnected),
-        new Pair<>(JS_EVENT_KEY_CALL_INFO, serializeCall(callRecord))));
+    sendJSEvent(() ->
+      jsMap()
+        .putString(VoiceEventType, CallEventConnected)
+        .putMap(JS_EVENT_KEY_CALL_INFO, serializeCall(callRecord))
+        .build());
   }
 
   @Override
@@ -113,14 +132,20 @@ class CallListenerProxy implements Call.Listener {
     debug("onReconnecting");
 
     // find & update call record
-    CallRecord callRecord = Objects.requireNonNull(getCallRecordDatabase().get(new CallRecord(uuid)));
+    CallRecord callRecord = getCallRecordDatabase().findByUuid(uuid);
+    if (null == callRecord) {
+      debug("onReconnecting: call record already removed, ignoring");
+      return;
+    }
+    callRecord.getTimeline().record(CallTimeline.Event.RECONNECTING);
 
     // notify JS layer
-    sendJSEvent(
-      constructJSMap(
-        new Pair<>(VoiceEventType, CallEventReconnecting),
-        new Pair<>(JS_EVENT_KEY_CALL_INFO, serializeCall(callRecord)),
-        new Pair<>(VoiceErrorKeyError, serializeVoiceException(callException))));
+    sendJSEvent(() ->
+      jsMap()
+        .putString(VoiceEventType, CallEventReconnecting)
+        .putMap(JS_EVENT_KEY_CALL_INFO, serializeCall(callRecord))
+        .putMap(VoiceErrorKeyError, serializeVoiceException(callException))
+        .build());
   }
 
   @Override
@@ -128,13 +153,19 @@ class CallListenerProxy implements Call.Listener {
     debug("onReconnected");
 
     // find & update call record
-    CallRecord callRecord = Objects.requireNonNull(getCallRecordDatabase().get(new CallRecord(uuid)));
+    CallRecord callRecord = getCallRecordDatabase().findByUuid(uuid);
+    if (null == callRecord) {
+      debug("onReconnected: call record already removed, ignoring");
+      return;
+    }
+    callRecord.getTimeline().record(CallTimeline.Event.RECONNECTED);
 
     // notify JS layer
-    sendJSEvent(
-      constructJSMap(
-        new Pair<>(VoiceEventType, CallEventReconnected),
-        new Pair<>(JS_EVENT_KEY_CALL_INFO, serializeCall(callRecord))));
+    sendJSEvent(() ->
+      jsMap()
+        .putString(VoiceEventType, CallEventReconnected)
+        .putMap(JS_EVENT_KEY_CALL_INFO, serializeCall(callRecord))
+        .build());
   }
 
   @Override
@@ -142,20 +173,27 @@ class CallListenerProxy implements Call.Listener {
     debug("onDisconnected");
 
     // find & remove call record
-    CallRecord callRecord = Objects.requireNonNull(getCallRecordDatabase().remove(new CallRecord(uuid)));
+    CallRecord callRecord = getCallRecordDatabase().removeByUuid(uuid);
+    if (null == callRecord) {
+      debug("onDisconnected: call record already removed, ignoring");
+      return;
+    }
+    callRecord.getTimeline().record(CallTimeline.Event.DISCONNECTED);
+    getCallHistory().add(callRecord, callException);
 
     // stop audio & cancel notification
     getMediaPlayerManager().stop();
     getMediaPlayerManager().play(MediaPlayerManager.SoundTable.DISCONNECT);
-    getAudioSwitchManager().getAudioSwitch().deactivate();
+    getAudioSwitchManager().deactivate();
     getVoiceServiceApi().cancelActiveCallNotification(callRecord);
 
     // notify JS layer
-    sendJSEvent(
-      constructJSMap(
-        new Pair<>(VoiceEventType, CallEventDisconnected),
-        new Pair<>(JS_EVENT_KEY_CALL_INFO, serializeCall(callRecord)),
-        new Pair<>(VoiceErrorKeyError, serializeVoiceException(callException))));
+    sendJSEvent(() ->
+      jsMap()
+        .putString(VoiceEventType, CallEventDisconnected)
+        .putMap(JS_EVENT_KEY_CALL_INFO, serializeCall(callRecord))
+        .putMap(VoiceErrorKeyError, serializeVoiceException(callException))
+        .build());
   }
 
   @Override
@@ -164,20 +202,28 @@ class CallListenerProxy implements Call.Listener {
                                            @NonNull Set<Call.CallQualityWarning> previousWarnings) {
     debug("onCallQualityWarningsChanged");
 
-    // find call record
-    CallRecord callRecord = Objects.requireNonNull(getCallRecordDatabase().get(new CallRecord(uuid)));
-
-    // notify JS layer
-    sendJSEvent(
-      constructJSMap(
-        new Pair<>(VoiceEventType, CallEventQualityWarningsChanged),
-        new Pair<>(JS_EVENT_KEY_CALL_INFO, serializeCall(callRecord)),
-        new Pair<>(CallEventCurrentWarnings, serializeCallQualityWarnings(currentWarnings)),
-        new Pair<>(CallEventPreviousWarnings, serializeCallQualityWarnings(previousWarnings))));
+    // find & update call record
+    CallRecord callRecord = getCallRecordDatabase().findByUuid(uuid);
+    if (null == callRecord) {
+      debug("onCallQualityWarningsChanged: call record already removed, ignoring");
+      return;
+    }
+    callRecord.setCallQualityWarnings(currentWarnings);
+
+    // notify JS layer, each change is delivered as the previous warnings are relative to the last
+    getJSEventEmitter().sendEvent(
+      ScopeCall,
+      JSEventEmitter.Priority.NORMAL,
+      () -> jsMap()
+        .putString(VoiceEventType, CallEventQualityWarningsChanged)
+        .putMap(JS_EVENT_KEY_CALL_INFO, serializeCall(callRecord))
+        .putArray(CallEventCurrentWarnings, serializeCallQualityWarnings(currentWarnings))
+        .putArray(CallEventPreviousWarnings, serializeCallQualityWarnings(previousWarnings))
+        .build());
   }
 
-  private void sendJSEvent(@NonNull WritableMap event) {
-    getJSEventEmitter().sendEvent(ScopeCall, event);
+  private void sendJSEvent(@NonNull Supplier<WritableMap> event) {
+    getJSEventEmitter().sendEvent(ScopeCall, JSEventEmitter.Priority.CRITICAL, event);
   }
 
   private void debug(final String message) {
@@ -12,15 +12,14 @@ import static com.twiliovoicereactnative.CommonConstants.VoiceEventSid;
 import static com.twiliovoicereactnative.CommonConstants.VoiceEventType;
 import static com.twiliovoicereactnative.CommonConstants.JSEventKeyCallMessageInfo;
 import static com.twiliovoicereactnative.Constants.JS_EVENT_KEY_CALL_INFO;
-import static com.twiliovoicereactnative.JSEventEmitter.constructJSMap;
+import static com.twiliovoicereactnative.JSMapBuilder.jsMap;
 import static com.twiliovoicereactnative.ReactNativeArgumentsSerializer.serializeCall;
 import static com.twiliovoicereactnative.ReactNativeArgumentsSerializer.serializeCallMessage;
 import static com.twiliovoicereactnative.ReactNativeArgumentsSerializer.serializeVoiceException;
 import static com.twiliovoicereactnative.VoiceApplicationProxy.getCallRecordDatabase;
+import static com.twiliovoicereactnative.VoiceApplicationProxy.getCallStateHandler;
 import static com.twiliovoicereactnative.VoiceApplicationProxy.getJSEventEmitter;
 
-import android.util.Pair;
-
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
@@ -33,6 +32,7 @@ import com.twilio.voice.VoiceException;
 import com.twiliovoicereactnative.CallRecordDatabase.CallRecord;
 
 import java.util.Objects;
+import java.util.function.Supplier;
 
 
 public class CallMessageListenerProxy implements Call.CallMessageListener {
@@ -43,12 +43,12 @@ public class CallMessageListenerProxy implements Call.CallMessageListener {
     logger.debug("onMessageFailure");
 
     // notify JS layer
-    sendJSEvent(
-      constructJSMap(
-        new Pair<>(VoiceEventType, CallEventMessageFailure),
-        new Pair<>(VoiceEventSid, voiceEventSID),
-        new Pair<>(VoiceErrorKeyError, serializeVoiceException(voiceException))
-      )
+    sendJSEvent(() ->
+      jsMap()
+        .putString(VoiceEventType, CallEventMessageFailure)
+        .putString(VoiceEventSid, voiceEventSID)
+        .putMap(VoiceErrorKeyError, serializeVoiceException(voiceException))
+        .build()
     );
   }
 
@@ -57,47 +57,49 @@ public class CallMessageListenerProxy implements Call.CallMessageListener {
     logger.debug("onMessageSent");
 
     // notify JS layer
-    sendJSEvent(
-      constructJSMap(
-        new Pair<>(VoiceEventType, CallEventMessageSent),
-        new Pair<>(VoiceEventSid, voiceEventSID)
-    ));
+    sendJSEvent(() ->
+      jsMap()
+        .putString(VoiceEventType, CallEventMessageSent)
+        .putString(VoiceEventSid, voiceEventSID)
+        .build());
   }
 
   @Override
   public void onMessageReceived(String callSid, CallMessage callMessage) {
     logger.debug("onMessageReceived");
 
-    //final call record
-    final CallRecord callRecord =
-      Objects.requireNonNull(getCallRecordDatabase().get(new CallRecord(callSid)));
-
-    // notify JS layer ScopeCallInvite or ScopeCall
-    final String event =
-      CallRecord.CallInviteState.ACTIVE == callRecord.getCallInviteState()
-        ? ScopeCallInvite
-        : ScopeCall;
-    final WritableMap serializedCallMap =
-      CallRecord.CallInviteState.ACTIVE == callRecord.getCallInviteState()
-        ? null
-        : serializeCall(callRecord);
-    final @Nullable String optionalCallSid =
-      CallRecord.CallInviteState.ACTIVE == callRecord.getCallInviteState()
-        ? callSid
-        : null;
-
-    getJSEventEmitter().sendEvent(
-      event,
-      constructJSMap(
-        new Pair<>(VoiceEventType, CallEventMessageReceived),
-        new Pair<>(JS_EVENT_KEY_CALL_INFO, serializedCallMap),
-        new Pair<>(JSEventKeyCallMessageInfo, serializeCallMessage(callMessage)),
-        new Pair<>(CallInviteEventKeyCallSid, optionalCallSid)
-      )
-    );
+    // call records are owned by the call state thread
+    getCallStateHandler().post(() -> {
+      //final call record
+      final CallRecord callRecord =
+        Objects.requireNonNull(getCallRecordDatabase().findBySid(callSid));
+
+      // notify JS layer ScopeCallInvite or ScopeCall
+      final String event =
+        CallRecord.CallInviteState.ACTIVE == callRecord.getCallInviteState()
+          ? ScopeCallInvite
+          : ScopeCall;
+      final @Nullable String optionalCallSid =
+        CallRecord.CallInviteState.ACTIVE == callRecord.getCallInviteState()
+          ? callSid
+          : null;
+
+      getJSEventEmitter().sendEvent(
+        event,
+        () -> jsMap()
+          .putString(VoiceEventType, CallEventMessageReceived)
+          .putMap(JS_EVENT_KEY_CALL_INFO,
+            (CallRecord.CallInviteState.ACTIVE == callRecord.getCallInviteState())
+              ? null
+              : serializeCall(callRecord))
+          .putMap(JSEventKeyCallMessageInfo, serializeCallMessage(callMessage))
+          .putString(CallInviteEventKeyCallSid, optionalCallSid)
+          .build()
+      );
+    });
   }
 
-  private void sendJSEvent(@NonNull WritableMap event) {
+  private void sendJSEvent(@NonNull Supplier<WritableMap> event) {
     getJSEventEmitter().sendEvent(ScopeCallMessage, event);
   }
 }
@@ -1,13 +1,13 @@
 package com.twiliovoicereactnative;
 
 import android.os.Handler;
-import android.os.Looper;
 
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.twilio.voice.Call;
 import com.twilio.voice.CallMessage;
 
 import java.util.function.Consumer;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -59,7 +59,7 @@ class CallModuleProxy {
 
   private final SDKLog logger = new SDKLog(CallModuleProxy.class);
 
-  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  private final Handler callStateHandler = VoiceApplicationProxy.getCallStateHandler();
 
   private final ReactApplicationContext reactApplicationContext;
 
@@ -76,19 +76,20 @@ class CallModuleProxy {
 
     final UUID uuid = UUID.fromString(uuidStr);
 
-    final CallRecordDatabase.CallRecord callRecord = VoiceApplicationProxy
-      .getCallRecordDatabase()
-      .get(new CallRecordDatabase.CallRecord(uuid));
+    callStateHandler.post(() -> {
+      logger.debug(".getCallRecord() > runnable");
 
-    if (null == callRecord || null == callRecord.getVoiceCall()) {
-      final String warningMsg = this.reactApplicationContext
-        .getString(R.string.missing_call_uuid, uuid);
-      promise.rejectWithName(CommonConstants.ErrorCodeInvalidArgumentError, warningMsg);
-      return;
-    }
+      final CallRecordDatabase.CallRecord callRecord = VoiceApplicationProxy
+        .getCallRecordDatabase()
+        .findByUuid(uuid);
+
+      if (null == callRecord || null == callRecord.getVoiceCall()) {
+        final String warningMsg = this.reactApplicationContext
+          .getString(R.string.missing_call_uuid, uuid);
+        promise.rejectWithName(CommonConstants.ErrorCodeInvalidArgumentError, warningMsg);
+        return;
+      }
 
-    mainHandler.post(() -> {
-      logger.debug(".getCallRecord() > runnable");
       onSuccess.accept(callRecord);
     });
   }
@@ -187,13 +188,100 @@ class CallModuleProxy {
     });
   }
 
-  public void getStats(String uuid, ModuleProxy.UniversalPromise promise) {
+  public void getStats(String uuid, List<String> fields, ModuleProxy.UniversalPromise promise) {
     logger.debug(".getStats()");
 
+    final StatsProjection projection = StatsProjection.parse(fields);
+
     getCallRecord(uuid, promise, (callRecord) -> {
       callRecord
         .getVoiceCall()
-        .getStats(new StatsListenerProxy(promise));
+        .getStats(new StatsListenerProxy(promise, projection));
+    });
+  }
+
+  public void startStatsStream(
+    String uuid,
+    int intervalMs,
+    List<String> fields,
+    boolean delta,
+    ModuleProxy.UniversalPromise promise
+  ) {
+    logger.debug(".startStatsStream()");
+
+    if (intervalMs <= 0) {
+      promise.rejectWithName(
+        CommonConstants.ErrorCodeInvalidArgumentError,
+        "Stats stream interval must be a positive number of milliseconds."
+      );
+      return;
+    }
+
+    getCallRecord(uuid, promise, (callRecord) -> {
+      VoiceApplicationProxy.getCallStatsStreamer().start(
+        callRecord.getUuid(),
+        intervalMs,
+        StatsProjection.parse(fields),
+        delta);
+      promise.resolve(null);
+    });
+  }
+
+  public void stopStatsStream(String uuid, ModuleProxy.UniversalPromise promise) {
+    logger.debug(".stopStatsStream()");
+
+    final UUID callUuid = UUID.fromString(uuid);
+
+    // the stream may already have stopped with its call, so stopping never fails
+    callStateHandler.post(() -> {
+      VoiceApplicationProxy.getCallStatsStreamer().stop(callUuid);
+      promise.resolve(null);
+    });
+  }
+
+  public void requestStatsReport(String uuid, ModuleProxy.UniversalPromise promise) {
+    logger.debug(".requestStatsReport()");
+
+    final UUID callUuid = UUID.fromString(uuid);
+
+    // the stream may already have stopped with its call, so requesting never fails
+    callStateHandler.post(() -> {
+      VoiceApplicationProxy.getCallStatsStreamer().requestFullReport(callUuid);
+      promise.resolve(null);
+    });
+  }
+
+  public void getTimeline(String uuid, ModuleProxy.UniversalPromise promise) {
+    logger.debug(".getTimeline()");
+
+    final UUID callUuid = UUID.fromString(uuid);
+
+    // the timeline outlives the call record, so ended calls can still be inspected
+    callStateHandler.post(() -> {
+      final CallTimeline timeline = VoiceApplicationProxy
+        .getCallRecordDatabase()
+        .findTimelineByUuid(callUuid);
+
+      if (null == timeline) {
+        final String warningMsg = this.reactApplicationContext
+          .getString(R.string.missing_call_uuid, callUuid);
+        promise.rejectWithName(CommonConstants.ErrorCodeInvalidArgumentError, warningMsg);
+        return;
+      }
+
+      promise.resolve(ReactNativeArgumentsSerializer.serializeCallTimeline(timeline));
+    });
+  }
+
+  public void getQualitySummary(String uuid, ModuleProxy.UniversalPromise promise) {
+    logger.debug(".getQualitySummary()");
+
+    getCallRecord(uuid, promise, (callRecord) -> {
+      final CallQualitySampler sampler = VoiceApplicationProxy.getCallQualitySampler();
+      promise.resolve(ReactNativeArgumentsSerializer.serializeCallQualitySummary(
+        sampler.getAggregator(callRecord.getUuid()),
+        sampler.getShortWindow(),
+        sampler.getLongWindow()));
     });
   }
 
@@ -0,0 +1,269 @@
+package com.twiliovoicereactnative;
+
+import androidx.annotation.NonNull;
+
+import com.twilio.voice.IceCandidatePairStats;
+import com.twilio.voice.LocalAudioTrackStats;
+import com.twilio.voice.RemoteAudioTrackStats;
+import com.twilio.voice.StatsReport;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sliding window of the quality metrics of a single call, derived from periodic stats samples.
+ * Each sample is reduced to one value per metric and stored in fixed capacity primitive ring
+ * buffers, so recording a sample allocates nothing. Once full, the oldest sample is overwritten.
+ * Percentiles & trends are only computed when a summary is requested.
+ * <p>
+ * A metric that cannot be derived from a sample, such as packet loss before any packet has been
+ * received, is recorded as missing and left out of its summaries.
+ * <p>
+ * Like the call record it belongs to, the aggregator is owned by the call state thread.
+ */
+class CallQualityAggregator {
+  /**
+   * Quality metrics aggregated for a call.
+   */
+  public enum Metric {
+    /**
+     * Highest jitter of the local & remote audio tracks, in milliseconds.
+     */
+    JITTER,
+    /**
+     * Round trip time of the local audio track, or of the active ICE candidate pair until the
+     * track reports one, in milliseconds.
+     */
+    RTT,
+    /**
+     * Share of the remote audio packets lost since the previous sample, in percent.
+     */
+    PACKET_LOSS,
+    /**
+     * Lowest MOS of the remote audio tracks.
+     */
+    MOS,
+    /**
+     * Available outgoing bitrate of the active ICE candidate pair, in bits per second.
+     */
+    AVAILABLE_BITRATE
+  }
+
+  /**
+   * Summary of a metric over a window.
+   */
+  public static class MetricSummary {
+    private final int sampleCount;
+    private final double p50;
+    private final double p95;
+    private final double max;
+    private final double trend;
+
+    private MetricSummary(final int sampleCount,
+                          final double p50,
+                          final double p95,
+                          final double max,
+                          final double trend) {
+      this.sampleCount = sampleCount;
+      this.p50 = p50;
+      this.p95 = p95;
+      this.max = max;
+      this.trend = trend;
+    }
+
+    public int getSampleCount() {
+      return sampleCount;
+    }
+    /*
+     * Statistics, NaN when there are no samples.
+     */
+    public double getP50() {
+      return p50;
+    }
+    public double getP95() {
+      return p95;
+    }
+    public double getMax() {
+      return max;
+    }
+    /**
+     * Get the least squares slope of the metric over the window.
+     * @return the change of the metric per second, NaN with fewer than two samples
+     */
+    public double getTrend() {
+      return trend;
+    }
+  }
+
+  private static final Metric[] METRICS = Metric.values();
+
+  private final int capacity;
+  private final long[] times;
+  private final double[][] values;
+  private int head = 0;
+  private int size = 0;
+  private long previousPacketsLost = -1;
+  private long previousPacketsReceived = -1;
+  /**
+   * Whether a stats sample of the call is being gathered.
+   */
+  boolean sampling = false;
+
+  /**
+   * Constructor for the CallQualityAggregator class.
+   * @param capacity the number of samples retained
+   */
+  public CallQualityAggregator(final int capacity) {
+    this.capacity = Math.max(capacity, 1);
+    this.times = new long[this.capacity];
+    this.values = new double[METRICS.length][this.capacity];
+  }
+
+  /**
+   * Record a stats sample.
+   * @param statsReports the stats reports of the call
+   * @param time the time of the sample, in the SystemClock.elapsedRealtime() time base
+   */
+  public void record(@NonNull final List<StatsReport> statsReports, final long time) {
+    double jitter = Double.NaN;
+    double trackRtt = Double.NaN;
+    double candidatePairRtt = Double.NaN;
+    double mos = Double.NaN;
+    double availableBitrate = Double.NaN;
+    long packetsLost = 0;
+    long packetsReceived = 0;
+    boolean hasRemoteTrack = false;
+    for (StatsReport statsReport: statsReports) {
+      for (LocalAudioTrackStats trackStats: statsReport.getLocalAudioTrackStats()) {
+        jitter = max(jitter, trackStats.jitter);
+        if (trackStats.roundTripTime > 0) {
+          trackRtt = max(trackRtt, trackStats.roundTripTime);
+        }
+      }
+      for (RemoteAudioTrackStats trackStats: statsReport.getRemoteAudioTrackStats()) {
+        hasRemoteTrack = true;
+        jitter = max(jitter, trackStats.jitter);
+        if (trackStats.mos > 0) {
+          mos = Double.isNaN(mos) ? trackStats.mos : Math.min(mos, trackStats.mos);
+        }
+        packetsLost += trackStats.packetsLost;
+        packetsReceived += trackStats.packetsReceived;
+      }
+      for (IceCandidatePairStats candidatePairStats: statsReport.getIceCandidatePairStats()) {
+        if (!candidatePairStats.activeCandidatePair) {
+          continue;
+        }
+        if (candidatePairStats.currentRoundTripTime > 0) {
+          candidatePairRtt = 1000 * candidatePairStats.currentRoundTripTime;
+        }
+        if (candidatePairStats.availableOutgoingBitrate > 0) {
+          availableBitrate = candidatePairStats.availableOutgoingBitrate;
+        }
+      }
+    }
+
+    times[head] = time;
+    values[Metric.JITTER.ordinal()][head] = jitter;
+    values[Metric.RTT.ordinal()][head] = Double.isNaN(trackRtt) ? candidatePairRtt : trackRtt;
+    values[Metric.PACKET_LOSS.ordinal()][head] = hasRemoteTrack
+      ? packetLoss(packetsLost, packetsReceived)
+      : Double.NaN;
+    values[Metric.MOS.ordinal()][head] = mos;
+    values[Metric.AVAILABLE_BITRATE.ordinal()][head] = availableBitrate;
+    head = (head + 1) % capacity;
+    size = Math.min(size + 1, capacity);
+
+    previousPacketsLost = hasRemoteTrack ? packetsLost : -1;
+    previousPacketsReceived = hasRemoteTrack ? packetsReceived : -1;
+  }
+
+  /**
+   * Get the value of a metric in the most recent sample.
+   * @param metric the metric
+   * @return the value, NaN if there are no samples or the metric is missing from the latest one
+   */
+  public double getLatest(@NonNull final Metric metric) {
+    return (0 == size) ? Double.NaN : values[metric.ordinal()][(head - 1 + capacity) % capacity];
+  }
+
+  /**
+   * Summarize a metric over the most recent samples.
+   * @param metric the metric
+   * @param windowMs the duration of the window, in milliseconds
+   * @param now the end of the window, in the SystemClock.elapsedRealtime() time base
+   * @return the summary of the metric over the samples taken within the window
+   */
+  @NonNull
+  public MetricSummary summarize(@NonNull final Metric metric, final long windowMs, final long now) {
+    final double[] metricValues = values[metric.ordinal()];
+    final double[] windowValues = new double[size];
+    final double[] windowTimes = new double[size];
+    int count = 0;
+    for (int position = 0; position < size; ++position) {
+      final int index = (head - size + position + capacity) % capacity;
+      if ((now - times[index]) <= windowMs && !Double.isNaN(metricValues[index])) {
+        windowValues[count] = metricValues[index];
+        windowTimes[count] = (times[index] - now) / 1000.0;
+        ++count;
+      }
+    }
+    if (0 == count) {
+      return new MetricSummary(0, Double.NaN, Double.NaN, Double.NaN, Double.NaN);
+    }
+    final double trend = trend(windowTimes, windowValues, count);
+    Arrays.sort(windowValues, 0, count);
+    return new MetricSummary(
+      count,
+      percentile(windowValues, count, 0.5),
+      percentile(windowValues, count, 0.95),
+      windowValues[count - 1],
+      trend);
+  }
+
+  private double packetLoss(final long packetsLost, final long packetsReceived) {
+    if (previousPacketsLost < 0) {
+      return Double.NaN;
+    }
+    final long lost = Math.max(packetsLost - previousPacketsLost, 0);
+    final long received = Math.max(packetsReceived - previousPacketsReceived, 0);
+    return (lost + received > 0) ? (100.0 * lost) / (lost + received) : Double.NaN;
+  }
+
+  private static double max(final double current, final double value) {
+    return Double.isNaN(current) ? value : Math.max(current, value);
+  }
+
+  /**
+   * Nearest rank percentile of sorted values.
+   */
+  private static double percentile(final double[] sortedValues,
+                                   final int count,
+                                   final double percentile) {
+    final int rank = (int) Math.ceil(percentile * count);
+    return sortedValues[Math.max(rank - 1, 0)];
+  }
+
+  /**
+   * Least squares slope of values over times.
+   */
+  private static double trend(final double[] times, final double[] values, final int count) {
+    if (count < 2) {
+      return Double.NaN;
+    }
+    double meanTime = 0;
+    double meanValue = 0;
+    for (int i = 0; i < count; ++i) {
+      meanTime += times[i];
+      meanValue += values[i];
+    }
+    meanTime /= count;
+    meanValue /= count;
+    double covariance = 0;
+    double variance = 0;
+    for (int i = 0; i < count; ++i) {
+      covariance += (times[i] - meanTime) * (values[i] - meanValue);
+      variance += (times[i] - meanTime) * (times[i] - meanTime);
+    }
+    return (variance > 0) ? covariance / variance : Double.NaN;
+  }
+}
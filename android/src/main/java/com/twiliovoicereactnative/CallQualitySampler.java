@@ -0,0 +1,162 @@
+package com.twiliovoicereactnative;
+
+import static com.twiliovoicereactnative.CommonConstants.CallEventQualityDegrading;
+import static com.twiliovoicereactnative.CommonConstants.CallEventQualityDegradingConfidence;
+import static com.twiliovoicereactnative.CommonConstants.CallEventQualityDegradingMetrics;
+import static com.twiliovoicereactnative.CommonConstants.CallInfoUuid;
+import static com.twiliovoicereactnative.CommonConstants.ScopeCall;
+import static com.twiliovoicereactnative.CommonConstants.VoiceEventType;
+import static com.twiliovoicereactnative.Constants.JS_EVENT_KEY_CALL_INFO;
+import static com.twiliovoicereactnative.JSMapBuilder.jsMap;
+import static com.twiliovoicereactnative.ReactNativeArgumentsSerializer.serializeCallQualityDegradingMetrics;
+import static com.twiliovoicereactnative.VoiceApplicationProxy.getJSEventEmitter;
+
+import android.os.Handler;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.twilio.voice.Call;
+import com.twiliovoicereactnative.CallRecordDatabase.CallRecord;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Periodically samples the stats of connected calls into a {@link CallQualityAggregator} per call,
+ * so quality summaries are computed natively instead of from raw stats on the JS thread.
+ * <p>
+ * Aggregators retain enough samples to cover the long window, and are discarded with their call
+ * record. A call is not sampled while its previous sample is still being gathered. Sampling only
+ * runs while the database holds records, and is disabled by a sample interval of zero, which is the
+ * default, so applications that do not use quality summaries do not pay for the sampling.
+ * <p>
+ * Each sample also feeds a {@link CallDegradationDetector} per call, and the JS layer is notified
+ * when a call starts degrading. Detection is disabled by a confidence threshold of zero, which is
+ * the default, and needs sampling to be enabled as well.
+ */
+class CallQualitySampler implements CallRecordDatabase.Observer {
+  private final CallRecordDatabase callRecordDatabase;
+  private final Handler callStateHandler;
+  private final long sampleIntervalMs;
+  private final long shortWindowMs;
+  private final long longWindowMs;
+  private final double degradingConfidence;
+  private final Map<UUID, CallQualityAggregator> aggregators = new HashMap<>();
+  private final Map<UUID, CallDegradationDetector> detectors = new HashMap<>();
+  private final Runnable sampleRunnable = this::sample;
+  private boolean sampleScheduled = false;
+
+  public CallQualitySampler(@NonNull final CallRecordDatabase callRecordDatabase,
+                            @NonNull final Handler callStateHandler,
+                            final long sampleIntervalMs,
+                            final long shortWindowMs,
+                            final long longWindowMs,
+                            final double degradingConfidence) {
+    this.callRecordDatabase = callRecordDatabase;
+    this.callStateHandler = callStateHandler;
+    this.sampleIntervalMs = sampleIntervalMs;
+    this.shortWindowMs = shortWindowMs;
+    this.longWindowMs = Math.max(longWindowMs, shortWindowMs);
+    this.degradingConfidence = degradingConfidence;
+  }
+
+  public long getShortWindow() {
+    return shortWindowMs;
+  }
+
+  public long getLongWindow() {
+    return longWindowMs;
+  }
+
+  /**
+   * Get the quality aggregator of a call. Must be invoked on the call state thread.
+   * @param uuid the UUID of the call
+   * @return the aggregator, null if the call has not been sampled
+   */
+  @Nullable
+  public CallQualityAggregator getAggregator(@NonNull final UUID uuid) {
+    return aggregators.get(uuid);
+  }
+
+  @Override
+  public void onCallRecordAdded(@NonNull CallRecord callRecord) {
+    scheduleSample();
+  }
+
+  @Override
+  public void onCallRecordUpdated(@NonNull CallRecord callRecord) {}
+
+  @Override
+  public void onCallRecordRemoved(@NonNull CallRecord callRecord) {
+    aggregators.remove(callRecord.getUuid());
+    detectors.remove(callRecord.getUuid());
+  }
+
+  private void scheduleSample() {
+    if (!sampleScheduled && sampleIntervalMs > 0) {
+      sampleScheduled = callStateHandler.postDelayed(sampleRunnable, sampleIntervalMs);
+    }
+  }
+
+  private void sample() {
+    sampleScheduled = false;
+    for (CallRecord callRecord: callRecordDatabase.getSnapshot().getCallRecords()) {
+      final Call call = callRecord.getVoiceCall();
+      if (null == call || Call.State.CONNECTED != call.getState()) {
+        continue;
+      }
+      final UUID uuid = callRecord.getUuid();
+      CallQualityAggregator aggregator = aggregators.get(uuid);
+      if (null == aggregator) {
+        aggregator = new CallQualityAggregator((int) (longWindowMs / sampleIntervalMs) + 1);
+        aggregators.put(uuid, aggregator);
+        if (degradingConfidence > 0) {
+          detectors.put(uuid, new CallDegradationDetector(degradingConfidence));
+        }
+      }
+      if (aggregator.sampling) {
+        continue;
+      }
+      aggregator.sampling = true;
+      final CallQualityAggregator sampledAggregator = aggregator;
+      call.getStats(statsReports -> {
+        sampledAggregator.sampling = false;
+        // the call record may have been removed while the sample was gathered
+        if (sampledAggregator == aggregators.get(uuid)) {
+          final long time = SystemClock.elapsedRealtime();
+          sampledAggregator.record(statsReports, time);
+          detect(uuid, sampledAggregator, time);
+        }
+      });
+    }
+    if (!callRecordDatabase.getSnapshot().getCallRecords().isEmpty()) {
+      scheduleSample();
+    }
+  }
+
+  private void detect(@NonNull final UUID uuid,
+                      @NonNull final CallQualityAggregator aggregator,
+                      final long time) {
+    final CallDegradationDetector detector = detectors.get(uuid);
+    if (null == detector || !detector.update(aggregator, time)) {
+      return;
+    }
+    final double confidence = detector.getConfidence();
+    final List<CallQualityAggregator.Metric> metrics = detector.getDegradingMetrics();
+    getJSEventEmitter().sendEvent(
+      ScopeCall,
+      JSEventEmitter.Priority.NORMAL,
+      () -> jsMap()
+        .putString(VoiceEventType, CallEventQualityDegrading)
+        .putMap(JS_EVENT_KEY_CALL_INFO, jsMap()
+          .putString(CallInfoUuid, uuid.toString())
+          .build())
+        .putDouble(CallEventQualityDegradingConfidence, confidence)
+        .putArray(CallEventQualityDegradingMetrics, serializeCallQualityDegradingMetrics(metrics))
+        .build());
+  }
+}
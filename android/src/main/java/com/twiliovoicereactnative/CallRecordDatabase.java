@@ -4,11 +4,16 @@ import static com.twiliovoicereactnative.CallRecordDatabase.CallRecord.CallInvit
 import static com.twiliovoicereactnative.CallRecordDatabase.CallRecord.CallInviteState.NONE;
 import static com.twiliovoicereactnative.CallRecordDatabase.CallRecord.CallInviteState.USED;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
-import java.util.Vector;
 import java.util.Map;
 
 import androidx.annotation.NonNull;
@@ -23,6 +28,8 @@ class CallRecordDatabase  {
     public enum CallInviteState { NONE, ACTIVE, USED }
     public enum Direction { INCOMING, OUTGOING }
     private final UUID uuid;
+    private final CallTimeline timeline = new CallTimeline();
+    private final long creationTime = timeline.getOrigin();
     private String callSid = null;
     private Date timestamp = null;
     private int notificationId = -1;
@@ -37,13 +44,9 @@ class CallRecordDatabase  {
     private Map<String, String> customParameters = null;
     private String notificationDisplayName = null;
     private Direction direction = Direction.INCOMING;
-    public CallRecord(final UUID uuid) {
-      this.uuid = uuid;
-    }
-    public CallRecord(final String callSid) {
-      this.uuid = null;
-      this.callSid = callSid;
-    }
+    private Set<Call.CallQualityWarning> callQualityWarnings = Collections.emptySet();
+    private ReactNativeArgumentsSerializer.CachedCallInfo cachedCallInfo = null;
+    private CallRecordDatabase database = null;
     public CallRecord(final UUID uuid, final CallInvite callInvite) {
       this.uuid = uuid;
       this.callSid = callInvite.getCallSid();
@@ -72,6 +75,12 @@ class CallRecordDatabase  {
     public String getCallSid() {
       return callSid;
     }
+    public long getCreationTime() {
+      return creationTime;
+    }
+    public CallTimeline getTimeline() {
+      return timeline;
+    }
     public int getNotificationId() {
       return notificationId;
     }
@@ -114,26 +123,39 @@ class CallRecordDatabase  {
     public String getCallRecipient() {
       return this.callRecipient;
     }
+    public Set<Call.CallQualityWarning> getCallQualityWarnings() {
+      return this.callQualityWarnings;
+    }
+    ReactNativeArgumentsSerializer.CachedCallInfo getCachedCallInfo() {
+      return this.cachedCallInfo;
+    }
     public void setNotificationId(int notificationId) {
       this.notificationId = notificationId;
+      onUpdated(this.callSid);
     }
     public void setTimestamp(Date timestamp) {
       this.timestamp = timestamp;
+      onUpdated(this.callSid);
     }
     public void setCall(@NonNull Call voiceCall) {
+      final String previousCallSid = this.callSid;
       this.callSid = voiceCall.getSid();
       this.voiceCall = voiceCall;
+      onUpdated(previousCallSid);
     }
     public void setCallInviteUsedState() {
       this.callInviteState = this.callInviteState == ACTIVE
         ? USED
         : this.callInviteState;
+      onUpdated(this.callSid);
     }
     public void setCancelledCallInvite(@NonNull CancelledCallInvite cancelledCallInvite) {
+      final String previousCallSid = this.callSid;
       this.callSid = cancelledCallInvite.getCallSid();
       this.cancelledCallInvite = cancelledCallInvite;
       this.callInvite = null;
       this.callInviteState = NONE;
+      onUpdated(previousCallSid);
     }
     public void setCallAcceptedPromise(@NonNull ModuleProxy.UniversalPromise callAcceptedPromise) {
       this.callAcceptedPromise = callAcceptedPromise;
@@ -144,43 +166,164 @@ class CallRecordDatabase  {
     public void setCallException(CallException callException) {
       this.callException = callException;
     }
-    @Override
-    public boolean equals(Object obj) {
-      return (obj instanceof CallRecord) && comparator(this, (CallRecord)obj);
+    void setCachedCallInfo(ReactNativeArgumentsSerializer.CachedCallInfo cachedCallInfo) {
+      this.cachedCallInfo = cachedCallInfo;
     }
+    public void setCallQualityWarnings(@NonNull Set<Call.CallQualityWarning> callQualityWarnings) {
+      this.callQualityWarnings = Collections.unmodifiableSet(new HashSet<>(callQualityWarnings));
+    }
+    private void onUpdated(final String previousCallSid) {
+      final CallRecordDatabase owner = this.database;
+      if (null != owner) {
+        owner.onRecordUpdated(this, previousCallSid);
+      }
+    }
+  }
+  /**
+   * An immutable, versioned view of the call records. Readers may traverse a snapshot from any
+   * thread without locking; the version is bumped whenever a record is added, removed or updated.
+   */
+  public static class Snapshot {
+    private final long version;
+    private final List<CallRecord> callRecords;
+    private Snapshot(final long version, @NonNull final List<CallRecord> callRecords) {
+      this.version = version;
+      this.callRecords = callRecords;
+    }
+    public long getVersion() {
+      return version;
+    }
+    public List<CallRecord> getCallRecords() {
+      return callRecords;
+    }
+  }
+  /**
+   * Observer of call record lifecycle changes. Observers are invoked on the call state thread,
+   * after the indexes & snapshot have been updated.
+   */
+  interface Observer {
+    void onCallRecordAdded(@NonNull CallRecord callRecord);
+    void onCallRecordUpdated(@NonNull CallRecord callRecord);
+    void onCallRecordRemoved(@NonNull CallRecord callRecord);
+  }
+  /**
+   * Primary indexes. The indexes are confined to the call state thread (see
+   * {@link VoiceApplicationProxy#getCallStateHandler()}), which is the only thread that looks up
+   * or mutates call records, so no locking is required.
+   */
+  private final Map<UUID, CallRecord> uuidIndex = new HashMap<>();
+  private final Map<String, CallRecord> callSidIndex = new HashMap<>();
+  /**
+   * Copy-on-write snapshot, republished by the call state thread on every mutation. This is the
+   * only part of the database that may be read from other threads.
+   */
+  private volatile Snapshot snapshot = new Snapshot(0, Collections.emptyList());
+  private final List<Observer> observers = new ArrayList<>();
+  /**
+   * Timelines of the most recently removed records, so the lifecycle of a call can still be read
+   * once it has ended.
+   */
+  private static final int ENDED_TIMELINES_CAPACITY = 8;
+  private final Map<UUID, CallTimeline> endedTimelines =
+    new LinkedHashMap<UUID, CallTimeline>() {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<UUID, CallTimeline> eldest) {
+        return size() > ENDED_TIMELINES_CAPACITY;
+      }
+    };
+
+  public void addObserver(@NonNull final Observer observer) {
+    observers.add(observer);
   }
-  private final List<CallRecord> callRecordList = new Vector<>();
 
   public void add(final CallRecord callRecord) {
-    callRecordList.add(callRecord);
+    callRecord.database = this;
+    uuidIndex.put(callRecord.uuid, callRecord);
+    if (null != callRecord.callSid) {
+      callSidIndex.put(callRecord.callSid, callRecord);
+    }
+    final List<CallRecord> callRecords = new ArrayList<>(snapshot.callRecords);
+    callRecords.add(callRecord);
+    publishSnapshot(callRecords);
+    for (Observer observer: observers) {
+      observer.onCallRecordAdded(callRecord);
+    }
   }
   public void clear() {
-    callRecordList.clear();
+    final List<CallRecord> callRecords = snapshot.callRecords;
+    for (CallRecord callRecord: callRecords) {
+      callRecord.database = null;
+    }
+    uuidIndex.clear();
+    callSidIndex.clear();
+    publishSnapshot(Collections.emptyList());
+    for (CallRecord callRecord: callRecords) {
+      for (Observer observer: observers) {
+        observer.onCallRecordRemoved(callRecord);
+      }
+    }
   }
 
-  public CallRecord get(final CallRecord record) {
-    try {
-      return callRecordList.get(callRecordList.indexOf(record));
-    } catch (IndexOutOfBoundsException e) {
-      return null;
+  public CallRecord findByUuid(final UUID uuid) {
+    return (null != uuid) ? uuidIndex.get(uuid) : null;
+  }
+  public CallRecord findBySid(final String callSid) {
+    return (null != callSid) ? callSidIndex.get(callSid) : null;
+  }
+  public CallTimeline findTimelineByUuid(final UUID uuid) {
+    final CallRecord callRecord = findByUuid(uuid);
+    if (null != callRecord) {
+      return callRecord.timeline;
     }
+    return (null != uuid) ? endedTimelines.get(uuid) : null;
   }
-  public CallRecord remove(final CallRecord record) {
-    try {
-      return callRecordList.remove(callRecordList.indexOf(record));
-    } catch (IndexOutOfBoundsException e) {
-      return null;
+  public CallRecord removeByUuid(final UUID uuid) {
+    final CallRecord callRecord = findByUuid(uuid);
+    if (null != callRecord) {
+      uuidIndex.remove(callRecord.uuid, callRecord);
+      if (null != callRecord.callSid) {
+        callSidIndex.remove(callRecord.callSid, callRecord);
+      }
+      callRecord.database = null;
+      endedTimelines.put(callRecord.uuid, callRecord.timeline);
+      final List<CallRecord> callRecords = new ArrayList<>(snapshot.callRecords);
+      callRecords.remove(callRecord);
+      publishSnapshot(callRecords);
+      for (Observer observer: observers) {
+        observer.onCallRecordRemoved(callRecord);
+      }
     }
+    return callRecord;
   }
-  public Collection<CallRecord> getCollection() {
-    return callRecordList;
+  public Snapshot getSnapshot() {
+    return snapshot;
   }
-  private static boolean comparator(@NonNull final CallRecord lhs, @NonNull final CallRecord rhs) {
-    if (null != lhs.uuid && null != rhs.uuid) {
-      return lhs.uuid.equals(rhs.uuid);
-    } else if (null != lhs.callSid && null != rhs.callSid) {
-      return lhs.callSid.equals(rhs.callSid);
+  public long getVersion() {
+    return snapshot.version;
+  }
+  private void onRecordUpdated(@NonNull final CallRecord callRecord,
+                               final String previousCallSid) {
+    if (callRecord.database != this) {
+      return;
+    }
+    if (!Objects.equals(previousCallSid, callRecord.callSid)) {
+      if (null != previousCallSid) {
+        callSidIndex.remove(previousCallSid, callRecord);
+      }
+      if (null != callRecord.callSid) {
+        callSidIndex.put(callRecord.callSid, callRecord);
+      }
     }
-    return false;
+    publishSnapshot(snapshot.callRecords);
+    for (Observer observer: observers) {
+      observer.onCallRecordUpdated(callRecord);
+    }
+  }
+  private void publishSnapshot(@NonNull final List<CallRecord> callRecords) {
+    snapshot = new Snapshot(
+      snapshot.version + 1,
+      (callRecords == snapshot.callRecords)
+        ? callRecords
+        : Collections.unmodifiableList(callRecords));
   }
 }
@@ -0,0 +1,203 @@
+package com.twiliovoicereactnative;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.twiliovoicereactnative.CallRecordDatabase.CallRecord;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Append-only journal of call record metadata. Every add, update & removal of a call record is
+ * written as a small binary entry so that, if the process is killed while calls are in progress,
+ * the calls that were never torn down can be recovered on the next launch.
+ * <p>
+ * The journal is truncated whenever the last call record is removed, so it only ever holds the
+ * entries of the calls that are currently alive.
+ */
+class CallRecordJournal implements CallRecordDatabase.Observer {
+  private static final SDKLog logger = new SDKLog(CallRecordJournal.class);
+  private static final String JOURNAL_FILE = "twilio_voice_call_journal.bin";
+  private static final int JOURNAL_MAGIC = 0x54564a31;
+  private static final byte ENTRY_STATE = 1;
+  private static final byte ENTRY_REMOVED = 2;
+
+  /**
+   * A call that was still alive when the process terminated.
+   */
+  public static class LostCall {
+    private final UUID uuid;
+    private final long timestamp;
+    private String callSid = null;
+    private int notificationId = -1;
+    private CallRecord.Direction direction = CallRecord.Direction.INCOMING;
+    private CallRecord.CallInviteState callInviteState = CallRecord.CallInviteState.NONE;
+    private LostCall(final UUID uuid, final long timestamp) {
+      this.uuid = uuid;
+      this.timestamp = timestamp;
+    }
+    public UUID getUuid() {
+      return uuid;
+    }
+    public long getTimestamp() {
+      return timestamp;
+    }
+    public String getCallSid() {
+      return callSid;
+    }
+    public int getNotificationId() {
+      return notificationId;
+    }
+    public CallRecord.Direction getDirection() {
+      return direction;
+    }
+    public CallRecord.CallInviteState getCallInviteState() {
+      return callInviteState;
+    }
+  }
+
+  private final File file;
+  private DataOutputStream outputStream = null;
+  private int liveRecords = 0;
+
+  public CallRecordJournal(@NonNull final File directory) {
+    this.file = new File(directory, JOURNAL_FILE);
+  }
+
+  /**
+   * Read back the journal left by the previous process & start a fresh one.
+   * @return the calls that were never removed from the call record database
+   */
+  public List<LostCall> replay() {
+    final Map<UUID, LostCall> lostCalls = new LinkedHashMap<>();
+    if (file.exists()) {
+      try (DataInputStream inputStream =
+             new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+        if (JOURNAL_MAGIC == inputStream.readInt()) {
+          while (true) {
+            final byte entryType = inputStream.readByte();
+            final UUID uuid = new UUID(inputStream.readLong(), inputStream.readLong());
+            final long timestamp = inputStream.readLong();
+            if (ENTRY_REMOVED == entryType) {
+              lostCalls.remove(uuid);
+              continue;
+            }
+            final CallRecord.Direction direction =
+              CallRecord.Direction.values()[inputStream.readByte()];
+            final CallRecord.CallInviteState callInviteState =
+              CallRecord.CallInviteState.values()[inputStream.readByte()];
+            final int notificationId = inputStream.readInt();
+            final String callSid = inputStream.readBoolean() ? inputStream.readUTF() : null;
+
+            LostCall lostCall = lostCalls.get(uuid);
+            if (null == lostCall) {
+              lostCall = new LostCall(uuid, timestamp);
+              lostCalls.put(uuid, lostCall);
+            }
+            lostCall.direction = direction;
+            lostCall.callInviteState = callInviteState;
+            lostCall.notificationId = notificationId;
+            lostCall.callSid = callSid;
+          }
+        }
+      } catch (EOFException ignore) {
+        // end of journal, a partially written trailing entry is dropped
+      } catch (IOException | ArrayIndexOutOfBoundsException e) {
+        logger.warning(e, "Failed to replay call record journal");
+      }
+    }
+    reset();
+    return Collections.unmodifiableList(new ArrayList<>(lostCalls.values()));
+  }
+
+  @Override
+  public void onCallRecordAdded(@NonNull CallRecord callRecord) {
+    ++liveRecords;
+    writeState(callRecord);
+  }
+
+  @Override
+  public void onCallRecordUpdated(@NonNull CallRecord callRecord) {
+    writeState(callRecord);
+  }
+
+  @Override
+  public void onCallRecordRemoved(@NonNull CallRecord callRecord) {
+    if (--liveRecords <= 0) {
+      reset();
+      return;
+    }
+    if (null == outputStream) {
+      return;
+    }
+    try {
+      writeHeader(ENTRY_REMOVED, callRecord.getUuid());
+      outputStream.flush();
+    } catch (IOException e) {
+      logger.warning(e, "Failed to journal call record removal");
+    }
+  }
+
+  private void writeState(@NonNull final CallRecord callRecord) {
+    if (null == outputStream) {
+      return;
+    }
+    try {
+      final String callSid = callRecord.getCallSid();
+      writeHeader(ENTRY_STATE, callRecord.getUuid());
+      outputStream.writeByte(callRecord.getDirection().ordinal());
+      outputStream.writeByte(callRecord.getCallInviteState().ordinal());
+      outputStream.writeInt(callRecord.getNotificationId());
+      outputStream.writeBoolean(null != callSid);
+      if (null != callSid) {
+        outputStream.writeUTF(callSid);
+      }
+      outputStream.flush();
+    } catch (IOException e) {
+      logger.warning(e, "Failed to journal call record state");
+    }
+  }
+
+  private void writeHeader(final byte entryType, @NonNull final UUID uuid) throws IOException {
+    outputStream.writeByte(entryType);
+    outputStream.writeLong(uuid.getMostSignificantBits());
+    outputStream.writeLong(uuid.getLeastSignificantBits());
+    outputStream.writeLong(System.currentTimeMillis());
+  }
+
+  private void reset() {
+    liveRecords = 0;
+    close(outputStream);
+    try {
+      outputStream = new DataOutputStream(
+        new BufferedOutputStream(new FileOutputStream(file, false)));
+      outputStream.writeInt(JOURNAL_MAGIC);
+      outputStream.flush();
+    } catch (IOException e) {
+      logger.warning(e, "Failed to reset call record journal");
+      outputStream = null;
+    }
+  }
+
+  private static void close(@Nullable final DataOutputStream outputStream) {
+    if (null != outputStream) {
+      try {
+        outputStream.close();
+      } catch (IOException ignore) {}
+    }
+  }
+}
@@ -0,0 +1,152 @@
+package com.twiliovoicereactnative;
+
+import static com.twiliovoicereactnative.CommonConstants.ScopeVoice;
+import static com.twiliovoicereactnative.CommonConstants.VoiceEventCallRecordReaped;
+import static com.twiliovoicereactnative.CommonConstants.VoiceEventKeyReapedCallRecord;
+import static com.twiliovoicereactnative.CommonConstants.VoiceEventType;
+import static com.twiliovoicereactnative.JSMapBuilder.jsMap;
+import static com.twiliovoicereactnative.ReactNativeArgumentsSerializer.serializeReapedCallRecord;
+import static com.twiliovoicereactnative.VoiceApplicationProxy.getJSEventEmitter;
+import static com.twiliovoicereactnative.VoiceApplicationProxy.getVoiceServiceApi;
+
+import android.os.Handler;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+
+import com.twilio.voice.Call;
+import com.twiliovoicereactnative.CallRecordDatabase.CallRecord;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Periodically sweeps the call record database for records that never reached a terminal state,
+ * such as call invites whose cancellation never arrived or accepted & outgoing calls that never
+ * connected. Stale records are removed, their notifications torn down and the JS layer notified.
+ * <p>
+ * A record without a live call is stale once it has been in the database longer than the TTL
+ * configured for its call invite state. A live call is only stale once it has been connecting for
+ * longer than the connecting TTL, and is disconnected so the call listener tears its record down
+ * as for any other disconnect. A TTL of zero disables reaping. The sweep only runs while the
+ * database holds records.
+ */
+class CallRecordReaper implements CallRecordDatabase.Observer {
+  private static final SDKLog logger = new SDKLog(CallRecordReaper.class);
+  private final CallRecordDatabase callRecordDatabase;
+  private final Handler callStateHandler;
+  private final long sweepIntervalMs;
+  private final long[] ttlMs = new long[CallRecord.CallInviteState.values().length];
+  private final long connectingTtlMs;
+  private final long[] reapedCounts = new long[CallRecord.CallInviteState.values().length];
+  private final Set<UUID> disconnectingCalls = new HashSet<>();
+  private final Runnable sweepRunnable = this::sweep;
+  private boolean sweepScheduled = false;
+
+  public CallRecordReaper(@NonNull final CallRecordDatabase callRecordDatabase,
+                          @NonNull final Handler callStateHandler,
+                          final long sweepIntervalMs,
+                          final long noneTtlMs,
+                          final long activeTtlMs,
+                          final long usedTtlMs,
+                          final long connectingTtlMs) {
+    this.callRecordDatabase = callRecordDatabase;
+    this.callStateHandler = callStateHandler;
+    this.sweepIntervalMs = sweepIntervalMs;
+    this.ttlMs[CallRecord.CallInviteState.NONE.ordinal()] = noneTtlMs;
+    this.ttlMs[CallRecord.CallInviteState.ACTIVE.ordinal()] = activeTtlMs;
+    this.ttlMs[CallRecord.CallInviteState.USED.ordinal()] = usedTtlMs;
+    this.connectingTtlMs = connectingTtlMs;
+  }
+
+  /**
+   * Get the number of records reaped for a call invite state. Must be invoked on the call state
+   * thread.
+   * @param callInviteState the call invite state the records were in when reaped
+   * @return the number of reaped records
+   */
+  public long getReapedCount(@NonNull final CallRecord.CallInviteState callInviteState) {
+    return reapedCounts[callInviteState.ordinal()];
+  }
+
+  @Override
+  public void onCallRecordAdded(@NonNull CallRecord callRecord) {
+    scheduleSweep();
+  }
+
+  @Override
+  public void onCallRecordUpdated(@NonNull CallRecord callRecord) {}
+
+  @Override
+  public void onCallRecordRemoved(@NonNull CallRecord callRecord) {
+    disconnectingCalls.remove(callRecord.getUuid());
+  }
+
+  private void scheduleSweep() {
+    if (!sweepScheduled && sweepIntervalMs > 0) {
+      sweepScheduled = callStateHandler.postDelayed(sweepRunnable, sweepIntervalMs);
+    }
+  }
+
+  private void sweep() {
+    sweepScheduled = false;
+    final long now = SystemClock.elapsedRealtime();
+    for (CallRecord callRecord: callRecordDatabase.getSnapshot().getCallRecords()) {
+      if (isStale(callRecord, now)) {
+        reap(callRecord, now);
+      }
+    }
+    if (!callRecordDatabase.getSnapshot().getCallRecords().isEmpty()) {
+      scheduleSweep();
+    }
+  }
+
+  private boolean isStale(@NonNull final CallRecord callRecord, final long now) {
+    final long age = now - callRecord.getCreationTime();
+    final Call call = callRecord.getVoiceCall();
+    if (null == call || Call.State.DISCONNECTED == call.getState()) {
+      final long ttl = ttlMs[callRecord.getCallInviteState().ordinal()];
+      return ttl > 0 && age >= ttl;
+    }
+    return connectingTtlMs > 0 &&
+      age >= connectingTtlMs &&
+      null == callRecord.getTimestamp() &&
+      !disconnectingCalls.contains(callRecord.getUuid());
+  }
+
+  private void reap(@NonNull final CallRecord callRecord, final long now) {
+    final long age = now - callRecord.getCreationTime();
+    logger.warning(
+      String.format(
+        "Reaping stale call record: { uuid: %s callSid: %s state: %s age: %dms }",
+        callRecord.getUuid(),
+        (null != callRecord.getCallSid()) ? callRecord.getCallSid() : "null",
+        callRecord.getCallInviteState(),
+        age));
+    ++reapedCounts[callRecord.getCallInviteState().ordinal()];
+
+    final Call call = callRecord.getVoiceCall();
+    if (null != call && Call.State.DISCONNECTED != call.getState()) {
+      // the call listener removes the record & records the call history once disconnected
+      disconnectingCalls.add(callRecord.getUuid());
+      call.disconnect();
+    } else {
+      // remove record & tear down notification
+      callRecordDatabase.removeByUuid(callRecord.getUuid());
+      if (CallRecord.CallInviteState.ACTIVE == callRecord.getCallInviteState()) {
+        callRecord.getCallInvite().reject(getVoiceServiceApi().getServiceContext());
+      }
+      getVoiceServiceApi().reapCall(callRecord);
+    }
+
+    // notify JS layer
+    getJSEventEmitter().sendEvent(
+      ScopeVoice,
+      JSEventEmitter.Priority.NORMAL,
+      () -> jsMap()
+        .putString(VoiceEventType, VoiceEventCallRecordReaped)
+        .putMap(VoiceEventKeyReapedCallRecord, serializeReapedCallRecord(callRecord, age))
+        .build());
+  }
+}
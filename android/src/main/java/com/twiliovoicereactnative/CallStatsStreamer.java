@@ -0,0 +1,204 @@
+package com.twiliovoicereactnative;
+
+import static com.twiliovoicereactnative.CommonConstants.CallEventStats;
+import static com.twiliovoicereactnative.CommonConstants.CallEventStatsDelta;
+import static com.twiliovoicereactnative.CommonConstants.CallEventStatsReport;
+import static com.twiliovoicereactnative.CommonConstants.CallEventStatsSequence;
+import static com.twiliovoicereactnative.CommonConstants.CallInfoUuid;
+import static com.twiliovoicereactnative.CommonConstants.ScopeCall;
+import static com.twiliovoicereactnative.CommonConstants.VoiceEventType;
+import static com.twiliovoicereactnative.Constants.JS_EVENT_KEY_CALL_INFO;
+import static com.twiliovoicereactnative.JSMapBuilder.jsMap;
+import static com.twiliovoicereactnative.VoiceApplicationProxy.getJSEventEmitter;
+
+import android.os.Handler;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.twilio.voice.Call;
+import com.twiliovoicereactnative.CallRecordDatabase.CallRecord;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Samples the stats of calls on a timer and pushes each report to the JS layer as a call event,
+ * so a live quality meter costs one event per sample instead of a promise round trip.
+ * <p>
+ * Streams are confined to the call state thread. A stream stops when it is stopped explicitly or
+ * when its call record is removed, which happens when the call disconnects. A sample is skipped
+ * while the previous one is still being gathered. Samples are sent at low priority & coalesced
+ * per call, so a backed up JS thread only receives the latest report.
+ * <p>
+ * In delta mode, a sample is sent as a delta against the previous one when the shape of the report
+ * has not changed, see {@link StatsReportDeltaEncoder}. Deltas cannot be coalesced, so they are
+ * sent at normal priority. Every event of a stream carries a sequence number, so the JS layer can
+ * tell when it missed a delta, such as one dropped from the replay queue, and request a full report
+ * to resynchronize. A full report is also sent periodically, so receivers that joined the stream
+ * late catch up without asking.
+ */
+class CallStatsStreamer implements CallRecordDatabase.Observer {
+  private static final SDKLog logger = new SDKLog(CallStatsStreamer.class);
+  /**
+   * In delta mode, the number of samples between full reports.
+   */
+  private static final int FULL_REPORT_INTERVAL = 10;
+
+  /**
+   * A stream of stats reports for a single call.
+   */
+  private class Stream implements Runnable {
+    private final UUID uuid;
+    private final long intervalMs;
+    private final StatsProjection projection;
+    private final StatsReportDeltaEncoder deltaEncoder;
+    private boolean sampling = false;
+    private boolean stopped = false;
+    private long sequence = 0;
+
+    private Stream(@NonNull final UUID uuid,
+                   final long intervalMs,
+                   @Nullable final StatsProjection projection,
+                   final boolean delta) {
+      this.uuid = uuid;
+      this.intervalMs = intervalMs;
+      this.projection = projection;
+      this.deltaEncoder = delta ? new StatsReportDeltaEncoder() : null;
+    }
+
+    @Override
+    public void run() {
+      final CallRecord callRecord = callRecordDatabase.findByUuid(uuid);
+      final Call call = (null != callRecord) ? callRecord.getVoiceCall() : null;
+      if (null == call) {
+        stop(uuid);
+        return;
+      }
+      if (!sampling) {
+        sampling = true;
+        call.getStats(statsReports -> {
+          sampling = false;
+          if (stopped) {
+            return;
+          }
+          final long eventSequence = ++sequence;
+          if (null == deltaEncoder) {
+            // coalesced samples are never serialized
+            getJSEventEmitter().sendEvent(
+              ScopeCall,
+              JSEventEmitter.Priority.LOW,
+              CallEventStats + '/' + uuid,
+              () -> buildStatsEvent(
+                CallEventStatsReport,
+                StatsListenerProxy.serializeStatsReports(statsReports, projection),
+                eventSequence));
+            return;
+          }
+          // the delta encoder needs every report to track its base
+          final WritableArray report =
+            StatsListenerProxy.serializeStatsReports(statsReports, projection);
+          if (0 == eventSequence % FULL_REPORT_INTERVAL) {
+            deltaEncoder.reset();
+          }
+          final WritableArray delta = deltaEncoder.encode(report);
+          getJSEventEmitter().sendEvent(
+            ScopeCall,
+            JSEventEmitter.Priority.NORMAL,
+            () -> (null != delta)
+              ? buildStatsEvent(CallEventStatsDelta, delta, eventSequence)
+              : buildStatsEvent(CallEventStatsReport, report, eventSequence));
+        });
+      }
+      callStateHandler.postDelayed(this, intervalMs);
+    }
+
+    private WritableMap buildStatsEvent(@NonNull final String reportKey,
+                                        @NonNull final WritableArray report,
+                                        final long eventSequence) {
+      return jsMap()
+        .putString(VoiceEventType, CallEventStats)
+        .putMap(JS_EVENT_KEY_CALL_INFO, jsMap()
+          .putString(CallInfoUuid, uuid.toString())
+          .build())
+        .putArray(reportKey, report)
+        .putLong(CallEventStatsSequence, eventSequence)
+        .build();
+    }
+  }
+
+  private final CallRecordDatabase callRecordDatabase;
+  private final Handler callStateHandler;
+  private final Map<UUID, Stream> streams = new HashMap<>();
+
+  public CallStatsStreamer(@NonNull final CallRecordDatabase callRecordDatabase,
+                           @NonNull final Handler callStateHandler) {
+    this.callRecordDatabase = callRecordDatabase;
+    this.callStateHandler = callStateHandler;
+  }
+
+  /**
+   * Start streaming the stats of a call, replacing its current stream if any. The first sample is
+   * taken immediately. Must be invoked on the call state thread.
+   * @param uuid the UUID of the call
+   * @param intervalMs the sampling interval in milliseconds
+   * @param projection the stats report sections & fields to send, null for every field
+   * @param delta whether samples are sent as deltas against the previous one
+   */
+  public void start(@NonNull final UUID uuid,
+                    final long intervalMs,
+                    @Nullable final StatsProjection projection,
+                    final boolean delta) {
+    stop(uuid);
+    final Stream stream = new Stream(uuid, intervalMs, projection, delta);
+    streams.put(uuid, stream);
+    callStateHandler.post(stream);
+  }
+
+  /**
+   * Stop streaming the stats of a call. Must be invoked on the call state thread.
+   * @param uuid the UUID of the call
+   * @return true if the call was streaming
+   */
+  public boolean stop(@NonNull final UUID uuid) {
+    final Stream stream = streams.remove(uuid);
+    if (null == stream) {
+      return false;
+    }
+    logger.debug("Stopping stats stream: " + uuid);
+    stream.stopped = true;
+    callStateHandler.removeCallbacks(stream);
+    return true;
+  }
+
+  /**
+   * Send the next sample of a delta mode stream as a full report, so a receiver that missed a
+   * delta can resynchronize. Must be invoked on the call state thread.
+   * @param uuid the UUID of the call
+   * @return true if the call was streaming
+   */
+  public boolean requestFullReport(@NonNull final UUID uuid) {
+    final Stream stream = streams.get(uuid);
+    if (null == stream) {
+      return false;
+    }
+    if (null != stream.deltaEncoder) {
+      stream.deltaEncoder.reset();
+    }
+    return true;
+  }
+
+  @Override
+  public void onCallRecordAdded(@NonNull CallRecord callRecord) {}
+
+  @Override
+  public void onCallRecordUpdated(@NonNull CallRecord callRecord) {}
+
+  @Override
+  public void onCallRecordRemoved(@NonNull CallRecord callRecord) {
+    stop(callRecord.getUuid());
+  }
+}
@@ -0,0 +1,81 @@
+package com.twiliovoicereactnative;
+
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Fixed capacity trace of the lifecycle events of a single call, in the order they happened.
+ * Recording an event is two array stores, nothing is allocated or formatted until the timeline is
+ * read. Once full, the oldest event is overwritten.
+ * <p>
+ * Like the call record it belongs to, the timeline is owned by the call state thread.
+ */
+class CallTimeline {
+  /**
+   * Lifecycle events traced for a call.
+   */
+  public enum Event {
+    INVITE_RECEIVED,
+    CONNECT_REQUESTED,
+    NOTIFICATION_POSTED,
+    ACCEPT_REQUESTED,
+    ACCEPT_RETURNED,
+    RINGING,
+    CONNECTED,
+    CONNECT_FAILURE,
+    RECONNECTING,
+    RECONNECTED,
+    DISCONNECTED
+  }
+
+  private static final int CAPACITY = 16;
+  private static final Event[] EVENTS = Event.values();
+
+  private final long origin = SystemClock.elapsedRealtime();
+  private final byte[] events = new byte[CAPACITY];
+  private final long[] times = new long[CAPACITY];
+  private int head = 0;
+  private int size = 0;
+
+  /**
+   * Record that a lifecycle event happened now.
+   * @param event the lifecycle event
+   */
+  public void record(@NonNull final Event event) {
+    events[head] = (byte) event.ordinal();
+    times[head] = SystemClock.elapsedRealtime();
+    head = (head + 1) % CAPACITY;
+    size = Math.min(size + 1, CAPACITY);
+  }
+
+  /**
+   * Get the time the timeline was created, which is when its call record was created.
+   * @return the creation time in the SystemClock.elapsedRealtime() time base
+   */
+  public long getOrigin() {
+    return origin;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /*
+   * Entry accessors, position 0 is the oldest retained event. Times are in the
+   * SystemClock.elapsedRealtime() time base.
+   */
+  public Event getEvent(final int position) {
+    return EVENTS[events[index(position)]];
+  }
+  public long getTime(final int position) {
+    return times[index(position)];
+  }
+
+  private int index(final int position) {
+    if (position < 0 || position >= size) {
+      throw new IndexOutOfBoundsException("position " + position + ", size " + size);
+    }
+    return (head - size + position + CAPACITY) % CAPACITY;
+  }
+}
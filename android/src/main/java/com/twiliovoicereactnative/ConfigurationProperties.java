@@ -17,6 +17,30 @@ class ConfigurationProperties {
     return sharedPreferences.getString(Constants.INCOMING_CALL_CONTACT_HANDLE_TEMPLATE_PREFERENCES_KEY, null);
   }
 
+  /**
+   * Persist the audio routing policy applied when calls are routed.
+   * @param ctx the application context
+   * @param policy the policy, null to restore the default AudioSwitch routing
+   */
+  public static void setAudioRoutingPolicy(Context ctx, AudioRoutingPolicy policy) {
+    SharedPreferences sharedPreferences = ctx.getSharedPreferences(Constants.PREFERENCES_FILE, Context.MODE_PRIVATE);
+    sharedPreferences
+      .edit()
+      .putString(Constants.AUDIO_ROUTING_POLICY_PREFERENCES_KEY, (null != policy) ? policy.toJson() : null)
+      .apply();
+  }
+
+  /**
+   * Get the persisted audio routing policy.
+   * @param ctx the application context
+   * @return the policy, null if none was set
+   */
+  public static AudioRoutingPolicy getAudioRoutingPolicy(Context ctx) {
+    SharedPreferences sharedPreferences = ctx.getSharedPreferences(Constants.PREFERENCES_FILE, Context.MODE_PRIVATE);
+    return AudioRoutingPolicy.fromJson(
+      sharedPreferences.getString(Constants.AUDIO_ROUTING_POLICY_PREFERENCES_KEY, null));
+  }
+
   /**
    * Get configuration boolean, used to determine if the built-in Firebase service should be enabled
    * or not.
@@ -27,4 +51,186 @@ class ConfigurationProperties {
     return context.getResources()
       .getBoolean(R.bool.twiliovoicereactnative_firebasemessagingservice_enabled);
   }
+
+  /**
+   * Get configuration boolean, used to determine if the work done crossing the bridge to the JS
+   * layer is measured.
+   * @param context the application context
+   * @return a boolean read from the application resources
+   */
+  public static boolean isBridgeMetricsEnabled(Context context) {
+    return context.getResources()
+      .getBoolean(R.bool.twiliovoicereactnative_bridge_metrics_enabled);
+  }
+
+  /**
+   * Get configuration integer, used to size the history of completed calls.
+   * @param context the application context
+   * @return the maximum number of completed calls retained, read from the application resources
+   */
+  public static int getCallHistoryCapacity(Context context) {
+    return context.getResources()
+      .getInteger(R.integer.twiliovoicereactnative_callhistory_capacity);
+  }
+
+  /**
+   * Get configuration integer, used to determine how often stale call records are swept.
+   * @param context the application context
+   * @return the sweep interval in milliseconds, read from the application resources
+   */
+  public static long getCallRecordReaperInterval(Context context) {
+    return 1000L * context.getResources()
+      .getInteger(R.integer.twiliovoicereactnative_callrecord_reaper_interval_seconds);
+  }
+
+  /**
+   * Get configuration integer, used to determine how long a call record may stay in a call invite
+   * state without connecting before it is reaped.
+   * @param context the application context
+   * @param callInviteState the call invite state
+   * @return the TTL in milliseconds (zero disables reaping), read from the application resources
+   */
+  public static long getCallRecordTtl(Context context,
+                                      CallRecordDatabase.CallRecord.CallInviteState callInviteState) {
+    switch (callInviteState) {
+      case ACTIVE:
+        return 1000L * context.getResources()
+          .getInteger(R.integer.twiliovoicereactnative_callrecord_ttl_active_seconds);
+      case USED:
+        return 1000L * context.getResources()
+          .getInteger(R.integer.twiliovoicereactnative_callrecord_ttl_used_seconds);
+      default:
+        return 1000L * context.getResources()
+          .getInteger(R.integer.twiliovoicereactnative_callrecord_ttl_none_seconds);
+    }
+  }
+
+  /**
+   * Get configuration integer, used to determine how long a live call may stay connecting before
+   * it is disconnected by the reaper.
+   * @param context the application context
+   * @return the TTL in milliseconds (zero disables reaping), read from the application resources
+   */
+  public static long getCallRecordConnectingTtl(Context context) {
+    return 1000L * context.getResources()
+      .getInteger(R.integer.twiliovoicereactnative_callrecord_ttl_connecting_seconds);
+  }
+
+  /**
+   * Get configuration integer, used to determine how long events are collected before being
+   * delivered to the JS layer as a batch.
+   * @param context the application context
+   * @return the batch window in milliseconds (zero disables batching), read from the application
+   * resources
+   */
+  public static long getEventBatchWindow(Context context) {
+    return context.getResources()
+      .getInteger(R.integer.twiliovoicereactnative_event_batch_window_ms);
+  }
+
+  /**
+   * Get configuration integer, used to determine how long low priority events wait to be
+   * superseded before being delivered to the JS layer.
+   * @param context the application context
+   * @return the coalesce window in milliseconds (zero only coalesces events that pile up while the
+   * event handler is busy), read from the application resources
+   */
+  public static long getEventCoalesceWindow(Context context) {
+    return context.getResources()
+      .getInteger(R.integer.twiliovoicereactnative_event_coalesce_window_ms);
+  }
+
+  /**
+   * Get configuration integer, used to bound how many events each scope holds while there is no
+   * active React instance to deliver them to.
+   * @param context the application context
+   * @return the per scope replay queue capacity (zero disables replay), read from the application
+   * resources
+   */
+  public static int getEventReplayCapacity(Context context) {
+    return context.getResources()
+      .getInteger(R.integer.twiliovoicereactnative_event_replay_capacity);
+  }
+
+  /**
+   * Get configuration integer, used to determine how long held events remain eligible for replay.
+   * @param context the application context
+   * @return the maximum replay age in milliseconds, read from the application resources
+   */
+  public static long getEventReplayMaxAge(Context context) {
+    return 1000L * context.getResources()
+      .getInteger(R.integer.twiliovoicereactnative_event_replay_max_age_seconds);
+  }
+
+  /**
+   * Get configuration string, used to determine which event is dropped when a replay queue is full.
+   * @param context the application context
+   * @return the overflow policy, read from the application resources. Defaults to dropping the
+   * oldest held event for unknown values.
+   */
+  public static JSEventEmitter.OverflowPolicy getEventReplayOverflowPolicy(Context context) {
+    return "dropnewest".equals(
+      context.getResources().getString(R.string.twiliovoicereactnative_event_replay_overflow_policy))
+      ? JSEventEmitter.OverflowPolicy.DROP_NEWEST
+      : JSEventEmitter.OverflowPolicy.DROP_OLDEST;
+  }
+
+  /**
+   * Get configuration integer, used to determine how often the stats of connected calls are
+   * sampled for their quality summary.
+   * @param context the application context
+   * @return the sample interval in milliseconds (zero disables sampling), read from the
+   * application resources
+   */
+  public static long getQualitySampleInterval(Context context) {
+    return context.getResources()
+      .getInteger(R.integer.twiliovoicereactnative_quality_sample_interval_ms);
+  }
+
+  /**
+   * Get configuration integer, used to determine the duration of the short window of call quality
+   * summaries.
+   * @param context the application context
+   * @return the window duration in milliseconds, read from the application resources
+   */
+  public static long getQualityShortWindow(Context context) {
+    return 1000L * context.getResources()
+      .getInteger(R.integer.twiliovoicereactnative_quality_short_window_seconds);
+  }
+
+  /**
+   * Get configuration integer, used to determine the duration of the long window of call quality
+   * summaries, which also bounds how many samples are retained per call.
+   * @param context the application context
+   * @return the window duration in milliseconds, read from the application resources
+   */
+  public static long getQualityLongWindow(Context context) {
+    return 1000L * context.getResources()
+      .getInteger(R.integer.twiliovoicereactnative_quality_long_window_seconds);
+  }
+
+  /**
+   * Get configuration integer, used to determine the confidence at which a connected call is
+   * reported as degrading.
+   * @param context the application context
+   * @return the confidence between 0 and 1 (zero, the default, disables detection), read from the
+   * application resources
+   */
+  public static double getQualityDegradingConfidence(Context context) {
+    return context.getResources()
+      .getInteger(R.integer.twiliovoicereactnative_quality_degrading_confidence_percent) / 100.0;
+  }
+
+  /**
+   * Get the call admission policy applied to incoming call invites.
+   * @param context the application context
+   * @return a policy built from the application resources
+   */
+  public static CallAdmissionPolicy getCallAdmissionPolicy(Context context) {
+    return new CallAdmissionPolicy(
+      context.getResources().getInteger(R.integer.twiliovoicereactnative_admission_max_active_calls),
+      context.getResources().getInteger(R.integer.twiliovoicereactnative_admission_max_pending_invites),
+      CallAdmissionPolicy.parseBusyPolicy(
+        context.getResources().getString(R.string.twiliovoicereactnative_admission_busy_policy)));
+  }
 }
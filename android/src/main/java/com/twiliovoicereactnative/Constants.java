@@ -20,6 +20,7 @@ class Constants {
   public static final String JS_EVENT_KEY_CANCELLED_CALL_INVITE_INFO = "cancelledCallInvite";
   public static final String PREFERENCES_FILE = "com.twilio.twiliovoicereactnative.preferences";
   public static final String INCOMING_CALL_CONTACT_HANDLE_TEMPLATE_PREFERENCES_KEY = "incomingCallContactHandleTemplatePreferenceKey";
+  public static final String AUDIO_ROUTING_POLICY_PREFERENCES_KEY = "audioRoutingPolicyPreferenceKey";
   public static final String GLOBAL_ENV = "com.twilio.voice.env";
   public static final String SDK_VERSION = "com.twilio.voice.env.sdk.version";
   public static final String EXPO_VERSION = "com.twilio.voice.env.sdk.expo_version";
@@ -23,21 +23,40 @@ import java.util.HashMap
 class ExpoModule : Module() {
   private class PromiseAdapter(private val promise: Promise) : ModuleProxy.UniversalPromise {
     override fun resolve(value: Any?) {
+      val metrics = VoiceApplicationProxy.getBridgeMetrics()
+      val startNanos = metrics.start()
+      val fields = metrics.countFieldsIfEnabled(value)
       promise.resolve(
         ReactNativeArgumentsSerializer.serializePromiseResolution(value)
       )
+      metrics.record(
+        BridgeMetrics.Category.PROMISE, BridgeMetrics.PROMISE_RESOLVED, startNanos, fields)
     }
 
     override fun rejectWithCode(code: Int, message: String) {
+      val metrics = VoiceApplicationProxy.getBridgeMetrics()
+      val startNanos = metrics.start()
       promise.resolve(
         ReactNativeArgumentsSerializer.serializePromiseErrorWithCode(code, message)
       )
+      metrics.record(
+        BridgeMetrics.Category.PROMISE,
+        BridgeMetrics.PROMISE_REJECTED_WITH_CODE,
+        startNanos,
+        BridgeMetrics.PROMISE_REJECTION_FIELDS)
     }
 
     override fun rejectWithName(name: String, message: String) {
+      val metrics = VoiceApplicationProxy.getBridgeMetrics()
+      val startNanos = metrics.start()
       promise.resolve(
         ReactNativeArgumentsSerializer.serializePromiseErrorWithName(name, message)
       )
+      metrics.record(
+        BridgeMetrics.Category.PROMISE,
+        BridgeMetrics.PROMISE_REJECTED_WITH_NAME,
+        startNanos,
+        BridgeMetrics.PROMISE_REJECTION_FIELDS)
     }
   }
 
@@ -68,6 +87,13 @@ class ExpoModule : Module() {
       this@ExpoModule.moduleProxy.call.disconnect(uuid, PromiseAdapter(promise))
     }
 
+    AsyncFunction("call_getQualitySummary") {
+      uuid: String,
+      promise: Promise ->
+
+      this@ExpoModule.moduleProxy.call.getQualitySummary(uuid, PromiseAdapter(promise))
+    }
+
     AsyncFunction("call_getState") {
       uuid: String,
       promise: Promise ->
@@ -77,9 +103,17 @@ class ExpoModule : Module() {
 
     AsyncFunction("call_getStats") {
       uuid: String,
+      fields: List<String>?,
       promise: Promise ->
 
-      this@ExpoModule.moduleProxy.call.getStats(uuid, PromiseAdapter(promise))
+      this@ExpoModule.moduleProxy.call.getStats(uuid, fields, PromiseAdapter(promise))
+    }
+
+    AsyncFunction("call_getTimeline") {
+      uuid: String,
+      promise: Promise ->
+
+      this@ExpoModule.moduleProxy.call.getTimeline(uuid, PromiseAdapter(promise))
     }
 
     AsyncFunction("call_hold") {
@@ -145,6 +179,36 @@ class ExpoModule : Module() {
       )
     }
 
+    AsyncFunction("call_startStatsStream") {
+      uuid: String,
+      intervalMs: Int,
+      fields: List<String>?,
+      delta: Boolean,
+      promise: Promise ->
+
+      this@ExpoModule.moduleProxy.call.startStatsStream(
+        uuid,
+        intervalMs,
+        fields,
+        delta,
+        PromiseAdapter(promise)
+      )
+    }
+
+    AsyncFunction("call_stopStatsStream") {
+      uuid: String,
+      promise: Promise ->
+
+      this@ExpoModule.moduleProxy.call.stopStatsStream(uuid, PromiseAdapter(promise))
+    }
+
+    AsyncFunction("call_requestStatsReport") {
+      uuid: String,
+      promise: Promise ->
+
+      this@ExpoModule.moduleProxy.call.requestStatsReport(uuid, PromiseAdapter(promise))
+    }
+
     /**
      * CallInvite API
      */
@@ -314,6 +378,59 @@ class ExpoModule : Module() {
       this@ExpoModule.moduleProxy.voice.getCallInvites(PromiseAdapter(promise))
     }
 
+    AsyncFunction("voice_getCallsVersion") {
+      promise: Promise ->
+
+      this@ExpoModule.moduleProxy.voice.getCallsVersion(PromiseAdapter(promise))
+    }
+
+    AsyncFunction("voice_getLostCalls") {
+      promise: Promise ->
+
+      this@ExpoModule.moduleProxy.voice.getLostCalls(PromiseAdapter(promise))
+    }
+
+    AsyncFunction("voice_getCallHistory") {
+      offset: Int,
+      limit: Int,
+      promise: Promise ->
+
+      this@ExpoModule.moduleProxy.voice.getCallHistory(offset, limit, PromiseAdapter(promise))
+    }
+
+    AsyncFunction("voice_getReapedCallRecordCounts") {
+      promise: Promise ->
+
+      this@ExpoModule.moduleProxy.voice.getReapedCallRecordCounts(PromiseAdapter(promise))
+    }
+
+    AsyncFunction("voice_addEventListener") {
+      eventName: String,
+      promise: Promise ->
+
+      this@ExpoModule.moduleProxy.voice.addEventListener(eventName, PromiseAdapter(promise))
+    }
+
+    AsyncFunction("voice_removeEventListeners") {
+      eventName: String,
+      count: Int,
+      promise: Promise ->
+
+      this@ExpoModule.moduleProxy.voice.removeEventListeners(eventName, count, PromiseAdapter(promise))
+    }
+
+    AsyncFunction("voice_getDroppedEventCounts") {
+      promise: Promise ->
+
+      this@ExpoModule.moduleProxy.voice.getDroppedEventCounts(PromiseAdapter(promise))
+    }
+
+    AsyncFunction("voice_getBridgeMetrics") {
+      promise: Promise ->
+
+      this@ExpoModule.moduleProxy.voice.getBridgeMetrics(PromiseAdapter(promise))
+    }
+
     AsyncFunction("voice_getDeviceToken") {
       promise: Promise ->
 
@@ -447,6 +564,28 @@ class ExpoModule : Module() {
       )
     }
 
+    AsyncFunction("voice_setAudioRoutingPolicy") {
+      jsPolicy: Map<String, Any>?,
+      promise: Promise ->
+
+      val jsPreferredDeviceTypes =
+        jsPolicy?.get(CommonConstants.AudioRoutingPolicyKeyPreferredDeviceTypes) as List<*>?
+      val jsIncomingCallDeviceTypes =
+        jsPolicy?.get(CommonConstants.AudioRoutingPolicyKeyIncomingCallDeviceTypes) as List<*>?
+      val jsOutgoingCallDeviceTypes =
+        jsPolicy?.get(CommonConstants.AudioRoutingPolicyKeyOutgoingCallDeviceTypes) as List<*>?
+      val jsAutoSwitchOnConnect =
+        jsPolicy?.get(CommonConstants.AudioRoutingPolicyKeyAutoSwitchOnConnect) as Boolean?
+
+      this@ExpoModule.moduleProxy.voice.setAudioRoutingPolicy(
+        jsPreferredDeviceTypes?.map { it as String? },
+        jsIncomingCallDeviceTypes?.map { it as String? },
+        jsOutgoingCallDeviceTypes?.map { it as String? },
+        jsAutoSwitchOnConnect ?: false,
+        PromiseAdapter(promise)
+      )
+    }
+
     AsyncFunction("voice_setIncomingCallContactHandleTemplate") {
       template: String,
       promise: Promise ->
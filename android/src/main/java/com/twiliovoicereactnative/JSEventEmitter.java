@@ -1,98 +1,542 @@
 package com.twiliovoicereactnative;
 
-import android.util.Pair;
+import android.os.Handler;
+import android.os.SystemClock;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.ReactApplicationContext;
-import com.facebook.react.bridge.ReadableArray;
-import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.modules.core.DeviceEventManagerModule;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
+import static com.twiliovoicereactnative.CommonConstants.VoiceEventType;
+
+/**
+ * Delivers native events to the JS layer, one emit per scope.
+ * <p>
+ * When constructed with a non-zero batch window, events are not emitted immediately. Instead the
+ * events of each scope are collected for the duration of the window and delivered as a single
+ * array payload, cutting the number of bridge crossings during bursts of events. Scopes are
+ * flushed in the order their first pending event was sent, and events within a scope keep their
+ * order. The JS layer unpacks array payloads transparently.
+ * <p>
+ * Events sent while there is no React context or no active React instance, such as call invites
+ * arriving while the application cold starts from a push, are held in a bounded replay queue and
+ * emitted in order once an active instance is available. Each scope may hold a limited number of
+ * events, events older than the maximum age are dropped, and the number of dropped events is
+ * counted.
+ * <p>
+ * Once the JS layer has removed every listener of a scope, events for that scope are skipped and
+ * events sent with a payload supplier never have their payload built. Scopes the JS layer has not
+ * reported yet are never skipped, as their listener may still be on its way, such as the listener
+ * of a call registered after the promise that created the call resolves. Critical events are never
+ * skipped.
+ * <p>
+ * Events are sent with a priority. Critical events, such as call invites & call state changes,
+ * bypass the batch window and are emitted immediately. Low priority events, such as audio device
+ * updates & preflight test samples, wait on the handler for the coalesce window and a later event with
+ * the same coalescing key supersedes a pending one, so bursts collapse to their latest value.
+ * Before an event is emitted, the pending events of its scope are flushed so each scope keeps its
+ * order.
+ * <p>
+ * When bridge metrics are enabled, each event sent is recorded under its scope & event type, timed
+ * from when its payload starts being built until it is emitted, batched or held.
+ */
 class JSEventEmitter {
   private static final SDKLog logger = new SDKLog(JSEventEmitter.class);
+  private static final long REPLAY_RETRY_MS = 250;
+
+  /**
+   * What to do when an event is sent while its scope's replay queue is full.
+   */
+  public enum OverflowPolicy { DROP_OLDEST, DROP_NEWEST }
+
+  /**
+   * How urgently an event is delivered to the JS layer.
+   */
+  public enum Priority {
+    /**
+     * Call control events, emitted immediately even when batching.
+     */
+    CRITICAL,
+    /**
+     * Batched when a batch window is configured.
+     */
+    NORMAL,
+    /**
+     * High frequency state updates, superseded by later events with the same coalescing key.
+     */
+    LOW
+  }
+
+  private static class PendingEvent {
+    private final String eventName;
+    private final Object params;
+    private final String coalesceKey;
+    private final long time;
+    private PendingEvent(final String eventName,
+                         final Object params,
+                         final String coalesceKey,
+                         final long time) {
+      this.eventName = eventName;
+      this.params = params;
+      this.coalesceKey = coalesceKey;
+      this.time = time;
+    }
+  }
+
   private WeakReference<ReactApplicationContext> context = new WeakReference<>(null);
+  private final long batchWindowMs;
+  private final long coalesceWindowMs;
+  private final int replayCapacity;
+  private final long replayMaxAgeMs;
+  private final OverflowPolicy replayOverflowPolicy;
+  private final Handler handler;
+  private final BridgeMetrics metrics;
+  private final Map<String, WritableArray> pendingBatches = new LinkedHashMap<>();
+  private final Runnable flushRunnable = this::flushBatches;
+  private final Map<String, PendingEvent> pendingCoalesced = new LinkedHashMap<>();
+  private final Runnable coalesceRunnable = this::flushCoalesced;
+  private boolean coalesceScheduled = false;
+  private final AtomicLong coalescedCount = new AtomicLong();
+  private final Deque<PendingEvent> replayQueue = new ArrayDeque<>();
+  private final Map<String, Integer> replayQueueSizes = new HashMap<>();
+  private final Runnable replayRunnable = this::replay;
+  private boolean replayScheduled = false;
+  private long overflowedCount = 0;
+  private long expiredCount = 0;
+  private final Map<String, Integer> listenerCounts = new HashMap<>();
+
+  public JSEventEmitter() {
+    this(0, 0, 0, 0, OverflowPolicy.DROP_OLDEST, null, new BridgeMetrics(false));
+  }
+
+  /**
+   * Constructor for a batching & replaying event emitter.
+   * @param batchWindowMs how long events are collected before being emitted, zero to disable
+   *                      batching
+   * @param coalesceWindowMs how long low priority events wait to be superseded, zero to only
+   *                         coalesce events that pile up while the handler is busy
+   * @param replayCapacity how many events each scope holds while there is no active React
+   *                       instance, zero to drop events instead
+   * @param replayMaxAgeMs how long held events remain eligible for replay
+   * @param replayOverflowPolicy which event is dropped when a scope's replay queue is full
+   * @param handler the handler batches & low priority events are flushed and replays are retried
+   *                on
+   * @param metrics records the events sent
+   */
+  public JSEventEmitter(final long batchWindowMs,
+                        final long coalesceWindowMs,
+                        final int replayCapacity,
+                        final long replayMaxAgeMs,
+                        @NonNull final OverflowPolicy replayOverflowPolicy,
+                        @Nullable final Handler handler,
+                        @NonNull final BridgeMetrics metrics) {
+    this.batchWindowMs = (null != handler) ? Math.max(batchWindowMs, 0) : 0;
+    this.coalesceWindowMs = Math.max(coalesceWindowMs, 0);
+    this.replayCapacity = Math.max(replayCapacity, 0);
+    this.replayMaxAgeMs = replayMaxAgeMs;
+    this.replayOverflowPolicy = replayOverflowPolicy;
+    this.handler = handler;
+    this.metrics = metrics;
+  }
 
   public void setContext(ReactApplicationContext context) {
+    if (this.context.get() != context) {
+      // a new JS layer has not subscribed to anything yet
+      synchronized (listenerCounts) {
+        listenerCounts.clear();
+      }
+    }
     this.context = new WeakReference<>(context);
+    replay();
+  }
+
+  /**
+   * Record that the JS layer added a listener for a scope.
+   * @param eventName the scope listened to
+   */
+  public void addListener(@NonNull final String eventName) {
+    synchronized (listenerCounts) {
+      listenerCounts.merge(eventName, 1, Integer::sum);
+    }
+  }
+
+  /**
+   * Record that the JS layer removed listeners for a scope.
+   * @param eventName the scope no longer listened to
+   * @param count the number of listeners removed
+   */
+  public void removeListeners(@NonNull final String eventName, final int count) {
+    synchronized (listenerCounts) {
+      // a scope left without listeners is remembered, unlike a scope that was never reported
+      listenerCounts.computeIfPresent(
+        eventName,
+        (key, listenerCount) -> Math.max(listenerCount - count, 0));
+    }
+  }
+
+  /**
+   * Whether an event sent for a scope would reach the JS layer. Events are always wanted while
+   * there is no active React instance, as they are held for replay, and until the JS layer has
+   * removed every listener of the scope.
+   * @param eventName the scope
+   * @return false only when the JS layer is known to have no listener for the scope
+   */
+  public boolean hasListeners(@NonNull final String eventName) {
+    if (null == getActiveContext()) {
+      return true;
+    }
+    synchronized (listenerCounts) {
+      final Integer listenerCount = listenerCounts.get(eventName);
+      return null == listenerCount || listenerCount > 0;
+    }
+  }
+
+  /**
+   * Send an event, building its payload only if the scope has listeners.
+   * @param eventName the scope
+   * @param payloadSupplier builds the event payload
+   */
+  public void sendEvent(String eventName, @NonNull Supplier<WritableMap> payloadSupplier) {
+    sendEvent(eventName, Priority.NORMAL, null, payloadSupplier);
+  }
+
+  /**
+   * Send an event with a priority, building its payload only if the scope has listeners.
+   * @param eventName the scope
+   * @param priority how urgently the event is delivered
+   * @param payloadSupplier builds the event payload
+   */
+  public void sendEvent(String eventName,
+                        @NonNull Priority priority,
+                        @NonNull Supplier<WritableMap> payloadSupplier) {
+    sendEvent(eventName, priority, null, payloadSupplier);
+  }
+
+  /**
+   * Send an event with a priority, building its payload only if the scope has listeners or the
+   * event is critical.
+   * @param eventName the scope
+   * @param priority how urgently the event is delivered
+   * @param coalesceKey pending low priority events of the scope with the same key are superseded
+   *                    by this event, null to coalesce on the scope alone. Ignored for other
+   *                    priorities.
+   * @param payloadSupplier builds the event payload
+   */
+  public void sendEvent(String eventName,
+                        @NonNull Priority priority,
+                        @Nullable String coalesceKey,
+                        @NonNull Supplier<WritableMap> payloadSupplier) {
+    if (Priority.CRITICAL != priority && !hasListeners(eventName)) {
+      logger.debug("sendEvent " + eventName + " skipped, no listeners");
+      return;
+    }
+    final long startNanos = metrics.start();
+    dispatchMeasured(eventName, priority, coalesceKey, payloadSupplier.get(), startNanos);
   }
   public void sendEvent(String eventName, @Nullable WritableMap params) {
+    dispatchMeasured(eventName, Priority.NORMAL, null, params, metrics.start());
+  }
+
+  /**
+   * Get the number of low priority events superseded by a later event before being emitted.
+   * @return the number of coalesced events
+   */
+  public long getCoalescedCount() {
+    return coalescedCount.get();
+  }
+
+  /**
+   * Get the number of events dropped because their scope's replay queue was full.
+   * @return the number of overflowed events
+   */
+  public long getOverflowedCount() {
+    synchronized (replayQueue) {
+      return overflowedCount;
+    }
+  }
+
+  /**
+   * Get the number of events dropped because they were held longer than the maximum replay age.
+   * @return the number of expired events
+   */
+  public long getExpiredCount() {
+    synchronized (replayQueue) {
+      return expiredCount;
+    }
+  }
+
+  private void dispatchMeasured(String eventName,
+                                @NonNull Priority priority,
+                                @Nullable String coalesceKey,
+                                @Nullable WritableMap params,
+                                long startNanos) {
+    if (!metrics.isEnabled()) {
+      dispatch(eventName, priority, coalesceKey, params);
+      return;
+    }
+    // the payload is consumed once dispatched, inspect it first
+    final int fields = BridgeMetrics.countFields(params);
+    final String metricName = (null != params && params.hasKey(VoiceEventType))
+      ? eventName + '/' + params.getString(VoiceEventType)
+      : eventName;
+    dispatch(eventName, priority, coalesceKey, params);
+    metrics.record(BridgeMetrics.Category.EVENT, metricName, startNanos, fields);
+  }
+
+  private void dispatch(String eventName,
+                        @NonNull Priority priority,
+                        @Nullable String coalesceKey,
+                        @Nullable WritableMap params) {
+    switch (priority) {
+      case CRITICAL:
+        // pending events of the scope were sent first, flush them rather than wait behind them
+        flushScope(eventName);
+        emit(eventName, params, null);
+        break;
+      case LOW:
+        coalesce(eventName, (null != coalesceKey) ? coalesceKey : "", params);
+        break;
+      case NORMAL:
+      default:
+        flushCoalescedScope(eventName);
+        batch(eventName, params, null);
+        break;
+    }
+  }
+
+  private void batch(String eventName, @Nullable WritableMap params, @Nullable String coalesceKey) {
+    if (0 == batchWindowMs || null == params) {
+      emit(eventName, params, coalesceKey);
+      return;
+    }
+    logger.debug("batchEvent " + eventName);
+    synchronized (pendingBatches) {
+      WritableArray batch = pendingBatches.get(eventName);
+      if (null == batch) {
+        if (pendingBatches.isEmpty()) {
+          handler.postDelayed(flushRunnable, batchWindowMs);
+        }
+        batch = Arguments.createArray();
+        pendingBatches.put(eventName, batch);
+      }
+      batch.pushMap(params);
+    }
+  }
+
+  private void coalesce(String eventName, @NonNull String coalesceKey, @Nullable WritableMap params) {
+    if (null == handler) {
+      emit(eventName, params, coalesceKey);
+      return;
+    }
+    logger.debug("coalesceEvent " + eventName + " key " + coalesceKey);
+    synchronized (pendingCoalesced) {
+      if (!coalesceScheduled) {
+        coalesceScheduled = handler.postDelayed(coalesceRunnable, coalesceWindowMs);
+      }
+      // the superseded event loses its place, the latest value is emitted after older events
+      final PendingEvent supersededEvent = pendingCoalesced.remove(eventName + '/' + coalesceKey);
+      if (null != supersededEvent) {
+        coalescedCount.incrementAndGet();
+      }
+      pendingCoalesced.put(
+        eventName + '/' + coalesceKey,
+        new PendingEvent(eventName, params, coalesceKey, SystemClock.elapsedRealtime()));
+    }
+  }
+
+  private void flushScope(String eventName) {
+    final WritableArray batch;
+    synchronized (pendingBatches) {
+      batch = pendingBatches.remove(eventName);
+    }
+    if (null != batch) {
+      emit(eventName, batch, null);
+    }
+    // pending low priority events are always newer than the scope's batch
+    for (PendingEvent pendingEvent: removeCoalesced(eventName)) {
+      emit(eventName, pendingEvent.params, pendingEvent.coalesceKey);
+    }
+  }
+
+  private void flushCoalescedScope(String eventName) {
+    for (PendingEvent pendingEvent: removeCoalesced(eventName)) {
+      batch(eventName, (WritableMap) pendingEvent.params, pendingEvent.coalesceKey);
+    }
+  }
+
+  private List<PendingEvent> removeCoalesced(String eventName) {
+    final List<PendingEvent> pendingEvents = new ArrayList<>();
+    synchronized (pendingCoalesced) {
+      final Iterator<PendingEvent> iterator = pendingCoalesced.values().iterator();
+      while (iterator.hasNext()) {
+        final PendingEvent pendingEvent = iterator.next();
+        if (pendingEvent.eventName.equals(eventName)) {
+          pendingEvents.add(pendingEvent);
+          iterator.remove();
+        }
+      }
+    }
+    return pendingEvents;
+  }
+
+  private void flushCoalesced() {
+    final List<PendingEvent> pendingEvents;
+    synchronized (pendingCoalesced) {
+      coalesceScheduled = false;
+      pendingEvents = new ArrayList<>(pendingCoalesced.values());
+      pendingCoalesced.clear();
+    }
+    for (PendingEvent pendingEvent: pendingEvents) {
+      batch(pendingEvent.eventName, (WritableMap) pendingEvent.params, pendingEvent.coalesceKey);
+    }
+  }
+
+  private void flushBatches() {
+    final List<Map.Entry<String, WritableArray>> batches;
+    synchronized (pendingBatches) {
+      batches = new ArrayList<>(pendingBatches.entrySet());
+      pendingBatches.clear();
+    }
+    for (Map.Entry<String, WritableArray> batch: batches) {
+      emit(batch.getKey(), batch.getValue(), null);
+    }
+  }
+
+  private void emit(String eventName, @Nullable Object params, @Nullable String coalesceKey) {
     logger.debug("sendEvent " + eventName + " params " + params);
-    if ((null != context.get()) &&
-        context.get().hasActiveReactInstance()) {
-      context.get()
-        .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
-        .emit(eventName, params);
-    } else {
-      logger.warning(
-        String.format(
-          "attempt to sendEvent without context {%s} or Catalyst instance not active",
-          context.get()));
-    }
-  }
-
-  public static WritableArray constructJSArray(@NonNull Object...entries) {
-    WritableArray params = Arguments.createArray();
-    for (Object entry: entries) {
-      if ((entry instanceof String)) {
-        params.pushString((String)entry);
-      } else if (entry instanceof ReadableMap) {
-        params.pushMap((ReadableMap) entry);
-      } else if (entry instanceof ReadableArray) {
-        params.pushArray((ReadableArray) entry);
-      } else if (entry instanceof Boolean) {
-        params.pushBoolean((Boolean) entry);
-      } else if (entry instanceof Integer) {
-        params.pushInt((Integer) entry);
-      } else if (entry instanceof Float) {
-        params.pushDouble((Float) entry);
-      } else if (entry instanceof Double) {
-        params.pushDouble((Double) entry);
-      } else if (entry instanceof Long) {
-        params.pushDouble((Long) entry);
-      } else if (entry == null) {
-        logger.debug("constructJSArray: filtering null value");
+    synchronized (replayQueue) {
+      final ReactApplicationContext reactContext = getActiveContext();
+      if (null != reactContext) {
+        // held events go first so the JS layer sees events in the order they were sent
+        emitReplayQueue(reactContext);
+        reactContext
+          .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
+          .emit(eventName, params);
+      } else if (replayCapacity > 0) {
+        logger.debug(
+          String.format(
+            "sendEvent without context {%s} or Catalyst instance not active, holding event",
+            context.get()));
+        hold(eventName, params, coalesceKey);
+        scheduleReplay();
       } else {
-        logger.debug(String.format("constructJSArray: unexpected type %s", entry.getClass()));
+        logger.warning(
+          String.format(
+            "attempt to sendEvent without context {%s} or Catalyst instance not active",
+            context.get()));
       }
     }
-    return params;
-  }
-  @SafeVarargs
-  public static WritableMap constructJSMap(@NonNull Pair<String, Object>...entries) {
-    WritableMap params = Arguments.createMap();
-    for (Pair<String, Object> entry: entries) {
-      if ((entry.second instanceof String)) {
-        params.putString(entry.first, (String) entry.second);
-      } else if (entry.second instanceof ReadableMap) {
-        params.putMap(entry.first, (ReadableMap) entry.second);
-      } else if (entry.second instanceof ReadableArray) {
-        params.putArray(entry.first, (ReadableArray) entry.second);
-      } else if (entry.second instanceof Boolean) {
-        params.putBoolean(entry.first, (Boolean) entry.second);
-      } else if (entry.second instanceof Integer) {
-        params.putInt(entry.first, (Integer) entry.second);
-      } else if (entry.second instanceof Float) {
-        params.putDouble(entry.first, (Float) entry.second);
-      } else if (entry.second instanceof Double) {
-        params.putDouble(entry.first, (Double) entry.second);
-      } else if (entry.second instanceof Long) {
-        params.putDouble(entry.first, (Long) entry.second);
-      } else if (entry.second == null) {
-        logger.debug("constructJSMap: filtering null value");
+  }
+
+  private void replay() {
+    synchronized (replayQueue) {
+      replayScheduled = false;
+      final ReactApplicationContext reactContext = getActiveContext();
+      if (null != reactContext) {
+        emitReplayQueue(reactContext);
       } else {
-        logger.debug(String.format(
-          "constructJSMap: unexpected type %s",
-          entry.second.getClass()
-        ));
+        // keep retrying until an instance is active or every held event has expired
+        expireReplayQueue();
+        scheduleReplay();
+      }
+    }
+  }
+
+  private void hold(String eventName, @Nullable Object params, @Nullable String coalesceKey) {
+    expireReplayQueue();
+    if (null != coalesceKey) {
+      final PendingEvent supersededEvent =
+        findHeld(eventName, heldEvent -> coalesceKey.equals(heldEvent.coalesceKey));
+      if (null != supersededEvent) {
+        replayQueue.remove(supersededEvent);
+        replayQueueSizes.merge(eventName, -1, Integer::sum);
+        coalescedCount.incrementAndGet();
+      }
+    }
+    final int scopeSize = replayQueueSizes.getOrDefault(eventName, 0);
+    if (scopeSize >= replayCapacity) {
+      ++overflowedCount;
+      // low priority events are dropped before any other event of the scope
+      PendingEvent droppedEvent = findHeld(eventName, heldEvent -> null != heldEvent.coalesceKey);
+      if (null == droppedEvent) {
+        if (OverflowPolicy.DROP_NEWEST == replayOverflowPolicy) {
+          logger.warning("Replay queue full, dropping event for scope " + eventName);
+          return;
+        }
+        droppedEvent = findHeld(eventName, heldEvent -> true);
+      }
+      logger.warning("Replay queue full, dropping held event for scope " + eventName);
+      replayQueue.remove(droppedEvent);
+    } else {
+      replayQueueSizes.put(eventName, scopeSize + 1);
+    }
+    replayQueue.addLast(
+      new PendingEvent(eventName, params, coalesceKey, SystemClock.elapsedRealtime()));
+  }
+
+  @Nullable
+  private PendingEvent findHeld(String eventName, @NonNull Predicate<PendingEvent> predicate) {
+    for (PendingEvent pendingEvent: replayQueue) {
+      if (pendingEvent.eventName.equals(eventName) && predicate.test(pendingEvent)) {
+        return pendingEvent;
       }
     }
-    return params;
+    return null;
+  }
+
+  private void emitReplayQueue(@NonNull final ReactApplicationContext reactContext) {
+    expireReplayQueue();
+    if (replayQueue.isEmpty()) {
+      return;
+    }
+    logger.log(String.format("Replaying %d held events", replayQueue.size()));
+    final DeviceEventManagerModule.RCTDeviceEventEmitter eventEmitter =
+      reactContext.getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class);
+    for (PendingEvent pendingEvent: replayQueue) {
+      eventEmitter.emit(pendingEvent.eventName, pendingEvent.params);
+    }
+    replayQueue.clear();
+    replayQueueSizes.clear();
+  }
+
+  private void expireReplayQueue() {
+    final long now = SystemClock.elapsedRealtime();
+    while (!replayQueue.isEmpty() && (now - replayQueue.peekFirst().time) > replayMaxAgeMs) {
+      final PendingEvent expiredEvent = replayQueue.removeFirst();
+      replayQueueSizes.merge(expiredEvent.eventName, -1, Integer::sum);
+      ++expiredCount;
+      logger.warning("Held event expired before replay, dropping event for scope " +
+        expiredEvent.eventName);
+    }
+  }
+
+  private void scheduleReplay() {
+    if (!replayScheduled && null != handler && !replayQueue.isEmpty()) {
+      replayScheduled = handler.postDelayed(replayRunnable, REPLAY_RETRY_MS);
+    }
+  }
+
+  @Nullable
+  private ReactApplicationContext getActiveContext() {
+    final ReactApplicationContext reactContext = context.get();
+    return (null != reactContext && reactContext.hasActiveReactInstance()) ? reactContext : null;
   }
 }
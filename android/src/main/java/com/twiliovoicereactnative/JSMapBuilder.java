@@ -0,0 +1,139 @@
+package com.twiliovoicereactnative;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.Set;
+
+/**
+ * Fluent builder for the maps sent to the JS layer. Each field is written straight into the
+ * underlying WritableMap through a setter specialized for its type, so primitive fields are never
+ * boxed and no per field objects are allocated.
+ * <p>
+ * Null strings, maps & arrays are omitted from the map rather than sent as null, so optional
+ * fields can be put unconditionally. Likewise, a builder restricted to a set of keys skips every
+ * other key, so a projection of a map can be built with the same code as the whole map.
+ */
+class JSMapBuilder {
+  private static final SDKLog logger = new SDKLog(JSMapBuilder.class);
+  private final WritableMap map = Arguments.createMap();
+  private final Set<String> keys;
+
+  private JSMapBuilder(@Nullable final Set<String> keys) {
+    this.keys = keys;
+  }
+
+  /**
+   * Start building a new map.
+   * @return an empty map builder
+   */
+  public static JSMapBuilder jsMap() {
+    return new JSMapBuilder(null);
+  }
+
+  /**
+   * Start building a new map restricted to a set of keys.
+   * @param keys the keys the map may hold, null for every key
+   * @return an empty map builder that skips any other key
+   */
+  public static JSMapBuilder jsMap(@Nullable final Set<String> keys) {
+    return new JSMapBuilder(keys);
+  }
+
+  public JSMapBuilder putString(@NonNull final String key, @Nullable final String value) {
+    if (null != value && isIncluded(key)) {
+      map.putString(key, value);
+    }
+    return this;
+  }
+
+  public JSMapBuilder putBoolean(@NonNull final String key, final boolean value) {
+    if (isIncluded(key)) {
+      map.putBoolean(key, value);
+    }
+    return this;
+  }
+
+  public JSMapBuilder putInt(@NonNull final String key, final int value) {
+    if (isIncluded(key)) {
+      map.putInt(key, value);
+    }
+    return this;
+  }
+
+  /**
+   * Put a long value. JS numbers are doubles, so the value is sent as one.
+   */
+  public JSMapBuilder putLong(@NonNull final String key, final long value) {
+    if (isIncluded(key)) {
+      map.putDouble(key, value);
+    }
+    return this;
+  }
+
+  public JSMapBuilder putDouble(@NonNull final String key, final double value) {
+    if (isIncluded(key)) {
+      map.putDouble(key, value);
+    }
+    return this;
+  }
+
+  public JSMapBuilder putMap(@NonNull final String key, @Nullable final ReadableMap value) {
+    if (null != value && isIncluded(key)) {
+      map.putMap(key, value);
+    }
+    return this;
+  }
+
+  public JSMapBuilder putArray(@NonNull final String key, @Nullable final ReadableArray value) {
+    if (null != value && isIncluded(key)) {
+      map.putArray(key, value);
+    }
+    return this;
+  }
+
+  /**
+   * Put a value whose type is only known at runtime, such as a promise resolution value. Prefer
+   * the typed setters wherever the type is known statically.
+   */
+  public JSMapBuilder putValue(@NonNull final String key, @Nullable final Object value) {
+    if (!isIncluded(key)) {
+      return this;
+    }
+    if (value instanceof String) {
+      map.putString(key, (String) value);
+    } else if (value instanceof ReadableMap) {
+      map.putMap(key, (ReadableMap) value);
+    } else if (value instanceof ReadableArray) {
+      map.putArray(key, (ReadableArray) value);
+    } else if (value instanceof Boolean) {
+      map.putBoolean(key, (Boolean) value);
+    } else if (value instanceof Integer) {
+      map.putInt(key, (Integer) value);
+    } else if (value instanceof Float) {
+      map.putDouble(key, (Float) value);
+    } else if (value instanceof Double) {
+      map.putDouble(key, (Double) value);
+    } else if (value instanceof Long) {
+      map.putDouble(key, (Long) value);
+    } else if (null == value) {
+      logger.debug("putValue: filtering null value");
+    } else {
+      logger.debug(String.format("putValue: unexpected type %s", value.getClass()));
+    }
+    return this;
+  }
+
+  public WritableMap build() {
+    return map;
+  }
+
+  private boolean isIncluded(@NonNull final String key) {
+    return null == keys || keys.contains(key);
+  }
+}
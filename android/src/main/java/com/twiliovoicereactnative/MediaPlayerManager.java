@@ -12,7 +12,8 @@ class MediaPlayerManager {
     INCOMING,
     OUTGOING,
     DISCONNECT,
-    RINGTONE
+    RINGTONE,
+    CALL_WAITING
   }
   private final SoundPool soundPool;
   private final Map<SoundTable, Integer> soundMap;
@@ -33,6 +34,7 @@ class MediaPlayerManager {
     soundMap.put(SoundTable.OUTGOING, soundPool.load(context, R.raw.outgoing, 1));
     soundMap.put(SoundTable.DISCONNECT, soundPool.load(context, R.raw.disconnect, 1));
     soundMap.put(SoundTable.RINGTONE, soundPool.load(context, R.raw.ringtone, 1));
+    soundMap.put(SoundTable.CALL_WAITING, soundPool.load(context, R.raw.callwaiting, 1));
   }
 
   public void play(final SoundTable sound) {
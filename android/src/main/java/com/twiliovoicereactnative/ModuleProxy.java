@@ -1,10 +1,16 @@
 package com.twiliovoicereactnative;
 
+import androidx.annotation.NonNull;
+
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.WritableMap;
+import com.twilio.audioswitch.AudioDevice;
 import com.twilio.voice.LogLevel;
 import com.twilio.voice.Voice;
 
+import java.util.List;
+import java.util.Map;
+
 class ModuleProxy {
   public interface UniversalPromise {
     void resolve(Object value);
@@ -33,20 +39,47 @@ class ModuleProxy {
 
     final AudioSwitchManager audioSwitchManager = VoiceApplicationProxy
       .getAudioSwitchManager()
-      .setListener((audioDevices, selectedDeviceUuid, selectedDevice) -> {
-        WritableMap audioDeviceInfo = ReactNativeArgumentsSerializer.serializeAudioDeviceInfo(
-          audioDevices,
-          selectedDeviceUuid,
-          selectedDevice
-        );
-        audioDeviceInfo.putString(
-          CommonConstants.VoiceEventType,
-          CommonConstants.VoiceEventAudioDevicesUpdated
-        );
-        VoiceApplicationProxy.getJSEventEmitter().sendEvent(
-          CommonConstants.ScopeVoice,
-          audioDeviceInfo
-        );
+      .setListener(new AudioSwitchManager.AudioManagerListener() {
+        @Override
+        public void onAudioDevices(@NonNull AudioSwitchManager.Snapshot snapshot) {
+          VoiceApplicationProxy.getJSEventEmitter().sendEvent(
+            CommonConstants.ScopeVoice,
+            JSEventEmitter.Priority.LOW,
+            CommonConstants.VoiceEventAudioDevicesUpdated,
+            () -> {
+              WritableMap audioDeviceInfo =
+                ReactNativeArgumentsSerializer.serializeAudioDeviceInfo(snapshot);
+              audioDeviceInfo.putString(
+                CommonConstants.VoiceEventType,
+                CommonConstants.VoiceEventAudioDevicesUpdated
+              );
+              return audioDeviceInfo;
+            }
+          );
+        }
+
+        @Override
+        public void onAudioDevicesChanged(@NonNull AudioSwitchManager.Snapshot snapshot,
+                                          @NonNull Map<String, AudioDevice> addedAudioDevices,
+                                          @NonNull List<String> removedAudioDeviceUuids) {
+          // changes build on each other, so they are never coalesced
+          VoiceApplicationProxy.getJSEventEmitter().sendEvent(
+            CommonConstants.ScopeVoice,
+            () -> {
+              WritableMap audioDeviceChange =
+                ReactNativeArgumentsSerializer.serializeAudioDeviceChange(
+                  snapshot,
+                  addedAudioDevices,
+                  removedAudioDeviceUuids
+                );
+              audioDeviceChange.putString(
+                CommonConstants.VoiceEventType,
+                CommonConstants.VoiceEventAudioDevicesChanged
+              );
+              return audioDeviceChange;
+            }
+          );
+        }
       });
 
     this.voice = new VoiceModuleProxy(reactApplicationContext, audioSwitchManager);
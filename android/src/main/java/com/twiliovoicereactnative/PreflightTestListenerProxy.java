@@ -2,6 +2,7 @@ package com.twiliovoicereactnative;
 
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.WritableMap;
@@ -29,31 +30,35 @@ public class PreflightTestListenerProxy implements PreflightTest.Listener {
   @Override
   public void onPreflightConnected(@NonNull PreflightTest preflightTest) {
     logger.debug("onPreflightConnected");
-    sendJSEvent(serializePreflightBaseEvent(CommonConstants.PreflightTestEventTypeValueConnected));
+    sendJSEvent(() -> serializePreflightBaseEvent(CommonConstants.PreflightTestEventTypeValueConnected));
   }
 
   @Override
   public void onPreflightCompleted(@NonNull PreflightTest preflightTest, @NonNull JSONObject report) {
     logger.debug("onPreflightCompleted");
-    sendJSEvent(serializePreflightCompletedEvent(report));
+    sendJSEvent(() -> serializePreflightCompletedEvent(report));
   }
 
   @Override
   public void onPreflightFailed(@NonNull PreflightTest preflightTest, @NonNull CallException error) {
     logger.debug("onPreflightFailed");
-    sendJSEvent(serializePreflightFailedEvent(error));
+    sendJSEvent(() -> serializePreflightFailedEvent(error));
   }
 
   @Override
   public void onPreflightWarning(@NonNull PreflightTest preflightTest, @NonNull Set<Call.CallQualityWarning> currentWarnings, @NonNull Set<Call.CallQualityWarning> previousWarnings) {
     logger.debug("onPreflightWarning");
-    sendJSEvent(serializePreflightWarningEvent(currentWarnings, previousWarnings));
+    sendJSEvent(() -> serializePreflightWarningEvent(currentWarnings, previousWarnings));
   }
 
   @Override
   public void onPreflightSample(@NonNull PreflightTest preflightTest, @NonNull JSONObject sample) {
     logger.debug("onPreflightSample");
-    sendJSEvent(serializePreflightSampleEvent(sample));
+    getJSEventEmitter().sendEvent(
+      CommonConstants.ScopePreflightTest,
+      JSEventEmitter.Priority.LOW,
+      CommonConstants.PreflightTestEventTypeValueSample,
+      () -> serializePreflightSampleEvent(sample));
   }
 
   private WritableMap serializePreflightBaseEvent(String type) {
@@ -91,7 +96,7 @@ public class PreflightTestListenerProxy implements PreflightTest.Listener {
     return eventPayload;
   }
 
-  private void sendJSEvent(WritableMap eventPayload) {
+  private void sendJSEvent(Supplier<WritableMap> eventPayload) {
     getJSEventEmitter().sendEvent(CommonConstants.ScopePreflightTest, eventPayload);
   }
 }
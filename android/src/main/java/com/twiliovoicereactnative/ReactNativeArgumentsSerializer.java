@@ -1,10 +1,23 @@
 package com.twiliovoicereactnative;
 
+import static com.twiliovoicereactnative.CommonConstants.AudioDeviceKeyAddedDevices;
 import static com.twiliovoicereactnative.CommonConstants.AudioDeviceKeyAudioDevices;
 import static com.twiliovoicereactnative.CommonConstants.AudioDeviceKeyName;
+import static com.twiliovoicereactnative.CommonConstants.AudioDeviceKeyRemovedDeviceUuids;
+import static com.twiliovoicereactnative.CommonConstants.AudioDeviceKeyRevision;
 import static com.twiliovoicereactnative.CommonConstants.AudioDeviceKeySelectedDevice;
+import static com.twiliovoicereactnative.CommonConstants.AudioDeviceKeySelectedDeviceUuid;
 import static com.twiliovoicereactnative.CommonConstants.AudioDeviceKeyType;
 import static com.twiliovoicereactnative.CommonConstants.AudioDeviceKeyUuid;
+import static com.twiliovoicereactnative.CommonConstants.BridgeMetricsEnabled;
+import static com.twiliovoicereactnative.CommonConstants.BridgeMetricsEntryCount;
+import static com.twiliovoicereactnative.CommonConstants.BridgeMetricsEntryFieldCount;
+import static com.twiliovoicereactnative.CommonConstants.BridgeMetricsEntryLatencyHistogram;
+import static com.twiliovoicereactnative.CommonConstants.BridgeMetricsEntryTotalLatency;
+import static com.twiliovoicereactnative.CommonConstants.BridgeMetricsEvents;
+import static com.twiliovoicereactnative.CommonConstants.BridgeMetricsLatencyBucketBounds;
+import static com.twiliovoicereactnative.CommonConstants.BridgeMetricsPromises;
+import static com.twiliovoicereactnative.CommonConstants.BridgeMetricsSerializers;
 import static com.twiliovoicereactnative.CommonConstants.CallInfoFrom;
 import static com.twiliovoicereactnative.CommonConstants.CallInfoInitialConnectedTimestamp;
 import static com.twiliovoicereactnative.CommonConstants.CallInfoSid;
@@ -30,12 +43,67 @@ import static com.twiliovoicereactnative.CommonConstants.CallInviteInfoUuid;
 import static com.twiliovoicereactnative.CommonConstants.CancelledCallInviteInfoCallSid;
 import static com.twiliovoicereactnative.CommonConstants.CancelledCallInviteInfoFrom;
 import static com.twiliovoicereactnative.CommonConstants.CancelledCallInviteInfoTo;
+import static com.twiliovoicereactnative.CommonConstants.CallDirectionIncoming;
+import static com.twiliovoicereactnative.CommonConstants.CallHistoryEntryCallSid;
+import static com.twiliovoicereactnative.CommonConstants.CallHistoryEntryConnectTimestamp;
+import static com.twiliovoicereactnative.CommonConstants.CallHistoryEntryDirection;
+import static com.twiliovoicereactnative.CommonConstants.CallHistoryEntryDuration;
+import static com.twiliovoicereactnative.CommonConstants.CallHistoryEntryErrorCode;
+import static com.twiliovoicereactnative.CommonConstants.CallHistoryEntryQualityWarnings;
+import static com.twiliovoicereactnative.CommonConstants.CallDirectionOutgoing;
+import static com.twiliovoicereactnative.CommonConstants.CallQualityDegradingMetricAvailableBitrate;
+import static com.twiliovoicereactnative.CommonConstants.CallQualityDegradingMetricJitter;
+import static com.twiliovoicereactnative.CommonConstants.CallQualityDegradingMetricPacketLoss;
+import static com.twiliovoicereactnative.CommonConstants.CallQualityDegradingMetricRtt;
+import static com.twiliovoicereactnative.CommonConstants.CallQualityMetricMax;
+import static com.twiliovoicereactnative.CommonConstants.CallQualityMetricP50;
+import static com.twiliovoicereactnative.CommonConstants.CallQualityMetricP95;
+import static com.twiliovoicereactnative.CommonConstants.CallQualityMetricSampleCount;
+import static com.twiliovoicereactnative.CommonConstants.CallQualityMetricTrend;
+import static com.twiliovoicereactnative.CommonConstants.CallQualitySummaryLongWindow;
+import static com.twiliovoicereactnative.CommonConstants.CallQualitySummaryShortWindow;
+import static com.twiliovoicereactnative.CommonConstants.CallQualityWindowDuration;
+import static com.twiliovoicereactnative.CommonConstants.CallQualityWindowJitter;
+import static com.twiliovoicereactnative.CommonConstants.CallQualityWindowMos;
+import static com.twiliovoicereactnative.CommonConstants.CallQualityWindowPacketLoss;
+import static com.twiliovoicereactnative.CommonConstants.CallQualityWindowRtt;
+import static com.twiliovoicereactnative.CommonConstants.CallTimelineEntryElapsed;
+import static com.twiliovoicereactnative.CommonConstants.CallTimelineEntryEvent;
+import static com.twiliovoicereactnative.CommonConstants.CallTimelineEntryTimestamp;
+import static com.twiliovoicereactnative.CommonConstants.CallTimelineEventAcceptRequested;
+import static com.twiliovoicereactnative.CommonConstants.CallTimelineEventAcceptReturned;
+import static com.twiliovoicereactnative.CommonConstants.CallTimelineEventConnectFailure;
+import static com.twiliovoicereactnative.CommonConstants.CallTimelineEventConnectRequested;
+import static com.twiliovoicereactnative.CommonConstants.CallTimelineEventConnected;
+import static com.twiliovoicereactnative.CommonConstants.CallTimelineEventDisconnected;
+import static com.twiliovoicereactnative.CommonConstants.CallTimelineEventInviteReceived;
+import static com.twiliovoicereactnative.CommonConstants.CallTimelineEventNotificationPosted;
+import static com.twiliovoicereactnative.CommonConstants.CallTimelineEventReconnected;
+import static com.twiliovoicereactnative.CommonConstants.CallTimelineEventReconnecting;
+import static com.twiliovoicereactnative.CommonConstants.CallTimelineEventRinging;
+import static com.twiliovoicereactnative.CommonConstants.CallInviteStateActive;
+import static com.twiliovoicereactnative.CommonConstants.CallInviteStateNone;
+import static com.twiliovoicereactnative.CommonConstants.CallInviteStateUsed;
+import static com.twiliovoicereactnative.CommonConstants.DroppedEventCountsCoalesced;
+import static com.twiliovoicereactnative.CommonConstants.DroppedEventCountsExpired;
+import static com.twiliovoicereactnative.CommonConstants.DroppedEventCountsOverflowed;
+import static com.twiliovoicereactnative.CommonConstants.LostCallInfoCallInviteState;
+import static com.twiliovoicereactnative.CommonConstants.LostCallInfoCallSid;
+import static com.twiliovoicereactnative.CommonConstants.LostCallInfoDirection;
+import static com.twiliovoicereactnative.CommonConstants.LostCallInfoTimestamp;
+import static com.twiliovoicereactnative.CommonConstants.LostCallInfoUuid;
+import static com.twiliovoicereactnative.CommonConstants.ReapedCallRecordInfoAge;
+import static com.twiliovoicereactnative.CommonConstants.ReapedCallRecordInfoCallInviteState;
+import static com.twiliovoicereactnative.CommonConstants.ReapedCallRecordInfoCallSid;
+import static com.twiliovoicereactnative.CommonConstants.ReapedCallRecordInfoDirection;
+import static com.twiliovoicereactnative.CommonConstants.ReapedCallRecordInfoUuid;
 import static com.twiliovoicereactnative.CommonConstants.VoiceErrorKeyCode;
 import static com.twiliovoicereactnative.CommonConstants.VoiceErrorKeyMessage;
-import static com.twiliovoicereactnative.JSEventEmitter.constructJSMap;
+import static com.twiliovoicereactnative.JSMapBuilder.jsMap;
+import static com.twiliovoicereactnative.VoiceApplicationProxy.getBridgeMetrics;
 
 import java.text.SimpleDateFormat;
-import android.util.Pair;
+import android.os.SystemClock;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -53,6 +121,7 @@ import com.twilio.voice.Call;
 import com.twilio.voice.CallInvite;
 
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -92,17 +161,20 @@ class ReactNativeArgumentsSerializer {
    * @return A serialized CallInvite
    */
   public static WritableMap serializeCallInvite(@NonNull final CallRecord callRecord) {
+    final long startNanos = getBridgeMetrics().start();
+
     // validate input
     final UUID uuid = Objects.requireNonNull(callRecord.getUuid());
     final CallInvite callInvite = Objects.requireNonNull(callRecord.getCallInvite());
 
     // serialize
-    return constructJSMap(
-      new Pair<>(CallInviteInfoUuid, uuid.toString()),
-      new Pair<>(CallInviteInfoCallSid, callInvite.getCallSid()),
-      new Pair<>(CallInviteInfoFrom, callInvite.getFrom()),
-      new Pair<>(CallInviteInfoTo, callInvite.getTo()),
-      new Pair<>(CallInviteInfoCustomParameters, serializeCallInviteCustomParameters(callInvite)));
+    return recordSerialization("serializeCallInvite", startNanos, jsMap()
+      .putString(CallInviteInfoUuid, uuid.toString())
+      .putString(CallInviteInfoCallSid, callInvite.getCallSid())
+      .putString(CallInviteInfoFrom, callInvite.getFrom())
+      .putString(CallInviteInfoTo, callInvite.getTo())
+      .putMap(CallInviteInfoCustomParameters, serializeCallInviteCustomParameters(callInvite))
+      .build());
   }
 
   /**
@@ -111,14 +183,307 @@ class ReactNativeArgumentsSerializer {
    * @return A serialized CancelledCallInvite
    */
   public static WritableMap serializeCancelledCallInvite(@NonNull final CallRecord callRecord) {
+    final long startNanos = getBridgeMetrics().start();
+
     // validate input
     final CancelledCallInvite callInvite = Objects.requireNonNull(callRecord.getCancelledCallInvite());
 
     // serialize
-    return constructJSMap(
-      new Pair<>(CancelledCallInviteInfoCallSid, callInvite.getCallSid()),
-      new Pair<>(CancelledCallInviteInfoFrom, callInvite.getFrom()),
-      new Pair<>(CancelledCallInviteInfoTo, callInvite.getTo()));
+    return recordSerialization("serializeCancelledCallInvite", startNanos, jsMap()
+      .putString(CancelledCallInviteInfoCallSid, callInvite.getCallSid())
+      .putString(CancelledCallInviteInfoFrom, callInvite.getFrom())
+      .putString(CancelledCallInviteInfoTo, callInvite.getTo())
+      .build());
+  }
+
+  /**
+   * Serializes the calls recovered from the call record journal.
+   * @param lostCalls The calls that were alive when the previous process terminated
+   * @return A serialized array of lost calls
+   */
+  public static WritableArray serializeLostCalls(@NonNull final List<CallRecordJournal.LostCall> lostCalls) {
+    final long startNanos = getBridgeMetrics().start();
+    WritableArray lostCallInfos = Arguments.createArray();
+    for (CallRecordJournal.LostCall lostCall: lostCalls) {
+      lostCallInfos.pushMap(jsMap()
+        .putString(LostCallInfoUuid, lostCall.getUuid().toString())
+        .putString(LostCallInfoCallSid, lostCall.getCallSid())
+        .putString(LostCallInfoDirection, callDirectionToString(lostCall.getDirection()))
+        .putString(LostCallInfoCallInviteState, callInviteStateToString(lostCall.getCallInviteState()))
+        .putLong(LostCallInfoTimestamp, lostCall.getTimestamp())
+        .build());
+    }
+    return recordSerialization("serializeLostCalls", startNanos, lostCallInfos);
+  }
+
+  /**
+   * Serializes a call record removed by the call record reaper.
+   * @param callRecord The reaped call record
+   * @param age How long the record was held before being reaped, in milliseconds
+   * @return A serialized reaped call record
+   */
+  public static WritableMap serializeReapedCallRecord(@NonNull final CallRecord callRecord,
+                                                      final long age) {
+    return jsMap()
+      .putString(ReapedCallRecordInfoUuid, callRecord.getUuid().toString())
+      .putString(ReapedCallRecordInfoCallSid, callRecord.getCallSid())
+      .putString(ReapedCallRecordInfoDirection, callDirectionToString(callRecord.getDirection()))
+      .putString(ReapedCallRecordInfoCallInviteState,
+        callInviteStateToString(callRecord.getCallInviteState()))
+      .putLong(ReapedCallRecordInfoAge, age)
+      .build();
+  }
+
+  /**
+   * Serializes the number of events the JS event emitter dropped instead of delivering.
+   * @param jsEventEmitter The JS event emitter
+   * @return A serialized map of dropped event counts, keyed by the reason the events were dropped
+   */
+  public static WritableMap serializeDroppedEventCounts(@NonNull final JSEventEmitter jsEventEmitter) {
+    return jsMap()
+      .putLong(DroppedEventCountsOverflowed, jsEventEmitter.getOverflowedCount())
+      .putLong(DroppedEventCountsExpired, jsEventEmitter.getExpiredCount())
+      .putLong(DroppedEventCountsCoalesced, jsEventEmitter.getCoalescedCount())
+      .build();
+  }
+
+  /**
+   * Serializes the metrics of the work done crossing the bridge to the JS layer.
+   * @param bridgeMetrics The bridge metrics
+   * @return A serialized map of the metrics of each category, keyed by the name they were recorded
+   * under
+   */
+  public static WritableMap serializeBridgeMetrics(@NonNull final BridgeMetrics bridgeMetrics) {
+    WritableArray latencyBucketBounds = Arguments.createArray();
+    for (long latencyBucketBound: BridgeMetrics.LATENCY_BUCKET_BOUNDS_MICROS) {
+      latencyBucketBounds.pushDouble(latencyBucketBound);
+    }
+    return jsMap()
+      .putBoolean(BridgeMetricsEnabled, bridgeMetrics.isEnabled())
+      .putArray(BridgeMetricsLatencyBucketBounds, latencyBucketBounds)
+      .putMap(BridgeMetricsEvents,
+        serializeBridgeMetricsEntries(bridgeMetrics.getEntries(BridgeMetrics.Category.EVENT)))
+      .putMap(BridgeMetricsPromises,
+        serializeBridgeMetricsEntries(bridgeMetrics.getEntries(BridgeMetrics.Category.PROMISE)))
+      .putMap(BridgeMetricsSerializers,
+        serializeBridgeMetricsEntries(bridgeMetrics.getEntries(BridgeMetrics.Category.SERIALIZER)))
+      .build();
+  }
+
+  private static WritableMap serializeBridgeMetricsEntries(
+    @NonNull final Map<String, BridgeMetrics.Entry> entries) {
+    WritableMap serializedEntries = Arguments.createMap();
+    for (Entry<String, BridgeMetrics.Entry> entry: entries.entrySet()) {
+      final BridgeMetrics.Entry metrics = entry.getValue();
+      WritableArray latencyHistogram = Arguments.createArray();
+      for (int bucket = 0; bucket <= BridgeMetrics.LATENCY_BUCKET_BOUNDS_MICROS.length; ++bucket) {
+        latencyHistogram.pushDouble(metrics.getLatencyHistogram(bucket));
+      }
+      serializedEntries.putMap(entry.getKey(), jsMap()
+        .putLong(BridgeMetricsEntryCount, metrics.getCount())
+        .putLong(BridgeMetricsEntryFieldCount, metrics.getFieldCount())
+        .putLong(BridgeMetricsEntryTotalLatency, metrics.getTotalLatencyMicros())
+        .putArray(BridgeMetricsEntryLatencyHistogram, latencyHistogram)
+        .build());
+    }
+    return serializedEntries;
+  }
+
+  /**
+   * Serializes the number of reaped call records, keyed by the call invite state the records were
+   * in when reaped.
+   * @param callRecordReaper The call record reaper
+   * @return A serialized map of reaped record counts
+   */
+  public static WritableMap serializeReapedCallRecordCounts(@NonNull final CallRecordReaper callRecordReaper) {
+    WritableMap reapedCounts = Arguments.createMap();
+    for (CallRecord.CallInviteState callInviteState: CallRecord.CallInviteState.values()) {
+      reapedCounts.putDouble(
+        callInviteStateToString(callInviteState),
+        callRecordReaper.getReapedCount(callInviteState));
+    }
+    return reapedCounts;
+  }
+
+  /**
+   * Serializes a page of the completed call history, most recent call first.
+   * @param callHistory The call history
+   * @param offset The number of most recent calls to skip
+   * @param limit The maximum number of calls to serialize
+   * @return A serialized array of call history entries
+   */
+  public static WritableArray serializeCallHistory(@NonNull final CallHistory callHistory,
+                                                   final int offset,
+                                                   final int limit) {
+    final long startNanos = getBridgeMetrics().start();
+    WritableArray callHistoryEntries = Arguments.createArray();
+    final int end = (int) Math.min((long) offset + limit, callHistory.size());
+    for (int position = offset; position < end; ++position) {
+      final long connectTimestamp = callHistory.getConnectTimestamp(position);
+      final int errorCode = callHistory.getErrorCode(position);
+      final JSMapBuilder callHistoryEntry = jsMap()
+        .putString(CallHistoryEntryCallSid, callHistory.getCallSid(position))
+        .putString(CallHistoryEntryDirection, callDirectionToString(callHistory.getDirection(position)))
+        .putLong(CallHistoryEntryDuration, callHistory.getDuration(position))
+        .putArray(CallHistoryEntryQualityWarnings,
+          serializeCallQualityWarnings(callHistory.getCallQualityWarnings(position)));
+      if (0 != connectTimestamp) {
+        callHistoryEntry.putLong(CallHistoryEntryConnectTimestamp, connectTimestamp);
+      }
+      if (0 != errorCode) {
+        callHistoryEntry.putInt(CallHistoryEntryErrorCode, errorCode);
+      }
+      callHistoryEntries.pushMap(callHistoryEntry.build());
+    }
+    return recordSerialization("serializeCallHistory", startNanos, callHistoryEntries);
+  }
+
+  /**
+   * Serializes the lifecycle timeline of a call.
+   * @param timeline the call timeline
+   * @return A serialized array of timeline entries, oldest first
+   */
+  public static WritableArray serializeCallTimeline(@NonNull final CallTimeline timeline) {
+    final long startNanos = getBridgeMetrics().start();
+
+    // map the elapsed realtime base of the timeline onto wall clock time
+    final long wallClockOffset = System.currentTimeMillis() - SystemClock.elapsedRealtime();
+    WritableArray timelineEntries = Arguments.createArray();
+    for (int position = 0; position < timeline.size(); ++position) {
+      final long time = timeline.getTime(position);
+      timelineEntries.pushMap(jsMap()
+        .putString(CallTimelineEntryEvent, callTimelineEventToString(timeline.getEvent(position)))
+        .putLong(CallTimelineEntryTimestamp, wallClockOffset + time)
+        .putLong(CallTimelineEntryElapsed, time - timeline.getOrigin())
+        .build());
+    }
+    return recordSerialization("serializeCallTimeline", startNanos, timelineEntries);
+  }
+
+  /**
+   * Convert the call timeline event enumeration to a string that the JS layer expects.
+   * @param event The call timeline event
+   * @return A string representing the event
+   */
+  public static String callTimelineEventToString(CallTimeline.Event event) {
+    switch (event) {
+      case INVITE_RECEIVED:
+        return CallTimelineEventInviteReceived;
+      case CONNECT_REQUESTED:
+        return CallTimelineEventConnectRequested;
+      case NOTIFICATION_POSTED:
+        return CallTimelineEventNotificationPosted;
+      case ACCEPT_REQUESTED:
+        return CallTimelineEventAcceptRequested;
+      case ACCEPT_RETURNED:
+        return CallTimelineEventAcceptReturned;
+      case RINGING:
+        return CallTimelineEventRinging;
+      case CONNECTED:
+        return CallTimelineEventConnected;
+      case CONNECT_FAILURE:
+        return CallTimelineEventConnectFailure;
+      case RECONNECTING:
+        return CallTimelineEventReconnecting;
+      case RECONNECTED:
+        return CallTimelineEventReconnected;
+      case DISCONNECTED:
+      default:
+        return CallTimelineEventDisconnected;
+    }
+  }
+
+  /**
+   * Serializes the quality summary of a call over the short & long windows.
+   * @param aggregator the quality aggregator of the call, null if the call has not been sampled
+   * @param shortWindowMs the duration of the short window, in milliseconds
+   * @param longWindowMs the duration of the long window, in milliseconds
+   * @return Serialized quality summary
+   */
+  public static WritableMap serializeCallQualitySummary(@Nullable CallQualityAggregator aggregator,
+                                                        final long shortWindowMs,
+                                                        final long longWindowMs) {
+    final long startNanos = getBridgeMetrics().start();
+
+    final long now = SystemClock.elapsedRealtime();
+    final WritableMap summary = jsMap()
+      .putMap(
+        CallQualitySummaryShortWindow,
+        serializeCallQualityWindow(aggregator, shortWindowMs, now))
+      .putMap(
+        CallQualitySummaryLongWindow,
+        serializeCallQualityWindow(aggregator, longWindowMs, now))
+      .build();
+    return recordSerialization("serializeCallQualitySummary", startNanos, summary);
+  }
+
+  private static WritableMap serializeCallQualityWindow(@Nullable CallQualityAggregator aggregator,
+                                                        final long windowMs,
+                                                        final long now) {
+    return jsMap()
+      .putLong(CallQualityWindowDuration, windowMs)
+      .putMap(
+        CallQualityWindowJitter,
+        serializeCallQualityMetric(aggregator, CallQualityAggregator.Metric.JITTER, windowMs, now))
+      .putMap(
+        CallQualityWindowRtt,
+        serializeCallQualityMetric(aggregator, CallQualityAggregator.Metric.RTT, windowMs, now))
+      .putMap(
+        CallQualityWindowPacketLoss,
+        serializeCallQualityMetric(aggregator, CallQualityAggregator.Metric.PACKET_LOSS, windowMs, now))
+      .putMap(
+        CallQualityWindowMos,
+        serializeCallQualityMetric(aggregator, CallQualityAggregator.Metric.MOS, windowMs, now))
+      .build();
+  }
+
+  private static WritableMap serializeCallQualityMetric(@Nullable CallQualityAggregator aggregator,
+                                                        @NonNull CallQualityAggregator.Metric metric,
+                                                        final long windowMs,
+                                                        final long now) {
+    final JSMapBuilder metricSummary = jsMap();
+    if (null == aggregator) {
+      return metricSummary.putInt(CallQualityMetricSampleCount, 0).build();
+    }
+    final CallQualityAggregator.MetricSummary summary = aggregator.summarize(metric, windowMs, now);
+    metricSummary.putInt(CallQualityMetricSampleCount, summary.getSampleCount());
+    if (summary.getSampleCount() > 0) {
+      metricSummary
+        .putDouble(CallQualityMetricP50, summary.getP50())
+        .putDouble(CallQualityMetricP95, summary.getP95())
+        .putDouble(CallQualityMetricMax, summary.getMax());
+    }
+    if (!Double.isNaN(summary.getTrend())) {
+      metricSummary.putDouble(CallQualityMetricTrend, summary.getTrend());
+    }
+    return metricSummary.build();
+  }
+
+  /**
+   * Convert the call direction enumeration to a string that the JS layer expects.
+   * @param direction The call direction
+   * @return A string representing the direction
+   */
+  public static String callDirectionToString(CallRecord.Direction direction) {
+    return (CallRecord.Direction.OUTGOING == direction)
+      ? CallDirectionOutgoing
+      : CallDirectionIncoming;
+  }
+
+  /**
+   * Convert the call invite state enumeration to a string that the JS layer expects.
+   * @param callInviteState The call invite state
+   * @return A string representing the call invite state
+   */
+  public static String callInviteStateToString(CallRecord.CallInviteState callInviteState) {
+    switch (callInviteState) {
+      case ACTIVE:
+        return CallInviteStateActive;
+      case USED:
+        return CallInviteStateUsed;
+      default:
+        return CallInviteStateNone;
+    }
   }
 
   /**
@@ -150,23 +515,83 @@ class ReactNativeArgumentsSerializer {
    * @return A serialized Call
    */
   public static WritableMap serializeCall(@NonNull final CallRecord callRecord) {
+    final long startNanos = getBridgeMetrics().start();
+
     // validate input
     Objects.requireNonNull(callRecord.getUuid());
-    Objects.requireNonNull(callRecord.getVoiceCall());
+    final Call call = Objects.requireNonNull(callRecord.getVoiceCall());
 
-    // serialize
-    WritableMap callInfo = constructJSMap(
-      new Pair<>(CallInfoUuid, callRecord.getUuid().toString()),
-      new Pair<>(CallInfoSid, callRecord.getVoiceCall().getSid()),
-      new Pair<>(CallInfoFrom, callRecord.getVoiceCall().getFrom()),
-      new Pair<>(CallInfoTo, callRecord.getVoiceCall().getTo()),
-      new Pair<>(CallInfoState, callStateToString(callRecord.getVoiceCall().getState())),
-      new Pair<>(CallInfoIsMuted, callRecord.getVoiceCall().isMuted()),
-      new Pair<>(CallInfoIsOnHold, callRecord.getVoiceCall().isOnHold()),
-      new Pair<>(CallInviteInfoCustomParameters, serializeCallInviteCustomParameters(callRecord.getCallInvite())),
-      new Pair<>(CallInfoInitialConnectedTimestamp, simplifiedISO8601DateTimeFormat(callRecord.getTimestamp()))
-    );
-    return callInfo;
+    // reuse the cached serialization unless the call has changed since
+    final Call.State state = call.getState();
+    final boolean isMuted = call.isMuted();
+    final boolean isOnHold = call.isOnHold();
+    CachedCallInfo cachedCallInfo = callRecord.getCachedCallInfo();
+    if (null == cachedCallInfo ||
+      !cachedCallInfo.matches(call, state, isMuted, isOnHold, callRecord)) {
+      cachedCallInfo = new CachedCallInfo(
+        call,
+        state,
+        isMuted,
+        isOnHold,
+        callRecord,
+        jsMap()
+          .putString(CallInfoUuid, callRecord.getUuid().toString())
+          .putString(CallInfoSid, call.getSid())
+          .putString(CallInfoFrom, call.getFrom())
+          .putString(CallInfoTo, call.getTo())
+          .putString(CallInfoState, callStateToString(state))
+          .putBoolean(CallInfoIsMuted, isMuted)
+          .putBoolean(CallInfoIsOnHold, isOnHold)
+          .putMap(CallInviteInfoCustomParameters, serializeCallInviteCustomParameters(callRecord.getCallInvite()))
+          .putString(CallInfoInitialConnectedTimestamp, simplifiedISO8601DateTimeFormat(callRecord.getTimestamp()))
+          .build());
+      callRecord.setCachedCallInfo(cachedCallInfo);
+    }
+
+    // the cached map is never handed out, bridge maps are consumed when sent to JS
+    return recordSerialization("serializeCall", startNanos, cachedCallInfo.callInfo.copy());
+  }
+
+  /**
+   * A serialized call, along with the call properties it was serialized from. Cached on the call
+   * record so calls that have not changed are not serialized again.
+   */
+  static class CachedCallInfo {
+    private final Call call;
+    private final Call.State state;
+    private final boolean isMuted;
+    private final boolean isOnHold;
+    private final Date timestamp;
+    private final CallInvite callInvite;
+    private final WritableMap callInfo;
+
+    private CachedCallInfo(@NonNull final Call call,
+                           @NonNull final Call.State state,
+                           final boolean isMuted,
+                           final boolean isOnHold,
+                           @NonNull final CallRecord callRecord,
+                           @NonNull final WritableMap callInfo) {
+      this.call = call;
+      this.state = state;
+      this.isMuted = isMuted;
+      this.isOnHold = isOnHold;
+      this.timestamp = callRecord.getTimestamp();
+      this.callInvite = callRecord.getCallInvite();
+      this.callInfo = callInfo;
+    }
+
+    private boolean matches(@NonNull final Call call,
+                            @NonNull final Call.State state,
+                            final boolean isMuted,
+                            final boolean isOnHold,
+                            @NonNull final CallRecord callRecord) {
+      return this.call == call &&
+        this.state == state &&
+        this.isMuted == isMuted &&
+        this.isOnHold == isOnHold &&
+        this.timestamp == callRecord.getTimestamp() &&
+        this.callInvite == callRecord.getCallInvite();
+    }
   }
 
   /**
@@ -178,10 +603,11 @@ class ReactNativeArgumentsSerializer {
   public static WritableMap serializeAudioDevice(String uuid, @Nullable AudioDevice audioDevice) {
     if (null != audioDevice) {
       String type = audioDevice.getClass().getSimpleName();
-      return constructJSMap(
-        new Pair<>(AudioDeviceKeyUuid, uuid),
-        new Pair<>(AudioDeviceKeyName, audioDevice.getName()),
-        new Pair<>(AudioDeviceKeyType, AudioSwitchManager.AUDIO_DEVICE_TYPE.get(type)));
+      return jsMap()
+        .putString(AudioDeviceKeyUuid, uuid)
+        .putString(AudioDeviceKeyName, audioDevice.getName())
+        .putString(AudioDeviceKeyType, AudioSwitchManager.AUDIO_DEVICE_TYPE.get(type))
+        .build();
     }
     return null;
   }
@@ -207,25 +633,49 @@ class ReactNativeArgumentsSerializer {
 
   /**
    * Serializes all audio device information.
-   * @param audioDevices A map of UUIDs to AudioDevices
-   * @param selectedAudioDeviceUuid The UUID of the selected audio device
-   * @param selectedAudioDevice The selected audio device
+   * @param snapshot A snapshot of the audio devices
    * @return Serialized audio device information
    */
-  public static WritableMap serializeAudioDeviceInfo(
-    Map<String, AudioDevice> audioDevices,
-    String selectedAudioDeviceUuid,
-    AudioDevice selectedAudioDevice) {
-    return constructJSMap(
-      new Pair<>(AudioDeviceKeyAudioDevices, serializeAudioDeviceMapIntoArray(audioDevices)),
-      new Pair<>(AudioDeviceKeySelectedDevice, serializeAudioDevice(selectedAudioDeviceUuid, selectedAudioDevice)));
+  public static WritableMap serializeAudioDeviceInfo(@NonNull final AudioSwitchManager.Snapshot snapshot) {
+    final long startNanos = getBridgeMetrics().start();
+    return recordSerialization("serializeAudioDeviceInfo", startNanos, jsMap()
+      .putArray(AudioDeviceKeyAudioDevices, serializeAudioDeviceMapIntoArray(snapshot.getAudioDevices()))
+      .putMap(AudioDeviceKeySelectedDevice,
+        serializeAudioDevice(snapshot.getSelectedAudioDeviceUuid(), snapshot.getSelectedAudioDevice()))
+      .putInt(AudioDeviceKeyRevision, snapshot.getRevision())
+      .build());
+  }
+
+  /**
+   * Serializes a change of the audio devices.
+   * @param snapshot A snapshot of the audio devices after the change
+   * @param addedAudioDevices A map of UUIDs to the AudioDevices added by the change
+   * @param removedAudioDeviceUuids The UUIDs of the AudioDevices removed by the change
+   * @return A serialized audio device change
+   */
+  public static WritableMap serializeAudioDeviceChange(
+    @NonNull final AudioSwitchManager.Snapshot snapshot,
+    @NonNull final Map<String, AudioDevice> addedAudioDevices,
+    @NonNull final List<String> removedAudioDeviceUuids) {
+    final long startNanos = getBridgeMetrics().start();
+    WritableArray removedDeviceUuids = Arguments.createArray();
+    for (String uuid : removedAudioDeviceUuids) {
+      removedDeviceUuids.pushString(uuid);
+    }
+    return recordSerialization("serializeAudioDeviceChange", startNanos, jsMap()
+      .putInt(AudioDeviceKeyRevision, snapshot.getRevision())
+      .putArray(AudioDeviceKeyAddedDevices, serializeAudioDeviceMapIntoArray(addedAudioDevices))
+      .putArray(AudioDeviceKeyRemovedDeviceUuids, removedDeviceUuids)
+      .putString(AudioDeviceKeySelectedDeviceUuid, snapshot.getSelectedAudioDeviceUuid())
+      .build());
   }
 
   public static WritableMap serializeVoiceException(VoiceException exception) {
     if (null != exception) {
-      return constructJSMap(
-        new Pair<>(VoiceErrorKeyCode, exception.getErrorCode()),
-        new Pair<>(VoiceErrorKeyMessage, exception.getMessage()));
+      return jsMap()
+        .putInt(VoiceErrorKeyCode, exception.getErrorCode())
+        .putString(VoiceErrorKeyMessage, exception.getMessage())
+        .build();
     }
     return null;
   }
@@ -238,30 +688,30 @@ class ReactNativeArgumentsSerializer {
 
   public static WritableMap serializeError(int code, String message) {
     if (null != message) {
-      return constructJSMap(
-        new Pair<>(VoiceErrorKeyCode, code),
-        new Pair<>(VoiceErrorKeyMessage, message)
-      );
+      return jsMap()
+        .putInt(VoiceErrorKeyCode, code)
+        .putString(VoiceErrorKeyMessage, message)
+        .build();
     }
     return null;
   }
 
   public static WritableMap serializePromiseResolution(Object resolutionValue) {
-    return constructJSMap(
-      new Pair<>(CommonConstants.PromiseKeyStatus, CommonConstants.PromiseStatusValueResolved),
-      new Pair<>(CommonConstants.PromiseKeyValue, resolutionValue)
-    );
+    return jsMap()
+      .putString(CommonConstants.PromiseKeyStatus, CommonConstants.PromiseStatusValueResolved)
+      .putValue(CommonConstants.PromiseKeyValue, resolutionValue)
+      .build();
   }
 
   /**
    * Coded errors are errors related to a backend error code.
    */
   public static WritableMap serializePromiseErrorWithCode(int code, String message) {
-    return constructJSMap(
-      new Pair<>(CommonConstants.PromiseKeyStatus, CommonConstants.PromiseStatusValueRejectedWithCode),
-      new Pair<>(CommonConstants.PromiseKeyErrorCode, code),
-      new Pair<>(CommonConstants.PromiseKeyErrorMessage, message)
-    );
+    return jsMap()
+      .putString(CommonConstants.PromiseKeyStatus, CommonConstants.PromiseStatusValueRejectedWithCode)
+      .putInt(CommonConstants.PromiseKeyErrorCode, code)
+      .putString(CommonConstants.PromiseKeyErrorMessage, message)
+      .build();
   }
 
   /**
@@ -269,11 +719,38 @@ class ReactNativeArgumentsSerializer {
    * For example, InvalidStateError and InvalidArgumentError.
    */
   public static WritableMap serializePromiseErrorWithName(String name, String message) {
-    return constructJSMap(
-      new Pair<>(CommonConstants.PromiseKeyStatus, CommonConstants.PromiseStatusValueRejectedWithName),
-      new Pair<>(CommonConstants.PromiseKeyErrorName, name),
-      new Pair<>(CommonConstants.PromiseKeyErrorMessage, message)
-    );
+    return jsMap()
+      .putString(CommonConstants.PromiseKeyStatus, CommonConstants.PromiseStatusValueRejectedWithName)
+      .putString(CommonConstants.PromiseKeyErrorName, name)
+      .putString(CommonConstants.PromiseKeyErrorMessage, message)
+      .build();
+  }
+
+  /**
+   * Serializes the metrics of a degrading call.
+   * @param metrics the degrading metrics
+   * @return A serialized array of metric names
+   */
+  public static WritableArray serializeCallQualityDegradingMetrics(
+    @NonNull List<CallQualityAggregator.Metric> metrics) {
+    WritableArray metricsArray = Arguments.createArray();
+    for (CallQualityAggregator.Metric metric : metrics) {
+      switch (metric) {
+        case JITTER:
+          metricsArray.pushString(CallQualityDegradingMetricJitter);
+          break;
+        case RTT:
+          metricsArray.pushString(CallQualityDegradingMetricRtt);
+          break;
+        case PACKET_LOSS:
+          metricsArray.pushString(CallQualityDegradingMetricPacketLoss);
+          break;
+        case AVAILABLE_BITRATE:
+          metricsArray.pushString(CallQualityDegradingMetricAvailableBitrate);
+          break;
+      }
+    }
+    return metricsArray;
   }
 
   public static WritableArray serializeCallQualityWarnings(@NonNull Set<Call.CallQualityWarning> warnings) {
@@ -290,12 +767,32 @@ class ReactNativeArgumentsSerializer {
    * @return A serialized Call
    */
   public static WritableMap serializeCallMessage(@NonNull final CallMessage callMessage) {
-    return constructJSMap(
-      new Pair<>(VoiceEventSid, callMessage.getVoiceEventSID()),
-      new Pair<>(CallMessageContent, callMessage.getContent()),
-      new Pair<>(CallMessageContentType, callMessage.getMessageContentType()),
-      new Pair<>(CallMessageMessageType, callMessage.getMessageType())
-    );
+    final long startNanos = getBridgeMetrics().start();
+    return recordSerialization("serializeCallMessage", startNanos, jsMap()
+      .putString(VoiceEventSid, callMessage.getVoiceEventSID())
+      .putString(CallMessageContent, callMessage.getContent())
+      .putString(CallMessageContentType, callMessage.getMessageContentType())
+      .putString(CallMessageMessageType, callMessage.getMessageType())
+      .build());
+  }
+
+  /**
+   * Records a serializer entry point in the bridge metrics.
+   * @param entryPoint The name of the entry point
+   * @param startNanos The start time of the serialization, see {@link BridgeMetrics#start}
+   * @param payload The serialized payload, not yet sent to the JS layer
+   * @return The serialized payload
+   */
+  private static <T> T recordSerialization(final String entryPoint,
+                                           final long startNanos,
+                                           final T payload) {
+    final BridgeMetrics metrics = getBridgeMetrics();
+    metrics.record(
+      BridgeMetrics.Category.SERIALIZER,
+      entryPoint,
+      startNanos,
+      metrics.countFieldsIfEnabled(payload));
+    return payload;
   }
 
   private static String simplifiedISO8601DateTimeFormat(final Date date) {
@@ -1,8 +1,9 @@
 package com.twiliovoicereactnative;
 
+import static com.twiliovoicereactnative.JSMapBuilder.jsMap;
+
 import android.content.Context;
 import android.util.Log;
-import android.util.Pair;
 import com.facebook.react.bridge.WritableMap;
 import com.twilio.voice.RegistrationException;
 import com.twilio.voice.RegistrationListener;
@@ -17,9 +18,9 @@ public class RegistrationListenerProxy {
       public void onRegistered(String accessToken, String fcmToken) {
         Log.d(TAG, "Successfully registered FCM");
 
-        final WritableMap payload = JSEventEmitter.constructJSMap(
-          new Pair(CommonConstants.VoiceEventType, CommonConstants.VoiceEventRegistered)
-        );
+        final WritableMap payload = jsMap()
+          .putString(CommonConstants.VoiceEventType, CommonConstants.VoiceEventRegistered)
+          .build();
         VoiceApplicationProxy.getJSEventEmitter().sendEvent(CommonConstants.ScopeVoice, payload);
         promise.resolve(null);
       }
@@ -37,16 +38,10 @@ public class RegistrationListenerProxy {
         );
         Log.e(TAG, errorMessage);
 
-        final WritableMap payload = JSEventEmitter.constructJSMap(
-          new Pair(
-            CommonConstants.VoiceEventType,
-            CommonConstants.VoiceEventError
-          ),
-          new Pair(
-            CommonConstants.VoiceErrorKeyError,
-            ReactNativeArgumentsSerializer.serializeVoiceException(registrationException)
-          )
-        );
+        final WritableMap payload = jsMap()
+          .putString(CommonConstants.VoiceEventType, CommonConstants.VoiceEventError)
+          .putMap(CommonConstants.VoiceErrorKeyError, ReactNativeArgumentsSerializer.serializeVoiceException(registrationException))
+          .build();
         VoiceApplicationProxy.getJSEventEmitter().sendEvent(CommonConstants.ScopeVoice, payload);
         promise.rejectWithCode(
           registrationException.getErrorCode(),
@@ -61,9 +56,9 @@ public class RegistrationListenerProxy {
       @Override
       public void onUnregistered(String accessToken, String fcmToken) {
         Log.d(TAG, "Successfully unregistered FCM");
-        final WritableMap payload = JSEventEmitter.constructJSMap(
-          new Pair(CommonConstants.VoiceEventType, CommonConstants.VoiceEventUnregistered)
-        );
+        final WritableMap payload = jsMap()
+          .putString(CommonConstants.VoiceEventType, CommonConstants.VoiceEventUnregistered)
+          .build();
         VoiceApplicationProxy.getJSEventEmitter().sendEvent(CommonConstants.ScopeVoice, payload);
         promise.resolve(null);
       }
@@ -76,10 +71,10 @@ public class RegistrationListenerProxy {
           registrationException.getMessage()
         );
         Log.e(TAG, errorMessage);
-        final WritableMap payload = JSEventEmitter.constructJSMap(
-          new Pair(CommonConstants.VoiceEventType, CommonConstants.VoiceEventError),
-          new Pair(CommonConstants.VoiceErrorKeyError, ReactNativeArgumentsSerializer.serializeVoiceException(registrationException))
-        );
+        final WritableMap payload = jsMap()
+          .putString(CommonConstants.VoiceEventType, CommonConstants.VoiceEventError)
+          .putMap(CommonConstants.VoiceErrorKeyError, ReactNativeArgumentsSerializer.serializeVoiceException(registrationException))
+          .build();
         VoiceApplicationProxy.getJSEventEmitter().sendEvent(CommonConstants.ScopeVoice, payload);
         promise.rejectWithCode(registrationException.getErrorCode(), registrationException.getMessage());
       }
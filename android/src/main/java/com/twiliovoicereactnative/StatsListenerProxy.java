@@ -1,18 +1,15 @@
 package com.twiliovoicereactnative;
 
 import java.util.List;
-import java.util.Vector;
+import java.util.Set;
 
 import android.content.Context;
-import android.util.Pair;
 
 import androidx.annotation.NonNull;
-
-import org.json.JSONException;
+import androidx.annotation.Nullable;
 
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.WritableArray;
-import com.facebook.react.bridge.WritableMap;
 import com.twilio.voice.IceCandidatePairState;
 import com.twilio.voice.IceCandidatePairStats;
 import com.twilio.voice.IceCandidateStats;
@@ -21,147 +18,180 @@ import com.twilio.voice.RemoteAudioTrackStats;
 import com.twilio.voice.StatsListener;
 import com.twilio.voice.StatsReport;
 
-import static com.twiliovoicereactnative.JSEventEmitter.constructJSArray;
-import static com.twiliovoicereactnative.JSEventEmitter.constructJSMap;
+import static com.twiliovoicereactnative.JSMapBuilder.jsMap;
 
 class StatsListenerProxy implements StatsListener {
-  private final SDKLog logger = new SDKLog(StatsListenerProxy.class);
-
   private final ModuleProxy.UniversalPromise promise;
+  private final StatsProjection projection;
 
-  public StatsListenerProxy(ModuleProxy.UniversalPromise promise) {
+  public StatsListenerProxy(ModuleProxy.UniversalPromise promise,
+                            @Nullable StatsProjection projection) {
     this.promise = promise;
+    this.projection = projection;
   }
 
   @Override
   public void onStats(@NonNull List<StatsReport> statsReports) {
-    try {
-      WritableArray statsReportsArray = Arguments.createArray();
-      for (StatsReport statsReport : statsReports)  {
-        statsReportsArray.pushMap(constructJSMap(
-          new Pair<>(
-            CommonConstants.PeerConnectionId,
-            statsReport.getPeerConnectionId()),
-          new Pair<>(
-            CommonConstants.LocalAudioTrackStats,
-            constructJSArray(jsonWithLocalAudioTrackStats(statsReport.getLocalAudioTrackStats()))),
-          new Pair<>(
-            CommonConstants.RemoteAudioTrackStats,
-            constructJSArray(jsonWithRemoteAudioTrackStats(statsReport.getRemoteAudioTrackStats()))),
-          new Pair<>(
-            CommonConstants.IceCandidatePairStats,
-            constructJSArray(jsonWithIceCandidatePairStats(statsReport.getIceCandidatePairStats()))),
-          new Pair<>(
-            CommonConstants.IceCandidateStats,
-            constructJSArray(jsonWithIceCandidateStats(statsReport.getIceCandidateStats())))));
+    promise.resolve(serializeStatsReports(statsReports, projection));
+  }
+
+  /**
+   * Serialize stats reports for the JS layer, straight into the resulting array. Sections & fields
+   * that are not requested are never serialized.
+   * @param statsReports the stats reports
+   * @param projection the requested sections & fields, null for every field. The peer connection
+   *                   ID is always serialized.
+   * @return the serialized stats reports
+   */
+  public static WritableArray serializeStatsReports(@NonNull List<StatsReport> statsReports,
+                                                    @Nullable StatsProjection projection) {
+    WritableArray statsReportsArray = Arguments.createArray();
+    for (StatsReport statsReport : statsReports)  {
+      final JSMapBuilder statsReportMap = jsMap()
+        .putString(
+          CommonConstants.PeerConnectionId,
+          statsReport.getPeerConnectionId());
+      if (StatsProjection.includes(projection, CommonConstants.LocalAudioTrackStats)) {
+        statsReportMap.putArray(
+          CommonConstants.LocalAudioTrackStats,
+          jsonWithLocalAudioTrackStats(
+            statsReport.getLocalAudioTrackStats(),
+            StatsProjection.getFields(projection, CommonConstants.LocalAudioTrackStats)));
+      }
+      if (StatsProjection.includes(projection, CommonConstants.RemoteAudioTrackStats)) {
+        statsReportMap.putArray(
+          CommonConstants.RemoteAudioTrackStats,
+          jsonWithRemoteAudioTrackStats(
+            statsReport.getRemoteAudioTrackStats(),
+            StatsProjection.getFields(projection, CommonConstants.RemoteAudioTrackStats)));
+      }
+      if (StatsProjection.includes(projection, CommonConstants.IceCandidatePairStats)) {
+        statsReportMap.putArray(
+          CommonConstants.IceCandidatePairStats,
+          jsonWithIceCandidatePairStats(
+            statsReport.getIceCandidatePairStats(),
+            StatsProjection.getFields(projection, CommonConstants.IceCandidatePairStats)));
+      }
+      if (StatsProjection.includes(projection, CommonConstants.IceCandidateStats)) {
+        statsReportMap.putArray(
+          CommonConstants.IceCandidateStats,
+          jsonWithIceCandidateStats(
+            statsReport.getIceCandidateStats(),
+            StatsProjection.getFields(projection, CommonConstants.IceCandidateStats)));
       }
-      promise.resolve(statsReportsArray);
-    } catch (JSONException exception) {
-      logger.warning(exception.toString());
-      promise.rejectWithName(CommonConstants.ErrorCodeInvalidStateError, exception.getMessage());
+      statsReportsArray.pushMap(statsReportMap.build());
     }
+    return statsReportsArray;
   }
 
-  private Object[] jsonWithLocalAudioTrackStats(List<LocalAudioTrackStats> audioTrackStatsList) throws JSONException {
-    Vector<WritableMap> mapList = new Vector<>();
+  private static WritableArray jsonWithLocalAudioTrackStats(List<LocalAudioTrackStats> audioTrackStatsList,
+                                                            @Nullable Set<String> fields) {
+    WritableArray mapList = Arguments.createArray();
     for (LocalAudioTrackStats localAudioTrackStats: audioTrackStatsList) {
-      mapList.add(
-        constructJSMap(
+      mapList.pushMap(
+        jsMap(fields)
           // Base track stats
-          new Pair<>(CommonConstants.Codec, localAudioTrackStats.codec),
-          new Pair<>(CommonConstants.PacketsLost, localAudioTrackStats.packetsLost),
-          new Pair<>(CommonConstants.Ssrc, localAudioTrackStats.ssrc),
-          new Pair<>(CommonConstants.Timestamp, localAudioTrackStats.timestamp),
-          new Pair<>(CommonConstants.TrackId, localAudioTrackStats.trackId),
+          .putString(CommonConstants.Codec, localAudioTrackStats.codec)
+          .putInt(CommonConstants.PacketsLost, localAudioTrackStats.packetsLost)
+          .putString(CommonConstants.Ssrc, localAudioTrackStats.ssrc)
+          .putDouble(CommonConstants.Timestamp, localAudioTrackStats.timestamp)
+          .putString(CommonConstants.TrackId, localAudioTrackStats.trackId)
           // Local track stats
-          new Pair<>(CommonConstants.BytesSent, localAudioTrackStats.bytesSent),
-          new Pair<>(CommonConstants.PacketsSent, localAudioTrackStats.packetsSent),
-          new Pair<>(CommonConstants.RoundTripTime, localAudioTrackStats.roundTripTime),
+          .putLong(CommonConstants.BytesSent, localAudioTrackStats.bytesSent)
+          .putInt(CommonConstants.PacketsSent, localAudioTrackStats.packetsSent)
+          .putLong(CommonConstants.RoundTripTime, localAudioTrackStats.roundTripTime)
           // Local audio track stats
-          new Pair<>(CommonConstants.AudioLevel, localAudioTrackStats.audioLevel),
-          new Pair<>(CommonConstants.Jitter, localAudioTrackStats.jitter)));
+          .putInt(CommonConstants.AudioLevel, localAudioTrackStats.audioLevel)
+          .putInt(CommonConstants.Jitter, localAudioTrackStats.jitter)
+          .build());
     }
-    return mapList.toArray();
+    return mapList;
   }
 
-  private Object[] jsonWithRemoteAudioTrackStats(List<RemoteAudioTrackStats> audioTrackStatsList) throws JSONException {
-    Vector<WritableMap> mapList = new Vector<>();
+  private static WritableArray jsonWithRemoteAudioTrackStats(List<RemoteAudioTrackStats> audioTrackStatsList,
+                                                             @Nullable Set<String> fields) {
+    WritableArray mapList = Arguments.createArray();
     for (RemoteAudioTrackStats remoteAudioTrackStats: audioTrackStatsList) {
-      mapList.add(
-        constructJSMap(
+      mapList.pushMap(
+        jsMap(fields)
         // Base track stats
-        new Pair<>(CommonConstants.Codec, remoteAudioTrackStats.codec),
-        new Pair<>(CommonConstants.PacketsLost, remoteAudioTrackStats.packetsLost),
-        new Pair<>(CommonConstants.Ssrc, remoteAudioTrackStats.ssrc),
-        new Pair<>(CommonConstants.Timestamp, remoteAudioTrackStats.timestamp),
-        new Pair<>(CommonConstants.TrackId, remoteAudioTrackStats.trackId),
+        .putString(CommonConstants.Codec, remoteAudioTrackStats.codec)
+        .putInt(CommonConstants.PacketsLost, remoteAudioTrackStats.packetsLost)
+        .putString(CommonConstants.Ssrc, remoteAudioTrackStats.ssrc)
+        .putDouble(CommonConstants.Timestamp, remoteAudioTrackStats.timestamp)
+        .putString(CommonConstants.TrackId, remoteAudioTrackStats.trackId)
         // Remote track stats
-        new Pair<>(CommonConstants.BytesReceived, remoteAudioTrackStats.bytesReceived),
-        new Pair<>(CommonConstants.PacketsReceived, remoteAudioTrackStats.packetsReceived),
+        .putLong(CommonConstants.BytesReceived, remoteAudioTrackStats.bytesReceived)
+        .putInt(CommonConstants.PacketsReceived, remoteAudioTrackStats.packetsReceived)
         // Remote audio track stats
-        new Pair<>(CommonConstants.AudioLevel, remoteAudioTrackStats.audioLevel),
-        new Pair<>(CommonConstants.Jitter, remoteAudioTrackStats.jitter),
-        new Pair<>(CommonConstants.Mos, remoteAudioTrackStats.mos)));
+        .putInt(CommonConstants.AudioLevel, remoteAudioTrackStats.audioLevel)
+        .putInt(CommonConstants.Jitter, remoteAudioTrackStats.jitter)
+        .putDouble(CommonConstants.Mos, remoteAudioTrackStats.mos)
+        .build());
     }
-    return mapList.toArray();
+    return mapList;
   }
 
-  private Object[] jsonWithIceCandidatePairStats(List<IceCandidatePairStats> iceCandidatePairStatsList) throws JSONException {
-    Vector<WritableMap> mapList = new Vector<>();
+  private static WritableArray jsonWithIceCandidatePairStats(List<IceCandidatePairStats> iceCandidatePairStatsList,
+                                                             @Nullable Set<String> fields) {
+    WritableArray mapList = Arguments.createArray();
     for (IceCandidatePairStats iceCandidatePairStats: iceCandidatePairStatsList) {
-      mapList.add(
-        constructJSMap(
-          new Pair<>(CommonConstants.ActiveCandidatePair, iceCandidatePairStats.activeCandidatePair),
-          new Pair<>(CommonConstants.AvailableIncomingBitrate, iceCandidatePairStats.availableIncomingBitrate),
-          new Pair<>(CommonConstants.AvailableOutgoingBitrate, iceCandidatePairStats.availableOutgoingBitrate),
-          new Pair<>(CommonConstants.BytesReceived, iceCandidatePairStats.bytesReceived),
-          new Pair<>(CommonConstants.BytesSent, iceCandidatePairStats.bytesSent),
-          new Pair<>(CommonConstants.ConsentRequestsReceived, iceCandidatePairStats.consentRequestsReceived),
-          new Pair<>(CommonConstants.ConsentRequestsSent, iceCandidatePairStats.consentRequestsSent),
-          new Pair<>(CommonConstants.ConsentResponsesReceived, iceCandidatePairStats.consentResponsesReceived),
-          new Pair<>(CommonConstants.ConsentResponsesSent, iceCandidatePairStats.consentResponsesSent),
-          new Pair<>(CommonConstants.CurrentRoundTripTime, iceCandidatePairStats.currentRoundTripTime),
-          new Pair<>(CommonConstants.LocalCandidateId, iceCandidatePairStats.localCandidateId),
-          new Pair<>(CommonConstants.LocalCandidateIp, iceCandidatePairStats.localCandidateIp),
-          new Pair<>(CommonConstants.Nominated, iceCandidatePairStats.nominated),
-          new Pair<>(CommonConstants.Priority, iceCandidatePairStats.priority),
-          new Pair<>(CommonConstants.Readable, iceCandidatePairStats.readable),
-          new Pair<>(CommonConstants.RelayProtocol, iceCandidatePairStats.relayProtocol),
-          new Pair<>(CommonConstants.RemoteCandidateId, iceCandidatePairStats.remoteCandidateId),
-          new Pair<>(CommonConstants.RemoteCandidateIp, iceCandidatePairStats.remoteCandidateIp),
-          new Pair<>(CommonConstants.RequestsReceived, iceCandidatePairStats.requestsReceived),
-          new Pair<>(CommonConstants.RequestsSent, iceCandidatePairStats.requestsSent),
-          new Pair<>(CommonConstants.ResponsesReceived, iceCandidatePairStats.responsesReceived),
-          new Pair<>(CommonConstants.ResponsesSent, iceCandidatePairStats.responsesSent),
-          new Pair<>(CommonConstants.RetransmissionsReceived, iceCandidatePairStats.retransmissionsReceived),
-          new Pair<>(CommonConstants.RetransmissionsSent, iceCandidatePairStats.retransmissionsSent),
-          new Pair<>(CommonConstants.State, stringWithIceCandidatePairState(iceCandidatePairStats.state)),
-          new Pair<>(CommonConstants.TotalRoundTripTime, iceCandidatePairStats.totalRoundTripTime),
-          new Pair<>(CommonConstants.TransportId, iceCandidatePairStats.transportId),
-          new Pair<>(CommonConstants.Writeable, iceCandidatePairStats.writeable)));
+      mapList.pushMap(
+        jsMap(fields)
+          .putBoolean(CommonConstants.ActiveCandidatePair, iceCandidatePairStats.activeCandidatePair)
+          .putDouble(CommonConstants.AvailableIncomingBitrate, iceCandidatePairStats.availableIncomingBitrate)
+          .putDouble(CommonConstants.AvailableOutgoingBitrate, iceCandidatePairStats.availableOutgoingBitrate)
+          .putLong(CommonConstants.BytesReceived, iceCandidatePairStats.bytesReceived)
+          .putLong(CommonConstants.BytesSent, iceCandidatePairStats.bytesSent)
+          .putLong(CommonConstants.ConsentRequestsReceived, iceCandidatePairStats.consentRequestsReceived)
+          .putLong(CommonConstants.ConsentRequestsSent, iceCandidatePairStats.consentRequestsSent)
+          .putLong(CommonConstants.ConsentResponsesReceived, iceCandidatePairStats.consentResponsesReceived)
+          .putLong(CommonConstants.ConsentResponsesSent, iceCandidatePairStats.consentResponsesSent)
+          .putDouble(CommonConstants.CurrentRoundTripTime, iceCandidatePairStats.currentRoundTripTime)
+          .putString(CommonConstants.LocalCandidateId, iceCandidatePairStats.localCandidateId)
+          .putString(CommonConstants.LocalCandidateIp, iceCandidatePairStats.localCandidateIp)
+          .putBoolean(CommonConstants.Nominated, iceCandidatePairStats.nominated)
+          .putLong(CommonConstants.Priority, iceCandidatePairStats.priority)
+          .putBoolean(CommonConstants.Readable, iceCandidatePairStats.readable)
+          .putString(CommonConstants.RelayProtocol, iceCandidatePairStats.relayProtocol)
+          .putString(CommonConstants.RemoteCandidateId, iceCandidatePairStats.remoteCandidateId)
+          .putString(CommonConstants.RemoteCandidateIp, iceCandidatePairStats.remoteCandidateIp)
+          .putLong(CommonConstants.RequestsReceived, iceCandidatePairStats.requestsReceived)
+          .putLong(CommonConstants.RequestsSent, iceCandidatePairStats.requestsSent)
+          .putLong(CommonConstants.ResponsesReceived, iceCandidatePairStats.responsesReceived)
+          .putLong(CommonConstants.ResponsesSent, iceCandidatePairStats.responsesSent)
+          .putLong(CommonConstants.RetransmissionsReceived, iceCandidatePairStats.retransmissionsReceived)
+          .putLong(CommonConstants.RetransmissionsSent, iceCandidatePairStats.retransmissionsSent)
+          .putString(CommonConstants.State, stringWithIceCandidatePairState(iceCandidatePairStats.state))
+          .putDouble(CommonConstants.TotalRoundTripTime, iceCandidatePairStats.totalRoundTripTime)
+          .putString(CommonConstants.TransportId, iceCandidatePairStats.transportId)
+          .putBoolean(CommonConstants.Writeable, iceCandidatePairStats.writeable)
+          .build());
     }
-    return mapList.toArray();
+    return mapList;
   }
 
-  private Object[] jsonWithIceCandidateStats(List<IceCandidateStats> iceCandidateStatsList) throws JSONException {
-    Vector<WritableMap> mapList = new Vector<>();
+  private static WritableArray jsonWithIceCandidateStats(List<IceCandidateStats> iceCandidateStatsList,
+                                                         @Nullable Set<String> fields) {
+    WritableArray mapList = Arguments.createArray();
     for (IceCandidateStats iceCandidateStats: iceCandidateStatsList) {
-      mapList.add(
-        constructJSMap(
-          new Pair<>(CommonConstants.CandidateType, iceCandidateStats.candidateType),
-          new Pair<>(CommonConstants.Deleted, iceCandidateStats.deleted),
-          new Pair<>(CommonConstants.Ip, iceCandidateStats.ip),
-          new Pair<>(CommonConstants.IsRemote, iceCandidateStats.isRemote),
-          new Pair<>(CommonConstants.Port, iceCandidateStats.port),
-          new Pair<>(CommonConstants.Priority, iceCandidateStats.priority),
-          new Pair<>(CommonConstants.Protocol, iceCandidateStats.protocol),
-          new Pair<>(CommonConstants.TransportId, iceCandidateStats.transportId),
-          new Pair<>(CommonConstants.Url, iceCandidateStats.url)));
+      mapList.pushMap(
+        jsMap(fields)
+          .putString(CommonConstants.CandidateType, iceCandidateStats.candidateType)
+          .putBoolean(CommonConstants.Deleted, iceCandidateStats.deleted)
+          .putString(CommonConstants.Ip, iceCandidateStats.ip)
+          .putBoolean(CommonConstants.IsRemote, iceCandidateStats.isRemote)
+          .putInt(CommonConstants.Port, iceCandidateStats.port)
+          .putInt(CommonConstants.Priority, iceCandidateStats.priority)
+          .putString(CommonConstants.Protocol, iceCandidateStats.protocol)
+          .putString(CommonConstants.TransportId, iceCandidateStats.transportId)
+          .putString(CommonConstants.Url, iceCandidateStats.url)
+          .build());
     }
-    return mapList.toArray();
+    return mapList;
   }
 
-  private String stringWithIceCandidatePairState(IceCandidatePairState state) {
+  private static String stringWithIceCandidatePairState(IceCandidatePairState state) {
     return switch (state) {
       case STATE_FAILED -> CommonConstants.StateFailed;
       case STATE_FROZEN -> CommonConstants.StateFrozen;
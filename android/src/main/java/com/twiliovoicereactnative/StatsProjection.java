@@ -0,0 +1,84 @@
+package com.twiliovoicereactnative;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The sections & fields of a stats report requested by the JS layer. A field is requested either
+ * by its section, such as {@link CommonConstants#LocalAudioTrackStats}, which requests every field
+ * of the section, or by its path within the section, such as {@code localAudioTrackStats.jitter}.
+ * <p>
+ * Sections & fields that are not requested are never serialized. Unknown sections & fields match
+ * nothing. The peer connection ID is always serialized.
+ */
+class StatsProjection {
+  private static final char PATH_SEPARATOR = '.';
+
+  /**
+   * Requested fields by section, a null set requests every field of its section.
+   */
+  private final Map<String, Set<String>> sections = new HashMap<>();
+
+  private StatsProjection() {}
+
+  /**
+   * Parse the fields requested by the JS layer.
+   * @param fields sections & field paths, null for every field
+   * @return the projection, null for every field
+   */
+  @Nullable
+  public static StatsProjection parse(@Nullable final List<String> fields) {
+    if (null == fields) {
+      return null;
+    }
+    final StatsProjection projection = new StatsProjection();
+    for (String field: fields) {
+      final int separator = field.indexOf(PATH_SEPARATOR);
+      if (-1 == separator) {
+        projection.sections.put(field, null);
+        continue;
+      }
+      final String section = field.substring(0, separator);
+      if (projection.sections.containsKey(section) && null == projection.sections.get(section)) {
+        // the whole section is already requested
+        continue;
+      }
+      Set<String> sectionFields = projection.sections.get(section);
+      if (null == sectionFields) {
+        sectionFields = new HashSet<>();
+        projection.sections.put(section, sectionFields);
+      }
+      sectionFields.add(field.substring(separator + 1));
+    }
+    return projection;
+  }
+
+  /**
+   * Check whether a section of a stats report is requested.
+   * @param projection the projection, null for every field
+   * @param section the section
+   * @return true if the section or any of its fields is requested
+   */
+  public static boolean includes(@Nullable final StatsProjection projection,
+                                 @NonNull final String section) {
+    return null == projection || projection.sections.containsKey(section);
+  }
+
+  /**
+   * Get the requested fields of a section of a stats report.
+   * @param projection the projection, null for every field
+   * @param section the section, must be requested
+   * @return the requested fields, null for every field
+   */
+  @Nullable
+  public static Set<String> getFields(@Nullable final StatsProjection projection,
+                                      @NonNull final String section) {
+    return (null != projection) ? projection.sections.get(section) : null;
+  }
+}
@@ -0,0 +1,173 @@
+package com.twiliovoicereactnative;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.twiliovoicereactnative.JSMapBuilder.jsMap;
+
+/**
+ * Encodes consecutive stats reports of a call as deltas. Between samples most of a report does not
+ * change (candidates, addresses, transport IDs, codecs), so a delta only carries the fields that
+ * changed, and counters as their increment since the previous report.
+ * <p>
+ * A delta has the shape of the previous report: an array with a map per stats report, holding
+ * only the sections that changed, each an array with a map per stats entry holding only the fields
+ * that changed. When the shape of the report changes, such as when a candidate is gathered, the
+ * report cannot be encoded as a delta and must be sent in full.
+ * <p>
+ * Deltas are only meaningful to a receiver that has applied every previous one, so they must not
+ * be coalesced.
+ */
+class StatsReportDeltaEncoder {
+  /**
+   * Stats entry fields that are sent as their increment since the previous report.
+   */
+  static final Set<String> COUNTER_FIELDS = new HashSet<>(Arrays.asList(
+    CommonConstants.BytesReceived,
+    CommonConstants.BytesSent,
+    CommonConstants.ConsentRequestsReceived,
+    CommonConstants.ConsentRequestsSent,
+    CommonConstants.ConsentResponsesReceived,
+    CommonConstants.ConsentResponsesSent,
+    CommonConstants.PacketsLost,
+    CommonConstants.PacketsReceived,
+    CommonConstants.PacketsSent,
+    CommonConstants.RequestsReceived,
+    CommonConstants.RequestsSent,
+    CommonConstants.ResponsesReceived,
+    CommonConstants.ResponsesSent,
+    CommonConstants.RetransmissionsReceived,
+    CommonConstants.RetransmissionsSent));
+
+  private List<Object> previousReports = null;
+
+  /**
+   * Encode a report as a delta against the previous one. The report becomes the base of the next
+   * delta either way.
+   * @param reports the report, see {@link StatsListenerProxy#serializeStatsReports}, must not have
+   *                been sent yet
+   * @return the delta, null if the report must be sent in full
+   */
+  @Nullable
+  public WritableArray encode(@NonNull final WritableArray reports) {
+    final List<Object> currentReports = reports.toArrayList();
+    final WritableArray delta = isSameShape(previousReports, currentReports)
+      ? encodeReports(previousReports, currentReports)
+      : null;
+    previousReports = currentReports;
+    return delta;
+  }
+
+  /**
+   * Forget the previous report, so the next report is sent in full.
+   */
+  public void reset() {
+    previousReports = null;
+  }
+
+  private static WritableArray encodeReports(@NonNull final List<Object> previousReports,
+                                             @NonNull final List<Object> currentReports) {
+    final WritableArray delta = Arguments.createArray();
+    for (int i = 0; i < currentReports.size(); ++i) {
+      final Map<?, ?> previousReport = (Map<?, ?>) previousReports.get(i);
+      final Map<?, ?> currentReport = (Map<?, ?>) currentReports.get(i);
+      final JSMapBuilder reportDelta = jsMap();
+      for (Map.Entry<?, ?> section: currentReport.entrySet()) {
+        if (!(section.getValue() instanceof List)) {
+          // the peer connection ID, which is part of the shape
+          continue;
+        }
+        final List<?> previousEntries = (List<?>) previousReport.get(section.getKey());
+        final List<?> currentEntries = (List<?>) section.getValue();
+        if (!previousEntries.equals(currentEntries)) {
+          reportDelta.putArray(
+            (String) section.getKey(),
+            encodeEntries(previousEntries, currentEntries));
+        }
+      }
+      delta.pushMap(reportDelta.build());
+    }
+    return delta;
+  }
+
+  private static WritableArray encodeEntries(@NonNull final List<?> previousEntries,
+                                             @NonNull final List<?> currentEntries) {
+    final WritableArray delta = Arguments.createArray();
+    for (int i = 0; i < currentEntries.size(); ++i) {
+      final Map<?, ?> previousEntry = (Map<?, ?>) previousEntries.get(i);
+      final Map<?, ?> currentEntry = (Map<?, ?>) currentEntries.get(i);
+      final JSMapBuilder entryDelta = jsMap();
+      for (Map.Entry<?, ?> field: currentEntry.entrySet()) {
+        final String key = (String) field.getKey();
+        final Object previousValue = previousEntry.get(key);
+        final Object currentValue = field.getValue();
+        if (Objects.equals(previousValue, currentValue)) {
+          continue;
+        }
+        if (COUNTER_FIELDS.contains(key)
+          && previousValue instanceof Number
+          && currentValue instanceof Number) {
+          entryDelta.putDouble(
+            key,
+            ((Number) currentValue).doubleValue() - ((Number) previousValue).doubleValue());
+        } else {
+          entryDelta.putValue(key, currentValue);
+        }
+      }
+      delta.pushMap(entryDelta.build());
+    }
+    return delta;
+  }
+
+  /**
+   * Check that two reports have the same stats reports, sections, entries & fields, so one can be
+   * encoded as a delta against the other.
+   */
+  private static boolean isSameShape(@Nullable final List<Object> previousReports,
+                                     @NonNull final List<Object> currentReports) {
+    if (null == previousReports || previousReports.size() != currentReports.size()) {
+      return false;
+    }
+    for (int i = 0; i < currentReports.size(); ++i) {
+      final Map<?, ?> previousReport = (Map<?, ?>) previousReports.get(i);
+      final Map<?, ?> currentReport = (Map<?, ?>) currentReports.get(i);
+      if (!previousReport.keySet().equals(currentReport.keySet())) {
+        return false;
+      }
+      for (Map.Entry<?, ?> section: currentReport.entrySet()) {
+        final Object previousSection = previousReport.get(section.getKey());
+        if (!(section.getValue() instanceof List)) {
+          if (!Objects.equals(previousSection, section.getValue())) {
+            return false;
+          }
+          continue;
+        }
+        if (!(previousSection instanceof List)) {
+          return false;
+        }
+        final List<?> previousEntries = (List<?>) previousSection;
+        final List<?> currentEntries = (List<?>) section.getValue();
+        if (previousEntries.size() != currentEntries.size()) {
+          return false;
+        }
+        for (int j = 0; j < currentEntries.size(); ++j) {
+          if (!((Map<?, ?>) previousEntries.get(j)).keySet()
+            .equals(((Map<?, ?>) currentEntries.get(j)).keySet())) {
+            return false;
+          }
+        }
+      }
+    }
+    return true;
+  }
+}
@@ -5,7 +5,6 @@ import androidx.annotation.NonNull;
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
-import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
 import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
@@ -28,25 +27,49 @@ import java.util.Optional;
 import java.util.Set;
 
 
+/**
+ * The TwilioVoiceReactNative native module. Its methods follow the codegen spec in
+ * src/NativeTwilioVoiceReactNative.ts, so with the New Architecture enabled it is registered as a
+ * TurboModule and invoked through JSI, and otherwise as a bridge module.
+ */
 @ReactModule(name = TwilioVoiceReactNativeModule.NAME)
-public class TwilioVoiceReactNativeModule extends ReactContextBaseJavaModule {
+public class TwilioVoiceReactNativeModule extends NativeTwilioVoiceReactNativeSpec {
   private record PromiseAdapter(Promise promise) implements ModuleProxy.UniversalPromise {
     public void resolve(Object value) {
+      final BridgeMetrics metrics = VoiceApplicationProxy.getBridgeMetrics();
+      final long startNanos = metrics.start();
+      final int fields = metrics.countFieldsIfEnabled(value);
       promise.resolve(
         ReactNativeArgumentsSerializer.serializePromiseResolution(value)
       );
+      metrics.record(
+        BridgeMetrics.Category.PROMISE, BridgeMetrics.PROMISE_RESOLVED, startNanos, fields);
     }
 
     public void rejectWithCode(int code, String message) {
+      final BridgeMetrics metrics = VoiceApplicationProxy.getBridgeMetrics();
+      final long startNanos = metrics.start();
       promise.resolve(
         ReactNativeArgumentsSerializer.serializePromiseErrorWithCode(code, message)
       );
+      metrics.record(
+        BridgeMetrics.Category.PROMISE,
+        BridgeMetrics.PROMISE_REJECTED_WITH_CODE,
+        startNanos,
+        BridgeMetrics.PROMISE_REJECTION_FIELDS);
     }
 
     public void rejectWithName(String name, String message) {
+      final BridgeMetrics metrics = VoiceApplicationProxy.getBridgeMetrics();
+      final long startNanos = metrics.start();
       promise.resolve(
         ReactNativeArgumentsSerializer.serializePromiseErrorWithName(name, message)
       );
+      metrics.record(
+        BridgeMetrics.Category.PROMISE,
+        BridgeMetrics.PROMISE_REJECTED_WITH_NAME,
+        startNanos,
+        BridgeMetrics.PROMISE_REJECTION_FIELDS);
     }
   }
 
@@ -73,6 +96,7 @@ public class TwilioVoiceReactNativeModule extends ReactContextBaseJavaModule {
    *
    * @param eventName The string representation of the event.
    */
+  @Override
   @ReactMethod
   public void addListener(String eventName) {
     logger.debug(String.format("Calling addListener: %s", eventName));
@@ -86,9 +110,10 @@ public class TwilioVoiceReactNativeModule extends ReactContextBaseJavaModule {
    *
    * @param count The number of event listeners removed.
    */
+  @Override
   @ReactMethod
-  public void removeListeners(Integer count) {
-    logger.debug("Calling removeListeners: " + count);
+  public void removeListeners(double count) {
+    logger.debug("Calling removeListeners: " + (int) count);
   }
 
   @Override
@@ -97,60 +122,77 @@ public class TwilioVoiceReactNativeModule extends ReactContextBaseJavaModule {
     return NAME;
   }
 
-  @ReactMethod
-  public void testing_promiseReject(Promise promise) {
-    promise.reject("is this a code", "is this a message", new Error());
-  }
-
   /**
    * Call API
    */
 
+  @Override
   @ReactMethod
   public void call_disconnect(String uuid, Promise promise) {
     this.moduleProxy.call.disconnect(uuid, new PromiseAdapter(promise));
   }
 
+  @Override
+  @ReactMethod
+  public void call_getQualitySummary(String uuid, Promise promise) {
+    this.moduleProxy.call.getQualitySummary(uuid, new PromiseAdapter(promise));
+  }
+
+  @Override
   @ReactMethod
   public void call_getState(String uuid, Promise promise) {
     this.moduleProxy.call.getState(uuid, new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
-  public void call_getStats(String uuid, Promise promise) {
-    this.moduleProxy.call.getStats(uuid, new PromiseAdapter(promise));
+  public void call_getStats(String uuid, ReadableArray fields, Promise promise) {
+    this.moduleProxy.call.getStats(uuid, parseStringList(fields), new PromiseAdapter(promise));
   }
 
+  @Override
+  @ReactMethod
+  public void call_getTimeline(String uuid, Promise promise) {
+    this.moduleProxy.call.getTimeline(uuid, new PromiseAdapter(promise));
+  }
+
+  @Override
   @ReactMethod
   public void call_hold(String uuid, boolean hold, Promise promise) {
     this.moduleProxy.call.hold(uuid, hold, new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
   public void call_isMuted(String uuid, Promise promise) {
     this.moduleProxy.call.isMuted(uuid, new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
   public void call_isOnHold(String uuid, Promise promise) {
     this.moduleProxy.call.isOnHold(uuid, new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
   public void call_mute(String uuid, boolean mute, Promise promise) {
     this.moduleProxy.call.mute(uuid, mute, new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
   public void call_postFeedback(String uuid, String score, String issue, Promise promise) {
     this.moduleProxy.call.postFeedback(uuid, score, issue, new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
   public void call_sendDigits(String uuid, String digits, Promise promise) {
     this.moduleProxy.call.sendDigits(uuid, digits, new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
   public void call_sendMessage(
     String uuid,
@@ -168,20 +210,53 @@ public class TwilioVoiceReactNativeModule extends ReactContextBaseJavaModule {
     );
   }
 
+  @Override
+  @ReactMethod
+  public void call_startStatsStream(
+    String uuid,
+    double intervalMs,
+    ReadableArray fields,
+    boolean delta,
+    Promise promise
+  ) {
+    this.moduleProxy.call.startStatsStream(
+      uuid,
+      (int) intervalMs,
+      parseStringList(fields),
+      delta,
+      new PromiseAdapter(promise)
+    );
+  }
+
+  @Override
+  @ReactMethod
+  public void call_stopStatsStream(String uuid, Promise promise) {
+    this.moduleProxy.call.stopStatsStream(uuid, new PromiseAdapter(promise));
+  }
+
+  @Override
+  @ReactMethod
+  public void call_requestStatsReport(String uuid, Promise promise) {
+    this.moduleProxy.call.requestStatsReport(uuid, new PromiseAdapter(promise));
+  }
+
   /**
    * CallInvite API
    */
 
+  @Override
   @ReactMethod
   public void callInvite_accept(String uuid, ReadableMap options, Promise promise) {
     this.moduleProxy.callInvite.accept(uuid, new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
   public void callInvite_reject(String uuid, Promise promise) {
     this.moduleProxy.callInvite.reject(uuid, new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
   public void callInvite_sendMessage(
     String uuid,
@@ -203,36 +278,43 @@ public class TwilioVoiceReactNativeModule extends ReactContextBaseJavaModule {
    * PreflightTest API
    */
 
+  @Override
   @ReactMethod
   public void preflightTest_getCallSid(String uuidStr, Promise promise) {
     this.moduleProxy.preflightTest.getCallSid(uuidStr, new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
   public void preflightTest_getEndTime(String uuidStr, Promise promise) {
     this.moduleProxy.preflightTest.getEndTime(uuidStr, new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
   public void preflightTest_getLatestSample(String uuidStr, Promise promise) {
     this.moduleProxy.preflightTest.getLatestSample(uuidStr, new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
   public void preflightTest_getReport(String uuidStr, Promise promise) {
     this.moduleProxy.preflightTest.getReport(uuidStr, new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
   public void preflightTest_getStartTime(String uuidStr, Promise promise) {
     this.moduleProxy.preflightTest.getStartTime(uuidStr, new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
   public void preflightTest_getState(String uuidStr, Promise promise) {
     this.moduleProxy.preflightTest.getState(uuidStr, new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
   public void preflightTest_stop(String uuidStr, Promise promise) {
     this.moduleProxy.preflightTest.stop(uuidStr, new PromiseAdapter(promise));
@@ -242,6 +324,7 @@ public class TwilioVoiceReactNativeModule extends ReactContextBaseJavaModule {
    * Voice API
    */
 
+  @Override
   @ReactMethod
   public void voice_connect_android(
     String accessToken,
@@ -351,31 +434,85 @@ public class TwilioVoiceReactNativeModule extends ReactContextBaseJavaModule {
     );
   }
 
+  @Override
   @ReactMethod
   public void voice_getAudioDevices(Promise promise) {
     this.moduleProxy.voice.getAudioDevices(new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
   public void voice_getCalls(Promise promise) {
     this.moduleProxy.voice.getCalls(new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
   public void voice_getCallInvites(Promise promise) {
     this.moduleProxy.voice.getCallInvites(new PromiseAdapter(promise));
   }
 
+  @Override
+  @ReactMethod
+  public void voice_getCallsVersion(Promise promise) {
+    this.moduleProxy.voice.getCallsVersion(new PromiseAdapter(promise));
+  }
+
+  @Override
+  @ReactMethod
+  public void voice_getLostCalls(Promise promise) {
+    this.moduleProxy.voice.getLostCalls(new PromiseAdapter(promise));
+  }
+
+  @Override
+  @ReactMethod
+  public void voice_getCallHistory(double offset, double limit, Promise promise) {
+    this.moduleProxy.voice.getCallHistory((int) offset, (int) limit, new PromiseAdapter(promise));
+  }
+
+  @Override
+  @ReactMethod
+  public void voice_getReapedCallRecordCounts(Promise promise) {
+    this.moduleProxy.voice.getReapedCallRecordCounts(new PromiseAdapter(promise));
+  }
+
+  @Override
+  @ReactMethod
+  public void voice_addEventListener(String eventName, Promise promise) {
+    this.moduleProxy.voice.addEventListener(eventName, new PromiseAdapter(promise));
+  }
+
+  @Override
+  @ReactMethod
+  public void voice_removeEventListeners(String eventName, double count, Promise promise) {
+    this.moduleProxy.voice.removeEventListeners(eventName, (int) count, new PromiseAdapter(promise));
+  }
+
+  @Override
+  @ReactMethod
+  public void voice_getDroppedEventCounts(Promise promise) {
+    this.moduleProxy.voice.getDroppedEventCounts(new PromiseAdapter(promise));
+  }
+
+  @Override
+  @ReactMethod
+  public void voice_getBridgeMetrics(Promise promise) {
+    this.moduleProxy.voice.getBridgeMetrics(new PromiseAdapter(promise));
+  }
+
+  @Override
   @ReactMethod
   public void voice_getDeviceToken(Promise promise) {
     this.moduleProxy.voice.getDeviceToken(new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
   public void voice_getVersion(Promise promise) {
     this.moduleProxy.voice.getVersion(new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
   public void voice_handleEvent(ReadableMap messageData, Promise promise) {
     // parse data to string map
@@ -389,11 +526,13 @@ public class TwilioVoiceReactNativeModule extends ReactContextBaseJavaModule {
     this.moduleProxy.voice.handleEvent(parsedMessageData, new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
   public void voice_register(String token, Promise promise) {
     this.moduleProxy.voice.register(token, new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
   public void voice_runPreflight(String accessToken, ReadableMap options, Promise promise) {
     logger.debug(".voice_runPreflight");
@@ -514,23 +653,56 @@ public class TwilioVoiceReactNativeModule extends ReactContextBaseJavaModule {
     this.moduleProxy.voice.runPreflight(preflightOptions, new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
   public void voice_selectAudioDevice(String uuid, Promise promise) {
     this.moduleProxy.voice.selectAudioDevice(uuid, new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
   public void voice_setExpoVersion(String expoVersion, Promise promise) {
     this.moduleProxy.voice.setExpoVersion(expoVersion, new PromiseAdapter(promise));
   }
 
+  @Override
+  @ReactMethod
+  public void voice_setAudioRoutingPolicy(ReadableMap policy, Promise promise) {
+    if (policy == null) {
+      this.moduleProxy.voice.setAudioRoutingPolicy(null, null, null, false, new PromiseAdapter(promise));
+      return;
+    }
+
+    this.moduleProxy.voice.setAudioRoutingPolicy(
+      parseStringList(policy.getArray(CommonConstants.AudioRoutingPolicyKeyPreferredDeviceTypes)),
+      parseStringList(policy.getArray(CommonConstants.AudioRoutingPolicyKeyIncomingCallDeviceTypes)),
+      parseStringList(policy.getArray(CommonConstants.AudioRoutingPolicyKeyOutgoingCallDeviceTypes)),
+      policy.hasKey(CommonConstants.AudioRoutingPolicyKeyAutoSwitchOnConnect) &&
+        policy.getBoolean(CommonConstants.AudioRoutingPolicyKeyAutoSwitchOnConnect),
+      new PromiseAdapter(promise)
+    );
+  }
+
+  @Override
   @ReactMethod
   public void voice_setIncomingCallContactHandleTemplate(String template, Promise promise) {
     this.moduleProxy.voice.setIncomingCallContactHandleTemplate(template, new PromiseAdapter(promise));
   }
 
+  @Override
   @ReactMethod
   public void voice_unregister(String token, Promise promise) {
     this.moduleProxy.voice.unregister(token, new PromiseAdapter(promise));
   }
+
+  private static List<String> parseStringList(ReadableArray jsArray) {
+    if (jsArray == null) {
+      return null;
+    }
+    final List<String> list = new ArrayList<>(jsArray.size());
+    for (int i = 0; i < jsArray.size(); i++) {
+      list.add(jsArray.getString(i));
+    }
+    return list;
+  }
 }
@@ -2,14 +2,18 @@ package com.twiliovoicereactnative;
 
 import static com.twiliovoicereactnative.CallRecordDatabase.CallRecord;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
 import android.app.Application;
+import android.app.NotificationManager;
 import android.content.ComponentName;
 import android.content.Context;
 import android.content.Intent;
 import android.content.ServiceConnection;
+import android.os.Handler;
+import android.os.HandlerThread;
 import android.os.IBinder;
 
 import com.facebook.react.ReactNativeHost;
@@ -20,11 +24,26 @@ public class VoiceApplicationProxy {
   private static VoiceApplicationProxy instance = null;
   private Application context = null;
   private final CallRecordDatabase callRecordDatabase = new CallRecordDatabase();
+  private CallRecordJournal callRecordJournal = null;
+  private CallHistory callHistory = null;
+  private CallRecordReaper callRecordReaper = null;
+  private CallStatsStreamer callStatsStreamer = null;
+  private CallQualitySampler callQualitySampler = null;
+  private CallAdmissionPolicy callAdmissionPolicy = null;
+  private List<CallRecordJournal.LostCall> lostCalls = Collections.emptyList();
   private final PreflightTestRecordDatabase preflightTestRecordDatabase = new PreflightTestRecordDatabase();
   private AudioSwitchManager audioSwitchManager;
   private MediaPlayerManager mediaPlayerManager;
   private JSEventEmitter jsEventEmitter;
+  private BridgeMetrics bridgeMetrics = new BridgeMetrics(false);
   private VoiceService.VoiceServiceAPI voiceServiceApi = null;
+  /**
+   * Single thread that owns all call state. Call record mutations, Voice SDK call control and
+   * call listener callbacks are all serialized on this looper so the main thread stays off the
+   * call-control path.
+   */
+  private final HandlerThread callStateThread = new HandlerThread("TwilioVoiceCallState");
+  private Handler callStateHandler = null;
   private final ServiceConnection voiceServiceObserver = new ServiceConnection() {
     @Override
     public void onServiceConnected(ComponentName name, IBinder service) {
@@ -65,10 +84,47 @@ public class VoiceApplicationProxy {
   }
   public void onCreate() {
     logger.debug("onCreate(..) invoked");
+    // start call state thread
+    callStateThread.start();
+    callStateHandler = new Handler(callStateThread.getLooper());
     // construct JS event engine
-    jsEventEmitter = new JSEventEmitter();
+    bridgeMetrics = new BridgeMetrics(ConfigurationProperties.isBridgeMetricsEnabled(context));
+    jsEventEmitter = new JSEventEmitter(
+      ConfigurationProperties.getEventBatchWindow(context),
+      ConfigurationProperties.getEventCoalesceWindow(context),
+      ConfigurationProperties.getEventReplayCapacity(context),
+      ConfigurationProperties.getEventReplayMaxAge(context),
+      ConfigurationProperties.getEventReplayOverflowPolicy(context),
+      callStateHandler,
+      bridgeMetrics);
     // construct notification channels
     NotificationUtility.createNotificationChannels(context);
+    // recover calls lost by a previous process & start journaling call records
+    callRecordJournal = new CallRecordJournal(context.getNoBackupFilesDir());
+    lostCalls = callRecordJournal.replay();
+    cleanupLostCalls();
+    callRecordDatabase.addObserver(callRecordJournal);
+    callHistory = new CallHistory(ConfigurationProperties.getCallHistoryCapacity(context));
+    callRecordReaper = new CallRecordReaper(
+      callRecordDatabase,
+      callStateHandler,
+      ConfigurationProperties.getCallRecordReaperInterval(context),
+      ConfigurationProperties.getCallRecordTtl(context, CallRecord.CallInviteState.NONE),
+      ConfigurationProperties.getCallRecordTtl(context, CallRecord.CallInviteState.ACTIVE),
+      ConfigurationProperties.getCallRecordTtl(context, CallRecord.CallInviteState.USED),
+      ConfigurationProperties.getCallRecordConnectingTtl(context));
+    callRecordDatabase.addObserver(callRecordReaper);
+    callStatsStreamer = new CallStatsStreamer(callRecordDatabase, callStateHandler);
+    callRecordDatabase.addObserver(callStatsStreamer);
+    callQualitySampler = new CallQualitySampler(
+      callRecordDatabase,
+      callStateHandler,
+      ConfigurationProperties.getQualitySampleInterval(context),
+      ConfigurationProperties.getQualityShortWindow(context),
+      ConfigurationProperties.getQualityLongWindow(context),
+      ConfigurationProperties.getQualityDegradingConfidence(context));
+    callRecordDatabase.addObserver(callQualitySampler);
+    callAdmissionPolicy = ConfigurationProperties.getCallAdmissionPolicy(context);
     // launch and bind to voice call service
     context.bindService(
       new Intent(context, VoiceService.class),
@@ -85,22 +141,60 @@ public class VoiceApplicationProxy {
     NotificationUtility.destroyNotificationChannels(context);
     // shutdown audioswitch & media manager
     audioSwitchManager.stop();
-    // verify that no call records are leaked
-    for (CallRecord callRecord: callRecordDatabase.getCollection()) {
+    // verify that no call records are leaked & stop the call state thread
+    callStateHandler.post(() -> {
+      for (CallRecord callRecord: callRecordDatabase.getSnapshot().getCallRecords()) {
+        logger.warning(
+          String.format(
+            "Call Record leaked: { uuid: %s callSid: %s }",
+            (null != callRecord.getUuid()) ? callRecord.getUuid() : "null",
+            (null != callRecord.getCallSid()) ? callRecord.getCallSid() : "null"));
+      }
+      callRecordDatabase.clear();
+    });
+    callStateThread.quitSafely();
+  }
+  private void cleanupLostCalls() {
+    final NotificationManager notificationManager =
+      (NotificationManager) context.getSystemService(Context.NOTIFICATION_SERVICE);
+    for (CallRecordJournal.LostCall lostCall: lostCalls) {
       logger.warning(
         String.format(
-          "Call Record leaked: { uuid: %s callSid: %s }",
-          (null != callRecord.getUuid()) ? callRecord.getUuid() : "null",
-          (null != callRecord.getCallSid()) ? callRecord.getCallSid() : "null"));
+          "Call lost by previous process: { uuid: %s callSid: %s }",
+          lostCall.getUuid(),
+          (null != lostCall.getCallSid()) ? lostCall.getCallSid() : "null"));
+      if (-1 != lostCall.getNotificationId()) {
+        notificationManager.cancel(lostCall.getNotificationId());
+      }
     }
-    callRecordDatabase.clear();
   }
   static CallRecordDatabase getCallRecordDatabase() {
     return VoiceApplicationProxy.instance.callRecordDatabase;
   }
+  static CallHistory getCallHistory() {
+    return VoiceApplicationProxy.instance.callHistory;
+  }
+  static CallAdmissionPolicy getCallAdmissionPolicy() {
+    return VoiceApplicationProxy.instance.callAdmissionPolicy;
+  }
+  static CallRecordReaper getCallRecordReaper() {
+    return VoiceApplicationProxy.instance.callRecordReaper;
+  }
+  static CallStatsStreamer getCallStatsStreamer() {
+    return VoiceApplicationProxy.instance.callStatsStreamer;
+  }
+  static CallQualitySampler getCallQualitySampler() {
+    return VoiceApplicationProxy.instance.callQualitySampler;
+  }
+  static List<CallRecordJournal.LostCall> getLostCalls() {
+    return VoiceApplicationProxy.instance.lostCalls;
+  }
   static PreflightTestRecordDatabase getPreflightTestRecordDatabase() {
     return VoiceApplicationProxy.instance.preflightTestRecordDatabase;
   }
+  static Handler getCallStateHandler() {
+    return VoiceApplicationProxy.instance.callStateHandler;
+  }
   static AudioSwitchManager getAudioSwitchManager() {
     return VoiceApplicationProxy.instance.audioSwitchManager;
   }
@@ -110,6 +204,9 @@ public class VoiceApplicationProxy {
   static JSEventEmitter getJSEventEmitter() {
     return VoiceApplicationProxy.instance.jsEventEmitter;
   }
+  static BridgeMetrics getBridgeMetrics() {
+    return VoiceApplicationProxy.instance.bridgeMetrics;
+  }
 
   static Context getApplicationContext() {
     return VoiceApplicationProxy.instance.context;
@@ -1,6 +1,8 @@
 package com.twiliovoicereactnative;
 
+import static com.twiliovoicereactnative.VoiceApplicationProxy.getCallAdmissionPolicy;
 import static com.twiliovoicereactnative.VoiceApplicationProxy.getCallRecordDatabase;
+import static com.twiliovoicereactnative.VoiceApplicationProxy.getCallStateHandler;
 import static com.twiliovoicereactnative.VoiceApplicationProxy.getVoiceServiceApi;
 
 import com.twiliovoicereactnative.CallRecordDatabase.CallRecord;
@@ -17,7 +19,6 @@ import com.twilio.voice.CancelledCallInvite;
 import com.twilio.voice.MessageListener;
 import com.twilio.voice.Voice;
 
-import java.util.Objects;
 import java.util.UUID;
 
 public class VoiceFirebaseMessagingService extends FirebaseMessagingService {
@@ -28,10 +29,24 @@ public class VoiceFirebaseMessagingService extends FirebaseMessagingService {
     public void onCallInvite(@NonNull CallInvite callInvite) {
       logger.log(String.format("onCallInvite %s", callInvite.getCallSid()));
 
-      final CallRecord callRecord = new CallRecord(UUID.randomUUID(), callInvite);
-
-      getCallRecordDatabase().add(callRecord);
-      getVoiceServiceApi().incomingCall(callRecord);
+      getCallStateHandler().post(() -> {
+        // apply admission policy before any notification or audio work
+        final CallAdmissionPolicy.Decision decision =
+          getCallAdmissionPolicy().admit(getCallRecordDatabase().getSnapshot());
+        if (CallAdmissionPolicy.Decision.REJECT == decision) {
+          logger.log(String.format("Call invite %s not admitted, rejecting", callInvite.getCallSid()));
+          callInvite.reject(getVoiceServiceApi().getServiceContext());
+          return;
+        }
+
+        final CallRecord callRecord = new CallRecord(UUID.randomUUID(), callInvite);
+        callRecord.getTimeline().record(CallTimeline.Event.INVITE_RECEIVED);
+
+        getCallRecordDatabase().add(callRecord);
+        getVoiceServiceApi().incomingCall(
+          callRecord,
+          CallAdmissionPolicy.Decision.CALL_WAITING == decision);
+      });
     }
 
     @Override
@@ -39,12 +54,20 @@ public class VoiceFirebaseMessagingService extends FirebaseMessagingService {
                                       @Nullable CallException callException) {
       logger.log(String.format("onCancelledCallInvite %s", cancelledCallInvite.getCallSid()));
 
-      CallRecord callRecord = Objects.requireNonNull(
-        getCallRecordDatabase().remove(new CallRecord(cancelledCallInvite.getCallSid())));
-
-      callRecord.setCancelledCallInvite(cancelledCallInvite);
-      callRecord.setCallException(callException);
-      getVoiceServiceApi().cancelCall(callRecord);
+      getCallStateHandler().post(() -> {
+        CallRecord callRecord = getCallRecordDatabase().findBySid(cancelledCallInvite.getCallSid());
+        if (null == callRecord) {
+          // invites rejected by the admission policy or reaped have no record
+          logger.log(String.format("No call record for cancelled invite %s, ignoring",
+            cancelledCallInvite.getCallSid()));
+          return;
+        }
+        getCallRecordDatabase().removeByUuid(callRecord.getUuid());
+
+        callRecord.setCancelledCallInvite(cancelledCallInvite);
+        callRecord.setCallException(callException);
+        getVoiceServiceApi().cancelCall(callRecord);
+      });
     }
   }
 
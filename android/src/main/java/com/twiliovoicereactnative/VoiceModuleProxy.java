@@ -18,6 +18,8 @@ import com.twilio.voice.RegistrationListener;
 import com.twilio.voice.UnregistrationListener;
 import com.twilio.voice.Voice;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
@@ -27,6 +29,8 @@ class VoiceModuleProxy {
 
   private final Handler mainHandler = new Handler(Looper.getMainLooper());
 
+  private final Handler callStateHandler = VoiceApplicationProxy.getCallStateHandler();
+
   private final ReactApplicationContext reactApplicationContext;
 
   private final AudioSwitchManager audioSwitchManager;
@@ -48,7 +52,7 @@ class VoiceModuleProxy {
   ) {
     logger.debug(".connect()");
 
-    this.mainHandler.post(() -> {
+    this.callStateHandler.post(() -> {
       logger.debug(".connect() > runnable");
 
       // connect & create call record
@@ -84,6 +88,7 @@ class VoiceModuleProxy {
           CallRecordDatabase.CallRecord.Direction.OUTGOING,
           notificationDisplayName
         );
+        callRecord.getTimeline().record(CallTimeline.Event.CONNECT_REQUESTED);
 
         VoiceApplicationProxy.getCallRecordDatabase().add(callRecord);
 
@@ -99,14 +104,8 @@ class VoiceModuleProxy {
   public void getAudioDevices(ModuleProxy.UniversalPromise promise) {
     logger.debug(".getAudioDevices()");
 
-    Map<String, AudioDevice> audioDevices = this.audioSwitchManager.getAudioDevices();
-    String selectedAudioDeviceUuid = this.audioSwitchManager.getSelectedAudioDeviceUuid();
-    AudioDevice selectedAudioDevice = this.audioSwitchManager.getSelectedAudioDevice();
-
     WritableMap audioDeviceInfo = ReactNativeArgumentsSerializer.serializeAudioDeviceInfo(
-      audioDevices,
-      selectedAudioDeviceUuid,
-      selectedAudioDevice
+      this.audioSwitchManager.getSnapshot()
     );
 
     promise.resolve(audioDeviceInfo);
@@ -115,7 +114,7 @@ class VoiceModuleProxy {
   public void selectAudioDevice(String uuid, ModuleProxy.UniversalPromise promise) {
     logger.debug(".selectAudioDevice()");
 
-    AudioDevice audioDevice = this.audioSwitchManager.getAudioDevices().get(uuid);
+    AudioDevice audioDevice = this.audioSwitchManager.getSnapshot().getAudioDevices().get(uuid);
     if (audioDevice == null) {
       final String warningMsg = this.reactApplicationContext
         .getString(R.string.missing_audiodevice_uuid, uuid);
@@ -123,7 +122,7 @@ class VoiceModuleProxy {
       return;
     }
 
-    this.audioSwitchManager.getAudioSwitch().selectDevice(audioDevice);
+    this.audioSwitchManager.selectDevice(audioDevice);
 
     promise.resolve(null);
   }
@@ -132,13 +131,13 @@ class VoiceModuleProxy {
   public void getCalls(ModuleProxy.UniversalPromise promise) {
     logger.debug(".getCalls()");
 
-    mainHandler.post(() -> {
+    callStateHandler.post(() -> {
       logger.debug(".getCalls() > runnable");
 
       WritableArray callInfos = Arguments.createArray();
       for (
         CallRecordDatabase.CallRecord callRecord :
-        VoiceApplicationProxy.getCallRecordDatabase().getCollection()
+        VoiceApplicationProxy.getCallRecordDatabase().getSnapshot().getCallRecords()
       ) {
         // incoming calls that have not been acted on do not have call-objects
         if (null != callRecord.getVoiceCall()) {
@@ -154,13 +153,13 @@ class VoiceModuleProxy {
   public void getCallInvites(ModuleProxy.UniversalPromise promise) {
     logger.debug(".getCallInvites()");
 
-    mainHandler.post(() -> {
+    callStateHandler.post(() -> {
       logger.debug(".getCallInvites() > runnable");
 
       WritableArray callInviteInfos = Arguments.createArray();
       for (
         CallRecordDatabase.CallRecord callRecord :
-        VoiceApplicationProxy.getCallRecordDatabase().getCollection()
+        VoiceApplicationProxy.getCallRecordDatabase().getSnapshot().getCallRecords()
       ) {
         if (
           null != callRecord.getCallInvite() &&
@@ -176,6 +175,78 @@ class VoiceModuleProxy {
     });
   }
 
+  public void getCallsVersion(ModuleProxy.UniversalPromise promise) {
+    logger.debug(".getCallsVersion()");
+    promise.resolve(VoiceApplicationProxy.getCallRecordDatabase().getVersion());
+  }
+
+  public void getLostCalls(ModuleProxy.UniversalPromise promise) {
+    logger.debug(".getLostCalls()");
+    promise.resolve(
+      ReactNativeArgumentsSerializer.serializeLostCalls(VoiceApplicationProxy.getLostCalls()));
+  }
+
+  public void getCallHistory(int offset, int limit, ModuleProxy.UniversalPromise promise) {
+    logger.debug(".getCallHistory()");
+
+    if (offset < 0 || limit < 0) {
+      promise.rejectWithName(
+        CommonConstants.ErrorCodeInvalidArgumentError,
+        "Call history offset and limit must be non-negative");
+      return;
+    }
+
+    callStateHandler.post(() -> {
+      logger.debug(".getCallHistory() > runnable");
+
+      promise.resolve(ReactNativeArgumentsSerializer.serializeCallHistory(
+        VoiceApplicationProxy.getCallHistory(),
+        offset,
+        limit));
+    });
+  }
+
+  public void getReapedCallRecordCounts(ModuleProxy.UniversalPromise promise) {
+    logger.debug(".getReapedCallRecordCounts()");
+
+    callStateHandler.post(() -> {
+      logger.debug(".getReapedCallRecordCounts() > runnable");
+
+      promise.resolve(ReactNativeArgumentsSerializer.serializeReapedCallRecordCounts(
+        VoiceApplicationProxy.getCallRecordReaper()));
+    });
+  }
+
+  public void addEventListener(String eventName, ModuleProxy.UniversalPromise promise) {
+    logger.debug(String.format(".addEventListener(%s)", eventName));
+
+    VoiceApplicationProxy.getJSEventEmitter().addListener(eventName);
+    promise.resolve(null);
+  }
+
+  public void removeEventListeners(String eventName,
+                                   int count,
+                                   ModuleProxy.UniversalPromise promise) {
+    logger.debug(String.format(".removeEventListeners(%s, %d)", eventName, count));
+
+    VoiceApplicationProxy.getJSEventEmitter().removeListeners(eventName, count);
+    promise.resolve(null);
+  }
+
+  public void getDroppedEventCounts(ModuleProxy.UniversalPromise promise) {
+    logger.debug(".getDroppedEventCounts()");
+
+    promise.resolve(ReactNativeArgumentsSerializer.serializeDroppedEventCounts(
+      VoiceApplicationProxy.getJSEventEmitter()));
+  }
+
+  public void getBridgeMetrics(ModuleProxy.UniversalPromise promise) {
+    logger.debug(".getBridgeMetrics()");
+
+    promise.resolve(ReactNativeArgumentsSerializer.serializeBridgeMetrics(
+      VoiceApplicationProxy.getBridgeMetrics()));
+  }
+
   public void getDeviceToken(ModuleProxy.UniversalPromise promise) {
     FirebaseMessaging.getInstance().getToken()
       .addOnCompleteListener(task -> {
@@ -211,7 +282,7 @@ class VoiceModuleProxy {
   public void handleEvent(Map<String, String> eventData, ModuleProxy.UniversalPromise promise) {
     logger.debug(".handleEvent()");
 
-    mainHandler.post(() -> {
+    callStateHandler.post(() -> {
       logger.debug(".handleEvent() > runnable");
 
       // validate embedded firebase module is disabled
@@ -319,6 +390,45 @@ class VoiceModuleProxy {
     promise.resolve(null);
   }
 
+  public void setAudioRoutingPolicy(
+    List<String> preferredDeviceTypes,
+    List<String> incomingCallDeviceTypes,
+    List<String> outgoingCallDeviceTypes,
+    boolean autoSwitchOnConnect,
+    ModuleProxy.UniversalPromise promise
+  ) {
+    logger.debug(".setAudioRoutingPolicy()");
+
+    // a policy without preferred device types restores the default routing
+    AudioRoutingPolicy policy = null;
+    if (preferredDeviceTypes != null) {
+      for (List<String> deviceTypes: Arrays.asList(
+        preferredDeviceTypes, incomingCallDeviceTypes, outgoingCallDeviceTypes)) {
+        if (deviceTypes == null) {
+          continue;
+        }
+        for (String deviceType: deviceTypes) {
+          if (!AudioRoutingPolicy.isValidDeviceType(deviceType)) {
+            final String warningMsg = this.reactApplicationContext
+              .getString(R.string.invalid_audiodevice_type, deviceType);
+            promise.rejectWithName(CommonConstants.ErrorCodeInvalidArgumentError, warningMsg);
+            return;
+          }
+        }
+      }
+      policy = new AudioRoutingPolicy(
+        preferredDeviceTypes,
+        incomingCallDeviceTypes,
+        outgoingCallDeviceTypes,
+        autoSwitchOnConnect);
+    }
+
+    ConfigurationProperties.setAudioRoutingPolicy(this.reactApplicationContext, policy);
+    this.audioSwitchManager.setRoutingPolicy(policy);
+
+    promise.resolve(null);
+  }
+
   public void unregister(String token, ModuleProxy.UniversalPromise promise) {
     logger.debug(".unregister()");
 
@@ -26,7 +26,7 @@ import static com.twiliovoicereactnative.Constants.JS_EVENT_KEY_CALL_INVITE_INFO
 import static com.twiliovoicereactnative.Constants.JS_EVENT_KEY_CANCELLED_CALL_INVITE_INFO;
 import static com.twiliovoicereactnative.Constants.VOICE_CHANNEL_DEFAULT_IMPORTANCE;
 import static com.twiliovoicereactnative.Constants.VOICE_CHANNEL_HIGH_IMPORTANCE;
-import static com.twiliovoicereactnative.JSEventEmitter.constructJSMap;
+import static com.twiliovoicereactnative.JSMapBuilder.jsMap;
 import static com.twiliovoicereactnative.ReactNativeArgumentsSerializer.serializeCall;
 import static com.twiliovoicereactnative.ReactNativeArgumentsSerializer.serializeCallException;
 import static com.twiliovoicereactnative.ReactNativeArgumentsSerializer.serializeCallInvite;
@@ -46,7 +46,6 @@ import android.content.pm.ServiceInfo;
 import android.os.Binder;
 import android.os.Build;
 import android.os.IBinder;
-import android.util.Pair;
 
 import androidx.annotation.NonNull;
 import androidx.core.app.ActivityCompat;
@@ -60,6 +59,7 @@ import com.twilio.voice.Voice;
 
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 public class VoiceService extends Service {
   private static final SDKLog logger = new SDKLog(VoiceService.class);
@@ -72,8 +72,9 @@ public class VoiceService extends Service {
     public void disconnect(final CallRecordDatabase.CallRecord callRecord) {
       VoiceService.this.disconnect(callRecord);
     }
-    public void incomingCall(final CallRecordDatabase.CallRecord callRecord) {
-      VoiceService.this.incomingCall(callRecord);
+    public void incomingCall(final CallRecordDatabase.CallRecord callRecord,
+                             final boolean callWaiting) {
+      VoiceService.this.incomingCall(callRecord, callWaiting);
     }
     public void acceptCall(final CallRecordDatabase.CallRecord callRecord) {
       VoiceService.this.acceptCall(callRecord);
@@ -87,6 +88,9 @@ public class VoiceService extends Service {
     public void raiseOutgoingCallNotification(final CallRecordDatabase.CallRecord callRecord) {
       VoiceService.this.raiseOutgoingCallNotification(callRecord);
     }
+    public void reapCall(final CallRecordDatabase.CallRecord callRecord) {
+      VoiceService.this.reapCall(callRecord);
+    }
     public void cancelActiveCallNotification(final CallRecordDatabase.CallRecord callRecord) {
       VoiceService.this.cancelActiveCallNotification(callRecord);
     }
@@ -103,48 +107,53 @@ public class VoiceService extends Service {
     // apparently the system can recreate the service without sending it an intent so protect
     // against that case (GH-430).
     if (null != intent) {
-      switch (Objects.requireNonNull(intent.getAction())) {
-        case ACTION_INCOMING_CALL:
-          incomingCall(getCallRecord(Objects.requireNonNull(getMessageUUID(intent))));
-          break;
-        case ACTION_ACCEPT_CALL:
-          try {
-            acceptCall(getCallRecord(Objects.requireNonNull(getMessageUUID(intent))));
-          } catch (SecurityException e) {
-            sendPermissionsError();
-            logger.warning(e, "Cannot accept call, lacking necessary permissions");
-          }
-          break;
-        case ACTION_REJECT_CALL:
-          rejectCall(getCallRecord(Objects.requireNonNull(getMessageUUID(intent))));
-          break;
-        case ACTION_CANCEL_CALL:
-          cancelCall(getCallRecord(Objects.requireNonNull(getMessageUUID(intent))));
-          break;
-        case ACTION_CALL_DISCONNECT:
-          disconnect(getCallRecord(Objects.requireNonNull(getMessageUUID(intent))));
-          break;
-        case ACTION_RAISE_OUTGOING_CALL_NOTIFICATION:
-          raiseOutgoingCallNotification(getCallRecord(Objects.requireNonNull(getMessageUUID(intent))));
-          break;
-        case ACTION_CANCEL_ACTIVE_CALL_NOTIFICATION:
-          cancelActiveCallNotification(getCallRecord(Objects.requireNonNull(getMessageUUID(intent))));
-          break;
-        case ACTION_FOREGROUND_AND_DEPRIORITIZE_INCOMING_CALL_NOTIFICATION:
-          foregroundAndDeprioritizeIncomingCallNotification(
-            getCallRecord(Objects.requireNonNull(getMessageUUID(intent))));
-          break;
-        case ACTION_PUSH_APP_TO_FOREGROUND:
-          logger.warning("VoiceService received foreground request, ignoring");
-          break;
-        default:
-          logger.log("Unknown notification, ignoring");
-          break;
-      }
+      // call state is owned by the call state thread, dispatch the command there
+      VoiceApplicationProxy.getCallStateHandler().post(() -> handleCommand(intent));
     }
     return START_NOT_STICKY;
   }
 
+  private void handleCommand(@NonNull final Intent intent) {
+    switch (Objects.requireNonNull(intent.getAction())) {
+      case ACTION_INCOMING_CALL:
+        incomingCall(getCallRecord(Objects.requireNonNull(getMessageUUID(intent))), false);
+        break;
+      case ACTION_ACCEPT_CALL:
+        try {
+          acceptCall(getCallRecord(Objects.requireNonNull(getMessageUUID(intent))));
+        } catch (SecurityException e) {
+          sendPermissionsError();
+          logger.warning(e, "Cannot accept call, lacking necessary permissions");
+        }
+        break;
+      case ACTION_REJECT_CALL:
+        rejectCall(getCallRecord(Objects.requireNonNull(getMessageUUID(intent))));
+        break;
+      case ACTION_CANCEL_CALL:
+        cancelCall(getCallRecord(Objects.requireNonNull(getMessageUUID(intent))));
+        break;
+      case ACTION_CALL_DISCONNECT:
+        disconnect(getCallRecord(Objects.requireNonNull(getMessageUUID(intent))));
+        break;
+      case ACTION_RAISE_OUTGOING_CALL_NOTIFICATION:
+        raiseOutgoingCallNotification(getCallRecord(Objects.requireNonNull(getMessageUUID(intent))));
+        break;
+      case ACTION_CANCEL_ACTIVE_CALL_NOTIFICATION:
+        cancelActiveCallNotification(getCallRecord(Objects.requireNonNull(getMessageUUID(intent))));
+        break;
+      case ACTION_FOREGROUND_AND_DEPRIORITIZE_INCOMING_CALL_NOTIFICATION:
+        foregroundAndDeprioritizeIncomingCallNotification(
+          getCallRecord(Objects.requireNonNull(getMessageUUID(intent))));
+        break;
+      case ACTION_PUSH_APP_TO_FOREGROUND:
+        logger.warning("VoiceService received foreground request, ignoring");
+        break;
+      default:
+        logger.log("Unknown notification, ignoring");
+        break;
+    }
+  }
+
   @Override
   public IBinder onBind(Intent intent) {
     return new VoiceServiceAPI();
@@ -166,7 +175,8 @@ public class VoiceService extends Service {
       logger.warning("No call record found");
     }
   }
-  private void incomingCall(final CallRecordDatabase.CallRecord callRecord) {
+  private void incomingCall(final CallRecordDatabase.CallRecord callRecord,
+                            final boolean callWaiting) {
     logger.debug("incomingCall: " + callRecord.getUuid());
 
     // verify that mic permissions have been granted and if not, throw a error
@@ -187,24 +197,29 @@ public class VoiceService extends Service {
     Notification notification = NotificationUtility.createIncomingCallNotification(
       VoiceService.this,
       callRecord,
-      VOICE_CHANNEL_HIGH_IMPORTANCE);
+      callWaiting ? VOICE_CHANNEL_DEFAULT_IMPORTANCE : VOICE_CHANNEL_HIGH_IMPORTANCE);
     createOrReplaceNotification(callRecord.getNotificationId(), notification);
+    callRecord.getTimeline().record(CallTimeline.Event.NOTIFICATION_POSTED);
 
-
-
-    // play ringer sound
-    VoiceApplicationProxy.getAudioSwitchManager().getAudioSwitch().activate();
-    VoiceApplicationProxy.getMediaPlayerManager().play(MediaPlayerManager.SoundTable.INCOMING);
+    // play ringer sound, or the call waiting tone over the active call's audio route
+    if (callWaiting) {
+      VoiceApplicationProxy.getMediaPlayerManager().play(MediaPlayerManager.SoundTable.CALL_WAITING);
+    } else {
+      VoiceApplicationProxy.getAudioSwitchManager().activate(callRecord.getDirection());
+      VoiceApplicationProxy.getMediaPlayerManager().play(MediaPlayerManager.SoundTable.INCOMING);
+    }
 
     // trigger JS layer
     sendJSEvent(
       ScopeVoice,
-      constructJSMap(
-        new Pair<>(VoiceEventType, VoiceEventTypeValueIncomingCallInvite),
-        new Pair<>(JS_EVENT_KEY_CALL_INVITE_INFO, serializeCallInvite(callRecord))));
+      () -> jsMap()
+        .putString(VoiceEventType, VoiceEventTypeValueIncomingCallInvite)
+        .putMap(JS_EVENT_KEY_CALL_INVITE_INFO, serializeCallInvite(callRecord))
+        .build());
   }
   private void acceptCall(final CallRecordDatabase.CallRecord callRecord) {
     logger.debug("acceptCall: " + callRecord.getUuid());
+    callRecord.getTimeline().record(CallTimeline.Event.ACCEPT_REQUESTED);
 
     // verify that mic permissions have been granted and if not, throw a error
     if (ActivityCompat.checkSelfPermission(VoiceService.this,
@@ -214,7 +229,7 @@ public class VoiceService extends Service {
 
       // stop ringer sound
       VoiceApplicationProxy.getMediaPlayerManager().stop();
-      VoiceApplicationProxy.getAudioSwitchManager().getAudioSwitch().deactivate();
+      VoiceApplicationProxy.getAudioSwitchManager().deactivate();
 
       // report an error to JS layer
       sendPermissionsError();
@@ -244,6 +259,7 @@ public class VoiceService extends Service {
         VoiceService.this,
         acceptOptions,
         new CallListenerProxy(callRecord.getUuid(), VoiceService.this)));
+    callRecord.getTimeline().record(CallTimeline.Event.ACCEPT_RETURNED);
     callRecord.setCallInviteUsedState();
 
     // handle if event spawned from JS
@@ -254,23 +270,26 @@ public class VoiceService extends Service {
     // notify JS layer
     sendJSEvent(
       ScopeCallInvite,
-      constructJSMap(
-        new Pair<>(CallInviteEventKeyType, CallInviteEventTypeValueAccepted),
-        new Pair<>(CallInviteEventKeyCallSid, callRecord.getCallSid()),
-        new Pair<>(JS_EVENT_KEY_CALL_INVITE_INFO, serializeCallInvite(callRecord))));
+      () -> jsMap()
+        .putString(CallInviteEventKeyType, CallInviteEventTypeValueAccepted)
+        .putString(CallInviteEventKeyCallSid, callRecord.getCallSid())
+        .putMap(JS_EVENT_KEY_CALL_INVITE_INFO, serializeCallInvite(callRecord))
+        .build());
   }
   private void rejectCall(final CallRecordDatabase.CallRecord callRecord) {
     logger.debug("rejectCall: " + callRecord.getUuid());
 
     // remove call record
-    getCallRecordDatabase().remove(callRecord);
+    getCallRecordDatabase().removeByUuid(callRecord.getUuid());
 
     // take down notification
     removeNotification(callRecord.getNotificationId());
 
-    // stop ringer sound
+    // stop ringer sound, keeping the audio route of any call in progress
     VoiceApplicationProxy.getMediaPlayerManager().stop();
-    VoiceApplicationProxy.getAudioSwitchManager().getAudioSwitch().deactivate();
+    if (!hasActiveCall()) {
+      VoiceApplicationProxy.getAudioSwitchManager().deactivate();
+    }
 
     // reject call
     callRecord.getCallInvite().reject(VoiceService.this);
@@ -284,10 +303,11 @@ public class VoiceService extends Service {
     // notify JS layer
     sendJSEvent(
       ScopeCallInvite,
-      constructJSMap(
-        new Pair<>(CallInviteEventKeyType, CallInviteEventTypeValueRejected),
-        new Pair<>(CallInviteEventKeyCallSid, callRecord.getCallSid()),
-        new Pair<>(JS_EVENT_KEY_CALL_INVITE_INFO, serializeCallInvite(callRecord))));
+      () -> jsMap()
+        .putString(CallInviteEventKeyType, CallInviteEventTypeValueRejected)
+        .putString(CallInviteEventKeyCallSid, callRecord.getCallSid())
+        .putMap(JS_EVENT_KEY_CALL_INVITE_INFO, serializeCallInvite(callRecord))
+        .build());
   }
   private void cancelCall(final CallRecordDatabase.CallRecord callRecord) {
     logger.debug("CancelCall: " + callRecord.getUuid());
@@ -295,18 +315,36 @@ public class VoiceService extends Service {
     // take down notification
     removeNotification(callRecord.getNotificationId());
 
-    // stop ringer sound
+    // stop ringer sound, keeping the audio route of any call in progress
     VoiceApplicationProxy.getMediaPlayerManager().stop();
-    VoiceApplicationProxy.getAudioSwitchManager().getAudioSwitch().deactivate();
+    if (!hasActiveCall()) {
+      VoiceApplicationProxy.getAudioSwitchManager().deactivate();
+    }
 
     // notify JS layer
     sendJSEvent(
       ScopeCallInvite,
-      constructJSMap(
-        new Pair<>(CallInviteEventKeyType, CallInviteEventTypeValueCancelled),
-        new Pair<>(CallInviteEventKeyCallSid, callRecord.getCallSid()),
-        new Pair<>(JS_EVENT_KEY_CANCELLED_CALL_INVITE_INFO, serializeCancelledCallInvite(callRecord)),
-        new Pair<>(VoiceErrorKeyError, serializeCallException(callRecord))));
+      () -> jsMap()
+        .putString(CallInviteEventKeyType, CallInviteEventTypeValueCancelled)
+        .putString(CallInviteEventKeyCallSid, callRecord.getCallSid())
+        .putMap(JS_EVENT_KEY_CANCELLED_CALL_INVITE_INFO, serializeCancelledCallInvite(callRecord))
+        .putMap(VoiceErrorKeyError, serializeCallException(callRecord))
+        .build());
+  }
+  private void reapCall(final CallRecordDatabase.CallRecord callRecord) {
+    logger.debug("reapCall: " + callRecord.getUuid());
+
+    // take down notification
+    if (-1 != callRecord.getNotificationId()) {
+      removeNotification(callRecord.getNotificationId());
+    }
+
+    // only stop sounds, routing & foreground if no other call is in progress
+    if (getCallRecordDatabase().getSnapshot().getCallRecords().isEmpty()) {
+      VoiceApplicationProxy.getMediaPlayerManager().stop();
+      VoiceApplicationProxy.getAudioSwitchManager().deactivate();
+      removeForegroundNotification();
+    }
   }
   private void raiseOutgoingCallNotification(final CallRecordDatabase.CallRecord callRecord) {
     logger.debug("raiseOutgoingCallNotification: " + callRecord.getUuid());
@@ -317,6 +355,7 @@ public class VoiceService extends Service {
         VoiceService.this,
         callRecord);
     createOrReplaceForegroundNotification(callRecord.getNotificationId(), notification);
+    callRecord.getTimeline().record(CallTimeline.Event.NOTIFICATION_POSTED);
   }
   private void foregroundAndDeprioritizeIncomingCallNotification(final CallRecordDatabase.CallRecord callRecord) {
     logger.debug("foregroundAndDeprioritizeIncomingCallNotification: " + callRecord.getUuid());
@@ -334,9 +373,10 @@ public class VoiceService extends Service {
     // notify JS layer
     sendJSEvent(
       ScopeCallInvite,
-      constructJSMap(
-        new Pair<>(CallInviteEventKeyType, CallInviteEventTypeValueNotificationTapped),
-        new Pair<>(CallInviteEventKeyCallSid, callRecord.getCallSid())));
+      () -> jsMap()
+        .putString(CallInviteEventKeyType, CallInviteEventTypeValueNotificationTapped)
+        .putString(CallInviteEventKeyCallSid, callRecord.getCallSid())
+        .build());
   }
   private void cancelActiveCallNotification(final CallRecordDatabase.CallRecord callRecord) {
     logger.debug("cancelNotification");
@@ -383,21 +423,30 @@ public class VoiceService extends Service {
       startForeground(id, notification);
     }
   }
+  private static boolean hasActiveCall() {
+    for (CallRecordDatabase.CallRecord callRecord: getCallRecordDatabase().getSnapshot().getCallRecords()) {
+      if (null != callRecord.getVoiceCall() &&
+        Call.State.DISCONNECTED != callRecord.getVoiceCall().getState()) {
+        return true;
+      }
+    }
+    return false;
+  }
   private static UUID getMessageUUID(@NonNull final Intent intent) {
     return (UUID)intent.getSerializableExtra(Constants.MSG_KEY_UUID);
   }
   private static CallRecordDatabase.CallRecord getCallRecord(final UUID uuid) {
-    return Objects.requireNonNull(getCallRecordDatabase().get(new CallRecordDatabase.CallRecord(uuid)));
+    return Objects.requireNonNull(getCallRecordDatabase().findByUuid(uuid));
   }
-  private static void sendJSEvent(@NonNull String scope, @NonNull WritableMap event) {
-    getJSEventEmitter().sendEvent(scope, event);
+  private static void sendJSEvent(@NonNull String scope, @NonNull Supplier<WritableMap> event) {
+    getJSEventEmitter().sendEvent(scope, JSEventEmitter.Priority.CRITICAL, event);
   }
   private static void sendPermissionsError() {
     final String errorMessage = "Missing permissions.";
     final int errorCode = 31401;
-    getJSEventEmitter().sendEvent(ScopeVoice, constructJSMap(
-      new Pair<>(VoiceEventType, VoiceEventError),
-      new Pair<>(VoiceErrorKeyError, serializeError(errorCode, errorMessage))
-    ));
+    getJSEventEmitter().sendEvent(ScopeVoice, jsMap()
+      .putString(VoiceEventType, VoiceEventError)
+      .putMap(VoiceErrorKeyError, serializeError(errorCode, errorMessage))
+      .build());
   }
 }
@@ -0,0 +1,114 @@
+package com.twiliovoicereactnative;
+
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.Promise;
+import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.ReactContextBaseJavaModule;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+
+/**
+ * Old architecture stand-in for the spec codegen generates from
+ * src/NativeTwilioVoiceReactNative.ts when the New Architecture is enabled. Without codegen the
+ * module is a plain bridge module. The stand-in declares the same abstract methods as the
+ * generated spec, with Int32 arguments as doubles, so the module's overrides are checked against
+ * the spec on both architectures. Keep it in sync with the codegen spec.
+ */
+abstract class NativeTwilioVoiceReactNativeSpec extends ReactContextBaseJavaModule {
+  NativeTwilioVoiceReactNativeSpec(ReactApplicationContext reactContext) {
+    super(reactContext);
+  }
+
+  /**
+   * Event emitter bindings.
+   */
+  public abstract void addListener(String eventName);
+  public abstract void removeListeners(double count);
+
+  /**
+   * Call bindings.
+   */
+  public abstract void call_disconnect(String uuid, Promise promise);
+  public abstract void call_getQualitySummary(String uuid, Promise promise);
+  public abstract void call_getState(String uuid, Promise promise);
+  public abstract void call_getStats(String uuid, @Nullable ReadableArray fields, Promise promise);
+  public abstract void call_getTimeline(String uuid, Promise promise);
+  public abstract void call_hold(String uuid, boolean hold, Promise promise);
+  public abstract void call_isMuted(String uuid, Promise promise);
+  public abstract void call_isOnHold(String uuid, Promise promise);
+  public abstract void call_mute(String uuid, boolean mute, Promise promise);
+  public abstract void call_postFeedback(String uuid, String score, String issue, Promise promise);
+  public abstract void call_sendDigits(String uuid, String digits, Promise promise);
+  public abstract void call_sendMessage(
+    String uuid,
+    String content,
+    String contentType,
+    String messageType,
+    Promise promise);
+  public abstract void call_startStatsStream(
+    String uuid,
+    double intervalMs,
+    @Nullable ReadableArray fields,
+    boolean delta,
+    Promise promise);
+  public abstract void call_stopStatsStream(String uuid, Promise promise);
+  public abstract void call_requestStatsReport(String uuid, Promise promise);
+
+  /**
+   * Call Invite bindings.
+   */
+  public abstract void callInvite_accept(String uuid, ReadableMap options, Promise promise);
+  public abstract void callInvite_reject(String uuid, Promise promise);
+  public abstract void callInvite_sendMessage(
+    String uuid,
+    String content,
+    String contentType,
+    String messageType,
+    Promise promise);
+
+  /**
+   * PreflightTest bindings.
+   */
+  public abstract void preflightTest_getCallSid(String uuid, Promise promise);
+  public abstract void preflightTest_getEndTime(String uuid, Promise promise);
+  public abstract void preflightTest_getLatestSample(String uuid, Promise promise);
+  public abstract void preflightTest_getReport(String uuid, Promise promise);
+  public abstract void preflightTest_getStartTime(String uuid, Promise promise);
+  public abstract void preflightTest_getState(String uuid, Promise promise);
+  public abstract void preflightTest_stop(String uuid, Promise promise);
+
+  /**
+   * Voice bindings.
+   */
+  public abstract void voice_connect_android(
+    String accessToken,
+    ReadableMap twimlParams,
+    @Nullable String notificationDisplayName,
+    @Nullable ReadableArray iceServers,
+    @Nullable String iceTransportPolicy,
+    Promise promise);
+  public abstract void voice_getAudioDevices(Promise promise);
+  public abstract void voice_getCalls(Promise promise);
+  public abstract void voice_getCallInvites(Promise promise);
+  public abstract void voice_getCallsVersion(Promise promise);
+  public abstract void voice_getLostCalls(Promise promise);
+  public abstract void voice_getCallHistory(double offset, double limit, Promise promise);
+  public abstract void voice_getReapedCallRecordCounts(Promise promise);
+  public abstract void voice_addEventListener(String eventName, Promise promise);
+  public abstract void voice_removeEventListeners(String eventName, double count, Promise promise);
+  public abstract void voice_getDroppedEventCounts(Promise promise);
+  public abstract void voice_getBridgeMetrics(Promise promise);
+  public abstract void voice_getDeviceToken(Promise promise);
+  public abstract void voice_getVersion(Promise promise);
+  public abstract void voice_handleEvent(ReadableMap messageData, Promise promise);
+  public abstract void voice_register(String accessToken, Promise promise);
+  public abstract void voice_runPreflight(String accessToken, ReadableMap options, Promise promise);
+  public abstract void voice_selectAudioDevice(String uuid, Promise promise);
+  public abstract void voice_setAudioRoutingPolicy(@Nullable ReadableMap policy, Promise promise);
+  public abstract void voice_setExpoVersion(@Nullable String expoVersion, Promise promise);
+  public abstract void voice_setIncomingCallContactHandleTemplate(
+    @Nullable String template,
+    Promise promise);
+  public abstract void voice_unregister(String accessToken, Promise promise);
+}
@@ -7,7 +7,7 @@
 
 import { EventEmitter } from 'eventemitter3';
 import type { RTCStats } from './';
-import { NativeModule, NativeEventEmitter } from './common';
+import { NativeModule, NativeEventEmitter, Platform } from './common';
 import { Constants } from './constants';
 import type {
   NativeCallEvent,
@@ -16,14 +16,18 @@ import type {
   NativeCallFeedbackIssue,
   NativeCallFeedbackScore,
 } from './type/Call';
+import type { CallQualitySummary } from './type/CallQuality';
+import type { CallTimelineEntry } from './type/CallTimeline';
 import type { CustomParameters, Uuid } from './type/common';
 import type { TwilioError } from './error/TwilioError';
 import { InvalidArgumentError } from './error/InvalidArgumentError';
+import { UnsupportedPlatformError } from './error/UnsupportedPlatformError';
 import { constructTwilioError } from './error/utility';
 import { CallMessage, validateCallMessage } from './CallMessage/CallMessage';
 import { IncomingCallMessage } from './CallMessage/IncomingCallMessage';
 import { OutgoingCallMessage } from './CallMessage/OutgoingCallMessage';
 import { settleNativePromise } from './utility/nativePromise';
+import { applyStatsReportDelta } from './utility/statsReportDelta';
 
 /**
  * Defines strict typings for all events emitted by {@link (Call:class)
@@ -82,6 +86,19 @@ export declare interface Call {
     incomingCallMessage: IncomingCallMessage
   ): boolean;
 
+  /** @internal */
+  emit(
+    statsEvent: Call.Event.Stats,
+    statsReport: RTCStats.StatsReport
+  ): boolean;
+
+  /** @internal */
+  emit(
+    qualityDegradingEvent: Call.Event.QualityDegrading,
+    confidence: number,
+    metrics: Call.QualityDegradingMetric[]
+  ): boolean;
+
   /**
    * ----------------
    * Listener Typings
@@ -316,6 +333,66 @@ export declare interface Call {
     listener: Call.Listener.MessageReceived
   ): this;
 
+  /**
+   * Stats event. Raised with each stats report sampled by a stats stream, see
+   * {@link (Call:class).startStatsStream}.
+   *
+   * @example
+   * ```typescript
+   * call.addListener(Call.Event.Stats, (statsReport) => {
+   *   // a stats report was sampled
+   * });
+   * ```
+   *
+   * @param statsEvent - The raised event string.
+   * @param listener - A listener function that will be invoked when the event
+   * is raised.
+   * @returns - The call object.
+   */
+  addListener(
+    statsEvent: Call.Event.Stats,
+    listener: Call.Listener.Stats
+  ): this;
+  /** {@inheritDoc (Call:interface).(addListener:9)} */
+  on(statsEvent: Call.Event.Stats, listener: Call.Listener.Stats): this;
+
+  /**
+   * Quality degrading event. Raised when the quality of the call is predicted
+   * to degrade, before the matching quality warnings are raised.
+   *
+   * @remarks
+   * Only raised on Android, and only when both the native sampling of call
+   * quality and the detection of its degradation are enabled, see
+   * {@link (Call:class).getQualitySummary}. Detection is enabled by
+   * overriding the `twiliovoicereactnative_quality_degrading_confidence_percent`
+   * integer resource with the confidence threshold, in percent. The event is
+   * raised again only once the quality has recovered.
+   *
+   * @example
+   * ```typescript
+   * call.addListener(
+   *   Call.Event.QualityDegrading,
+   *   (confidence: number, metrics: Call.QualityDegradingMetric[]) => {
+   *     // the quality of the call is degrading
+   *   },
+   * );
+   * ```
+   *
+   * @param qualityDegradingEvent - The raised event string.
+   * @param listener - A listener function that will be invoked when the event
+   * is raised.
+   * @returns - The call object.
+   */
+  addListener(
+    qualityDegradingEvent: Call.Event.QualityDegrading,
+    listener: Call.Listener.QualityDegrading
+  ): this;
+  /** {@inheritDoc (Call:interface).(addListener:10)} */
+  on(
+    qualityDegradingEvent: Call.Event.QualityDegrading,
+    listener: Call.Listener.QualityDegrading
+  ): this;
+
   /**
    * Generic event listener typings.
    * @param callEvent - The raised event string.
@@ -325,7 +402,7 @@ export declare interface Call {
    */
   addListener(callEvent: Call.Event, listener: Call.Listener.Generic): this;
   /**
-   * {@inheritDoc (Call:interface).(addListener:9)}
+   * {@inheritDoc (Call:interface).(addListener:11)}
    */
   on(callEvent: Call.Event, listener: Call.Listener.Generic): this;
 }
@@ -397,6 +474,19 @@ export class Call extends EventEmitter {
    * Call `to` parameter.
    */
   private _to?: string;
+  /**
+   * The latest report of the stats stream, the base of the next delta when
+   * the stream is in delta mode.
+   */
+  private _statsStreamReport?: RTCStats.StatsReport;
+  /**
+   * The sequence number of {@link Call._statsStreamReport}.
+   */
+  private _statsStreamSequence?: number;
+  /**
+   * Whether a full stats report was requested and has not been received yet.
+   */
+  private _statsStreamResyncPending: boolean = false;
 
   /**
    * Handlers for native call events. Set upon construction so we can
@@ -469,6 +559,16 @@ export class Call extends EventEmitter {
        * Call Message
        */
       [Constants.CallEventMessageReceived]: this._handleMessageReceivedEvent,
+
+      /**
+       * Call Stats
+       */
+      [Constants.CallEventStats]: this._handleStatsEvent,
+
+      /**
+       * Call Quality Degrading
+       */
+      [Constants.CallEventQualityDegrading]: this._handleQualityDegradingEvent,
     };
 
     NativeEventEmitter.addListener(
@@ -481,9 +581,17 @@ export class Call extends EventEmitter {
    * This intermediate native call event handler acts as a "gate", only
    * executing the actual call event handler (such as `Connected`) if this call
    * object matches the `Uuid` of the call that had an event raised.
-   * @param nativeCallEvent - A call event directly from the native layer.
+   * @param nativeCallEvent - A call event directly from the native layer, or a
+   * batch of them.
    */
-  private _handleNativeEvent = (nativeCallEvent: NativeCallEvent) => {
+  private _handleNativeEvent = (
+    nativeCallEvent: NativeCallEvent | NativeCallEvent[]
+  ) => {
+    if (Array.isArray(nativeCallEvent)) {
+      nativeCallEvent.forEach(this._handleNativeEvent);
+      return;
+    }
+
     const { type, call: callInfo } = nativeCallEvent;
 
     const handler = this._nativeEventHandler[type];
@@ -683,6 +791,89 @@ export class Call extends EventEmitter {
     this.emit(Call.Event.MessageReceived, incomingCallMessage);
   };
 
+  /**
+   * Handler for the {@link (Call:namespace).Event.Stats} event. Stats events
+   * only identify the call, so the call information is not updated.
+   * @param nativeCallEvent - The native call event.
+   */
+  private _handleStatsEvent = (nativeCallEvent: NativeCallEvent) => {
+    if (nativeCallEvent.type !== Constants.CallEventStats) {
+      throw new Error(
+        'Incorrect "call#stats" handler called for type ' +
+          `"${nativeCallEvent.type}".`
+      );
+    }
+
+    const statsReportDelta = nativeCallEvent[Constants.CallEventStatsDelta];
+    const sequence = nativeCallEvent[Constants.CallEventStatsSequence];
+    let statsReport = nativeCallEvent[Constants.CallEventStatsReport];
+    if (statsReportDelta) {
+      if (
+        !this._statsStreamReport ||
+        this._statsStreamSequence === undefined ||
+        sequence !== this._statsStreamSequence + 1
+      ) {
+        // a delta is only meaningful against the report it was encoded from,
+        // resynchronize from a full report when there is none or one was missed
+        this._statsStreamReport = undefined;
+        this._requestStatsReport();
+        return;
+      }
+      statsReport = applyStatsReportDelta(
+        this._statsStreamReport,
+        statsReportDelta
+      );
+    } else {
+      this._statsStreamResyncPending = false;
+    }
+    if (!statsReport) {
+      return;
+    }
+
+    this._statsStreamReport = statsReport;
+    this._statsStreamSequence = sequence;
+    this.emit(Call.Event.Stats, statsReport);
+  };
+
+  /**
+   * Request a full report from the stats stream of the call, at most once
+   * until a full report is received.
+   */
+  private _requestStatsReport(): void {
+    if (this._statsStreamResyncPending) {
+      return;
+    }
+    this._statsStreamResyncPending = true;
+    settleNativePromise(NativeModule.call_requestStatsReport(this._uuid)).catch(
+      () => {
+        this._statsStreamResyncPending = false;
+      }
+    );
+  }
+
+  /**
+   * Handler for the {@link (Call:namespace).Event.QualityDegrading} event.
+   * Quality degrading events only identify the call, so the call information
+   * is not updated.
+   * @param nativeCallEvent - The native call event.
+   */
+  private _handleQualityDegradingEvent = (nativeCallEvent: NativeCallEvent) => {
+    if (nativeCallEvent.type !== Constants.CallEventQualityDegrading) {
+      throw new Error(
+        'Incorrect "call#qualityDegrading" handler called for type ' +
+          `"${nativeCallEvent.type}".`
+      );
+    }
+
+    this.emit(
+      Call.Event.QualityDegrading,
+      nativeCallEvent[Constants.CallEventQualityDegradingConfidence],
+      nativeCallEvent[
+        Constants.CallEventQualityDegradingMetrics
+      ] as Call.QualityDegradingMetric[]
+    );
+  };
+
   /**
    * Disconnect this side of the call.
    * @returns
@@ -746,6 +937,46 @@ export class Call extends EventEmitter {
     return this._initialConnectedTimestamp;
   }
 
+  /**
+   * Get a summary of the quality of the call: the median, 95th percentile,
+   * maximum and trend of its jitter, round trip time, packet loss and MOS
+   * over a short and a long window.
+   *
+   * @remarks
+   * The native layer samples the stats of connected calls periodically and
+   * aggregates them as they arrive, so summarizing the quality of a call does
+   * not need raw stats reports on the JS thread. Sampling is opt-in: set the
+   * `twiliovoicereactnative_quality_sample_interval_ms` integer resource to
+   * a positive interval, such as `1000`, to enable it. Until then every
+   * metric of the summary has no samples. The window durations can be changed
+   * by overriding the `twiliovoicereactnative_quality_short_window_seconds`
+   * and `twiliovoicereactnative_quality_long_window_seconds` integer
+   * resources.
+   *
+   * Unsupported platforms:
+   * - iOS
+   *
+   * @returns
+   *  A `Promise` that
+   *    - Resolves with the quality summary of the call.
+   *    - Rejects when the call is no longer active, or when invoked on an
+   *      unsupported platform.
+   */
+  async getQualitySummary(): Promise<CallQualitySummary> {
+    switch (Platform.OS) {
+      case 'android':
+        const qualitySummary = await settleNativePromise(
+          NativeModule.call_getQualitySummary(this._uuid)
+        );
+        return qualitySummary;
+      default:
+        throw new UnsupportedPlatformError(
+          `Unsupported platform "${Platform.OS}". ` +
+            'This method is only supported on Android.'
+        );
+    }
+  }
+
   /**
    * Get the call `SID`.
    * @returns
@@ -769,6 +1000,16 @@ export class Call extends EventEmitter {
 
   /**
    * Gets the `PeerConnection` `WebRTC` stats for the ongoing call.
+   *
+   * @remarks
+   * On Android, the report can be limited to the sections & fields that are
+   * needed, which are then the only ones serialized. The projection is
+   * ignored on iOS, where the full report is returned.
+   *
+   * @param fields - The sections & fields to include, such as
+   * `localAudioTrackStats` or `remoteAudioTrackStats.mos`. Every field is
+   * included when omitted. The `peerConnectionId` field is always included.
+   *
    * @returns
    *  A `Promise` that
    *    - Resolves with a {@link RTCStats.StatsReport} object representing the
@@ -776,13 +1017,141 @@ export class Call extends EventEmitter {
    *    - Rejects when a {@link RTCStats.StatsReport} cannot be generated for a
    *      call.
    */
-  async getStats(): Promise<RTCStats.StatsReport> {
+  async getStats(fields?: Call.StatsField[]): Promise<RTCStats.StatsReport> {
     const stats = await settleNativePromise(
-      NativeModule.call_getStats(this._uuid)
+      Platform.OS === 'android'
+        ? NativeModule.call_getStats(this._uuid, fields ?? null)
+        : NativeModule.call_getStats(this._uuid)
     );
     return stats;
   }
 
+  /**
+   * Start sampling the `WebRTC` stats of the call natively on a timer. Each
+   * report is raised as a {@link (Call:namespace).Event.Stats} event, so a
+   * live quality meter does not pay a promise round trip per sample.
+   *
+   * @remarks
+   * Starting a stream replaces the current stream of the call. The stream
+   * stops when {@link (Call:class).stopStatsStream} is invoked or when the
+   * call disconnects. A sample is skipped while the previous one is still
+   * being gathered, and only the latest report is delivered when the JS
+   * thread falls behind.
+   *
+   * In delta mode, the native layer only sends the fields that changed since
+   * the previous sample, and counters as their increment, which shrinks most
+   * samples by an order of magnitude. Listeners still receive full reports,
+   * rebuilt from the deltas. Samples are not coalesced in delta mode, as every
+   * delta is needed to rebuild the next report. A full report is sent every
+   * ten samples, and when a call object misses a delta or joins the stream
+   * late, it requests a full report and resumes from it.
+   *
+   * Unsupported platforms:
+   * - iOS
+   *
+   * @param intervalMs - The sampling interval, in milliseconds.
+   * @param fields - The sections & fields to sample, such as
+   * `localAudioTrackStats` or `remoteAudioTrackStats.mos`. Every field is
+   * sampled when omitted. The `peerConnectionId` field is always included.
+   * @param delta - Whether samples are sent as deltas. Defaults to `false`.
+   *
+   * @returns
+   *  A `Promise` that
+   *    - Resolves when the stream has started.
+   *    - Rejects with an `InvalidArgumentError` if the interval is not a
+   *      positive integer.
+   *    - Rejects when the call is no longer active, or when invoked on an
+   *      unsupported platform.
+   */
+  async startStatsStream(
+    intervalMs: number,
+    fields?: Call.StatsField[],
+    delta: boolean = false
+  ): Promise<void> {
+    switch (Platform.OS) {
+      case 'android':
+        if (!Number.isInteger(intervalMs) || intervalMs <= 0) {
+          throw new InvalidArgumentError(
+            '"intervalMs" must be a positive integer.'
+          );
+        }
+        await settleNativePromise(
+          NativeModule.call_startStatsStream(
+            this._uuid,
+            intervalMs,
+            fields,
+            delta
+          )
+        );
+        return;
+      default:
+        throw new UnsupportedPlatformError(
+          `Unsupported platform "${Platform.OS}". ` +
+            'This method is only supported on Android.'
+        );
+    }
+  }
+
+  /**
+   * Stop the stats stream of the call, see
+   * {@link (Call:class).startStatsStream}.
+   *
+   * Unsupported platforms:
+   * - iOS
+   *
+   * @returns
+   *  A `Promise` that
+   *    - Resolves when the stream has stopped, or if there was no stream.
+   *    - Rejects when invoked on an unsupported platform.
+   */
+  async stopStatsStream(): Promise<void> {
+    switch (Platform.OS) {
+      case 'android':
+        await settleNativePromise(
+          NativeModule.call_stopStatsStream(this._uuid)
+        );
+        return;
+      default:
+        throw new UnsupportedPlatformError(
+          `Unsupported platform "${Platform.OS}". ` +
+            'This method is only supported on Android.'
+        );
+    }
+  }
+
+  /**
+   * Get the lifecycle timeline of the call, such as when the call invite was
+   * received, when it was accepted and when the call connected.
+   *
+   * @remarks
+   * The native layer retains a bounded number of events per call, the oldest
+   * events are dropped once the capacity is reached. The timeline of a call
+   * remains available for a short while after the call has ended.
+   *
+   * Unsupported platforms:
+   * - iOS
+   *
+   * @returns
+   *  A `Promise` that
+   *    - Resolves with an array of timeline entries, oldest first.
+   *    - Rejects when the native layer no longer holds the timeline of the
+   *      call, or when invoked on an unsupported platform.
+   */
+  async getTimeline(): Promise<CallTimelineEntry[]> {
+    switch (Platform.OS) {
+      case 'android':
+        const timeline = await settleNativePromise(
+          NativeModule.call_getTimeline(this._uuid)
+        );
+        return timeline;
+      default:
+        throw new UnsupportedPlatformError(
+          `Unsupported platform "${Platform.OS}". ` +
+            'This method is only supported on Android.'
+        );
+    }
+  }
+
   /**
    * Get the value of the `to` parameter given to this call.
    * @returns
@@ -1032,6 +1401,18 @@ export namespace Call {
      * See {@link (Call:interface).(addListener:8)}
      */
     'MessageReceived' = 'messageReceived',
+
+    /**
+     * Event string for the `Stats` event.
+     * See {@link (Call:interface).(addListener:9)}.
+     */
+    'Stats' = 'stats',
+
+    /**
+     * Event string for the `QualityDegrading` event.
+     * See {@link (Call:interface).(addListener:10)}.
+     */
+    'QualityDegrading' = 'qualityDegrading',
   }
 
   /**
@@ -1118,6 +1499,29 @@ export namespace Call {
     'LowMos' = 'low-mos',
   }
 
+  /**
+   * An enumeration of the metrics monitored to predict the quality degradation
+   * of a call, see {@link (Call:namespace).Event.QualityDegrading}.
+   */
+  export enum QualityDegradingMetric {
+    /**
+     * The jitter of the audio tracks is rising.
+     */
+    'Jitter' = Constants.CallQualityDegradingMetricJitter,
+    /**
+     * The round trip time is rising.
+     */
+    'Rtt' = Constants.CallQualityDegradingMetricRtt,
+    /**
+     * The packet loss of the remote audio tracks is rising.
+     */
+    'PacketLoss' = Constants.CallQualityDegradingMetricPacketLoss,
+    /**
+     * The available outgoing bitrate is falling.
+     */
+    'AvailableBitrate' = Constants.CallQualityDegradingMetricAvailableBitrate,
+  }
+
   /**
    * An enumeration of all scores that could be used to rate the experience of
    * a call or issues encountered during the call.
@@ -1183,6 +1587,23 @@ export namespace Call {
     'Echo' = 'echo',
   }
 
+  /**
+   * The sections of a {@link RTCStats.StatsReport}, such as
+   * `localAudioTrackStats`.
+   */
+  export type StatsSection = Exclude<
+    keyof RTCStats.StatsReport,
+    'peerConnectionId'
+  >;
+
+  /**
+   * A projection of a {@link RTCStats.StatsReport}, either a whole section,
+   * such as `localAudioTrackStats`, or a field of a section, such as
+   * `localAudioTrackStats.jitter`. See {@link (Call:class).getStats} and
+   * {@link (Call:class).startStatsStream}.
+   */
+  export type StatsField = StatsSection | `${StatsSection}.${string}`;
+
   /**
    * Listener types for all events emitted by a
    * {@link (Call:class) | Call object.}
@@ -1277,12 +1698,37 @@ export namespace Call {
       incomingCallMessage: IncomingCallMessage
     ) => void;
 
+    /**
+     * Stats event listener. This should be the function signature of any
+     * event listener bound to the {@link (Call:namespace).Event.Stats} event.
+     *
+     * @remarks
+     * See {@link (Call:interface).(addListener:9)}.
+     */
+    export type Stats = (statsReport: RTCStats.StatsReport) => void;
+
+    /**
+     * Quality degrading event listener. This should be the function signature
+     * of any event listener bound to the
+     * {@link (Call:namespace).Event.QualityDegrading} event.
+     *
+     * @remarks
+     * See {@link (Call:interface).(addListener:10)}.
+     *
+     * The confidence is between 0 and 1, and the metrics are ordered from the
+     * most degraded.
+     */
+    export type QualityDegrading = (
+      confidence: number,
+      metrics: Call.QualityDegradingMetric[]
+    ) => void;
+
     /**
      * Generic event listener. This should be the function signature of any
      * event listener bound to any call event.
      *
      * @remarks
-     * See {@link (Call:interface).(addListener:9)}.
+     * See {@link (Call:interface).(addListener:11)}.
      */
     export type Generic = (...args: any[]) => void;
   }
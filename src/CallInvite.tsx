@@ -324,11 +324,16 @@ export class CallInvite extends EventEmitter {
    * this call invite object matches the `Uuid` of the call invite that had an
    * event raised.
    * @param nativeCallInviteEvent - A call invite event directly from the native
-   * layer.
+   * layer, or a batch of them.
    */
   private _handleNativeCallInviteEvent = (
-    nativeCallInviteEvent: NativeCallInviteEvent
+    nativeCallInviteEvent: NativeCallInviteEvent | NativeCallInviteEvent[]
   ) => {
+    if (Array.isArray(nativeCallInviteEvent)) {
+      nativeCallInviteEvent.forEach(this._handleNativeCallInviteEvent);
+      return;
+    }
+
     if (typeof nativeCallInviteEvent !== 'object') {
       throw new TwilioError(
         `Received a "${typeof nativeCallInviteEvent}" native call invite event.`
@@ -188,11 +188,17 @@ export class OutgoingCallMessage extends IncomingCallMessage {
 
   /**
    * This intermediate native callMessage event handler acts as a "gate".
-   * @param nativeCallMessageEvent - A callMessage event directly from the native layer.
+   * @param nativeCallMessageEvent - A callMessage event directly from the native layer,
+   * or a batch of them.
    */
   private _handleNativeEvent = (
-    nativeCallMessageEvent: NativeCallMessageEvent
+    nativeCallMessageEvent: NativeCallMessageEvent | NativeCallMessageEvent[]
   ) => {
+    if (Array.isArray(nativeCallMessageEvent)) {
+      nativeCallMessageEvent.forEach(this._handleNativeEvent);
+      return;
+    }
+
     const { type } = nativeCallMessageEvent;
 
     const handler = this._nativeEventHandler[type];
@@ -0,0 +1,124 @@
+/**
+ * Copyright © 2026 Twilio, Inc. All rights reserved. Licensed under the Twilio
+ * license.
+ *
+ * See LICENSE in the project root for license information.
+ */
+
+import type { TurboModule } from 'react-native';
+import { TurboModuleRegistry } from 'react-native';
+import type { Int32 } from 'react-native/Libraries/Types/CodegenTypes';
+
+/**
+ * Codegen spec of the `TwilioVoiceReactNative` native module on Android.
+ *
+ * Under the New Architecture the module is a TurboModule and these methods are
+ * invoked through JSI. Under the old architecture the same module is a bridge
+ * module. Every promise resolves with the native promise envelope, see
+ * `NativePromise` in `./type/NativeModule`.
+ *
+ * @remarks
+ * Codegen only reads this file, so argument types are spelled out with the
+ * primitive and object types codegen understands rather than the SDK types.
+ *
+ * @internal
+ */
+export interface Spec extends TurboModule {
+  /**
+   * Event emitter bindings.
+   */
+  addListener(eventName: string): void;
+  removeListeners(count: number): void;
+
+  /**
+   * Call bindings.
+   */
+  call_disconnect(uuid: string): Promise<Object>;
+  call_getQualitySummary(uuid: string): Promise<Object>;
+  call_getState(uuid: string): Promise<Object>;
+  call_getStats(uuid: string, fields: Array<string> | null): Promise<Object>;
+  call_getTimeline(uuid: string): Promise<Object>;
+  call_hold(uuid: string, hold: boolean): Promise<Object>;
+  call_isMuted(uuid: string): Promise<Object>;
+  call_isOnHold(uuid: string): Promise<Object>;
+  call_mute(uuid: string, mute: boolean): Promise<Object>;
+  call_postFeedback(
+    uuid: string,
+    score: string,
+    issue: string
+  ): Promise<Object>;
+  call_sendDigits(uuid: string, digits: string): Promise<Object>;
+  call_sendMessage(
+    uuid: string,
+    content: string,
+    contentType: string,
+    messageType: string
+  ): Promise<Object>;
+  call_startStatsStream(
+    uuid: string,
+    intervalMs: Int32,
+    fields: Array<string> | null,
+    delta: boolean
+  ): Promise<Object>;
+  call_stopStatsStream(uuid: string): Promise<Object>;
+  call_requestStatsReport(uuid: string): Promise<Object>;
+
+  /**
+   * Call Invite bindings.
+   */
+  callInvite_accept(uuid: string, options: Object): Promise<Object>;
+  callInvite_reject(uuid: string): Promise<Object>;
+  callInvite_sendMessage(
+    uuid: string,
+    content: string,
+    contentType: string,
+    messageType: string
+  ): Promise<Object>;
+
+  /**
+   * PreflightTest bindings.
+   */
+  preflightTest_getCallSid(uuid: string): Promise<Object>;
+  preflightTest_getEndTime(uuid: string): Promise<Object>;
+  preflightTest_getLatestSample(uuid: string): Promise<Object>;
+  preflightTest_getReport(uuid: string): Promise<Object>;
+  preflightTest_getStartTime(uuid: string): Promise<Object>;
+  preflightTest_getState(uuid: string): Promise<Object>;
+  preflightTest_stop(uuid: string): Promise<Object>;
+
+  /**
+   * Voice bindings.
+   */
+  voice_connect_android(
+    accessToken: string,
+    twimlParams: Object,
+    notificationDisplayName: string | null,
+    iceServers: Array<Object> | null,
+    iceTransportPolicy: string | null
+  ): Promise<Object>;
+  voice_getAudioDevices(): Promise<Object>;
+  voice_getCalls(): Promise<Object>;
+  voice_getCallInvites(): Promise<Object>;
+  voice_getCallsVersion(): Promise<Object>;
+  voice_getLostCalls(): Promise<Object>;
+  voice_getCallHistory(offset: Int32, limit: Int32): Promise<Object>;
+  voice_getReapedCallRecordCounts(): Promise<Object>;
+  voice_addEventListener(eventName: string): Promise<Object>;
+  voice_removeEventListeners(eventName: string, count: Int32): Promise<Object>;
+  voice_getDroppedEventCounts(): Promise<Object>;
+  voice_getBridgeMetrics(): Promise<Object>;
+  voice_getDeviceToken(): Promise<Object>;
+  voice_getVersion(): Promise<Object>;
+  voice_handleEvent(messageData: Object): Promise<Object>;
+  voice_register(accessToken: string): Promise<Object>;
+  voice_runPreflight(accessToken: string, options: Object): Promise<Object>;
+  voice_selectAudioDevice(uuid: string): Promise<Object>;
+  voice_setAudioRoutingPolicy(policy: Object | null): Promise<Object>;
+  voice_setExpoVersion(expoVersion: string | null): Promise<Object>;
+  voice_setIncomingCallContactHandleTemplate(
+    template: string | null
+  ): Promise<Object>;
+  voice_unregister(accessToken: string): Promise<Object>;
+}
+
+export default TurboModuleRegistry.get<Spec>('TwilioVoiceReactNative');
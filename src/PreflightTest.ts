@@ -279,11 +279,18 @@ export class PreflightTest extends EventEmitter {
   }
 
   /**
-   * Handle all PreflightTest native events.
+   * Handle all PreflightTest native events, unpacking batches of them.
    */
   private _handleNativeEvent = (
-    nativePreflightTestEvent: PreflightTestType.NativeEvent
+    nativePreflightTestEvent:
+      | PreflightTestType.NativeEvent
+      | PreflightTestType.NativeEvent[]
   ): void => {
+    if (Array.isArray(nativePreflightTestEvent)) {
+      nativePreflightTestEvent.forEach(this._handleNativeEvent);
+      return;
+    }
+
     const uuid = nativePreflightTestEvent[Constants.PreflightTestEventKeyUuid];
     if (typeof uuid !== 'string') {
       throw new InvalidStateError(
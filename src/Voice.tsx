@@ -21,11 +21,23 @@ import type { TwilioError } from './error/TwilioError';
 import { UnsupportedPlatformError } from './error/UnsupportedPlatformError';
 import { constructTwilioError } from './error/utility';
 import { PreflightTest } from './PreflightTest';
-import type { NativeAudioDeviceInfo } from './type/AudioDevice';
+import type {
+  NativeAudioDeviceInfo,
+  NativeAudioDevicesInfo,
+} from './type/AudioDevice';
+import type { AudioRoutingPolicy } from './type/AudioRoutingPolicy';
+import type { BridgeMetrics } from './type/BridgeMetrics';
 import type { NativeCallInfo } from './type/Call';
+import type { CallHistoryEntry } from './type/CallHistory';
+import type {
+  ReapedCallRecord,
+  ReapedCallRecordCounts,
+} from './type/CallRecordReaper';
 import type { NativeCallInviteInfo } from './type/CallInvite';
 import type { CallKit } from './type/CallKit';
 import type { CustomParameters, Uuid } from './type/common';
+import type { DroppedEventCounts } from './type/DroppedEventCounts';
+import type { LostCall } from './type/LostCall';
 import type { NativeVoiceEvent, NativeVoiceEventType } from './type/Voice';
 import {
   validatePreflightOptions,
@@ -92,6 +104,12 @@ export declare interface Voice {
   /** @internal */
   emit(voiceEvent: Voice.Event.CallInvite, callInvite: CallInvite): boolean;
 
+  /** @internal */
+  emit(
+    voiceEvent: Voice.Event.CallRecordReaped,
+    reapedCallRecord: ReapedCallRecord
+  ): boolean;
+
   /** @internal */
   emit(voiceEvent: Voice.Event.Error, error: TwilioError): boolean;
 
@@ -233,6 +251,38 @@ export declare interface Voice {
     listener: Voice.Listener.Unregistered
   ): this;
 
+  /**
+   * Call record reaped event. Raised when a stale call or call invite is
+   * removed by the native call record reaper.
+   *
+   * @remarks
+   * Only raised on Android.
+   *
+   * @example
+   * ```typescript
+   * voice.addListener(
+   *   Voice.Event.CallRecordReaped,
+   *   (reapedCallRecord: ReapedCallRecord) => {
+   *     // report the leaked call record
+   *   }
+   * );
+   * ```
+   *
+   * @param callRecordReapedEvent - The raised event string.
+   * @param listener - A listener function that will be invoked when the event
+   * is raised.
+   * @returns - The call object.
+   */
+  addListener(
+    callRecordReapedEvent: Voice.Event.CallRecordReaped,
+    listener: Voice.Listener.CallRecordReaped
+  ): this;
+  /** {@inheritDoc (Voice:interface).(addListener:6)} */
+  on(
+    callRecordReapedEvent: Voice.Event.CallRecordReaped,
+    listener: Voice.Listener.CallRecordReaped
+  ): this;
+
   /**
    * Generic event listener typings.
    * @param voiceEvent - The raised event string.
@@ -241,7 +291,7 @@ export declare interface Voice {
    * @returns - The call object.
    */
   addListener(voiceEvent: Voice.Event, listener: Voice.Listener.Generic): this;
-  /** {@inheritDoc (Voice:interface).(addListener:6)} */
+  /** {@inheritDoc (Voice:interface).(addListener:7)} */
   on(voiceEvent: Voice.Event, listener: Voice.Listener.Generic): this;
 }
 
@@ -288,6 +338,21 @@ export class Voice extends EventEmitter {
     (voiceEvent: NativeVoiceEvent) => void
   >;
 
+  /**
+   * The audio devices last reported by the native layer, keyed by UUID, and
+   * the selected audio device. Changes of the audio devices are applied to
+   * them.
+   */
+  private _audioDeviceInfos: Map<Uuid, NativeAudioDeviceInfo> = new Map();
+  private _selectedAudioDeviceInfo?: NativeAudioDeviceInfo;
+
+  /**
+   * The revision of the audio devices last reported by the native layer.
+   * Undefined until the native layer reports one. Only changes of the next
+   * revision can be applied, otherwise the audio devices are fetched again.
+   */
+  private _audioDevicesRevision?: number;
+
   /**
    * Main entry-point of the Voice SDK. Provides access to the entire
    * feature-set of the library.
@@ -305,6 +370,7 @@ export class Voice extends EventEmitter {
        * Call Invite
        */
       [Constants.VoiceEventTypeValueIncomingCallInvite]: this._handleCallInvite,
+      [Constants.VoiceEventCallRecordReaped]: this._handleCallRecordReaped,
 
       /**
        * Registration
@@ -315,6 +381,8 @@ export class Voice extends EventEmitter {
       /**
        * Audio Devices
        */
+      [Constants.VoiceEventAudioDevicesChanged]:
+        this._handleAudioDevicesChanged,
       [Constants.VoiceEventAudioDevicesUpdated]:
         this._handleAudioDevicesUpdated,
     };
@@ -379,9 +447,17 @@ export class Voice extends EventEmitter {
   /**
    * Intermediary event handler for `Voice`-level events. Ensures that the type
    * of the incoming event is expected and invokes the proper event listener.
-   * @param nativeVoiceEvent - A `Voice` event directly from the native layer.
+   * @param nativeVoiceEvent - A `Voice` event directly from the native layer,
+   * or a batch of them.
    */
-  private _handleNativeEvent = (nativeVoiceEvent: NativeVoiceEvent) => {
+  private _handleNativeEvent = (
+    nativeVoiceEvent: NativeVoiceEvent | NativeVoiceEvent[]
+  ) => {
+    if (Array.isArray(nativeVoiceEvent)) {
+      nativeVoiceEvent.forEach(this._handleNativeEvent);
+      return;
+    }
+
     const { type } = nativeVoiceEvent;
 
     const handler = this._nativeEventHandler[type];
@@ -416,6 +492,25 @@ export class Voice extends EventEmitter {
     this.emit(Voice.Event.CallInvite, callInvite);
   };
 
+  /**
+   * Call record reaped handler. Re-emits the reaped call record as a
+   * {@link (Voice:namespace).Event.CallRecordReaped} event.
+   * @param nativeVoiceEvent - A `Voice` event directly from the native layer.
+   */
+  private _handleCallRecordReaped = (nativeVoiceEvent: NativeVoiceEvent) => {
+    if (nativeVoiceEvent.type !== Constants.VoiceEventCallRecordReaped) {
+      throw new Error(
+        'Incorrect "voice#callRecordReaped" handler called for type ' +
+          `"${nativeVoiceEvent.type}".`
+      );
+    }
+
+    this.emit(
+      Voice.Event.CallRecordReaped,
+      nativeVoiceEvent[Constants.VoiceEventKeyReapedCallRecord]
+    );
+  };
+
   /**
    * Error event handler. Creates an error from the namespace
    * {@link TwilioErrors} from the info raised by the native layer and emits it.
@@ -479,11 +574,117 @@ export class Voice extends EventEmitter {
       );
     }
 
-    const {
-      audioDevices: audioDeviceInfos,
-      selectedDevice: selectedDeviceInfo,
-    } = nativeVoiceEvent;
+    this._setAudioDevices(nativeVoiceEvent);
+    this._emitAudioDevicesUpdated(
+      nativeVoiceEvent.audioDevices,
+      nativeVoiceEvent.selectedDevice
+    );
+  };
 
+  /**
+   * Audio devices changed event handler. Applies the added and removed audio
+   * devices and the selected audio device to the audio devices last reported
+   * by the native layer, and emits the resulting list of
+   * {@link (AudioDevice:class) | AudioDevice objects}.
+   *
+   * @remarks
+   * If a change was missed, for example because it was raised before this
+   * object was listening, the audio devices are fetched from the native layer
+   * instead.
+   *
+   * @param nativeVoiceEvent - A `Voice` event directly from the native layer.
+   */
+  private _handleAudioDevicesChanged = (nativeVoiceEvent: NativeVoiceEvent) => {
+    if (nativeVoiceEvent.type !== Constants.VoiceEventAudioDevicesChanged) {
+      throw new Error(
+        'Incorrect "voice#audioDevicesChanged" handler called for type ' +
+          `"${nativeVoiceEvent.type}".`
+      );
+    }
+
+    const { revision, addedDevices, removedDeviceUuids, selectedDeviceUuid } =
+      nativeVoiceEvent;
+
+    if (
+      typeof this._audioDevicesRevision === 'undefined' ||
+      revision !== this._audioDevicesRevision + 1
+    ) {
+      // the next change will try again if fetching fails
+      this._fetchAudioDevices().catch(() => {});
+      return;
+    }
+
+    removedDeviceUuids.forEach((uuid: Uuid) =>
+      this._audioDeviceInfos.delete(uuid)
+    );
+    addedDevices.forEach((audioDeviceInfo: NativeAudioDeviceInfo) =>
+      this._audioDeviceInfos.set(audioDeviceInfo.uuid, audioDeviceInfo)
+    );
+    this._selectedAudioDeviceInfo =
+      typeof selectedDeviceUuid === 'string'
+        ? this._audioDeviceInfos.get(selectedDeviceUuid)
+        : undefined;
+    this._audioDevicesRevision = revision;
+
+    this._emitAudioDevicesUpdated(
+      Array.from(this._audioDeviceInfos.values()),
+      this._selectedAudioDeviceInfo
+    );
+  };
+
+  /**
+   * Fetch the audio devices from the native layer and emit them, unless a
+   * newer revision has been applied in the meantime.
+   */
+  private async _fetchAudioDevices(): Promise<void> {
+    const audioDevicesInfo = await settleNativePromise(
+      NativeModule.voice_getAudioDevices()
+    );
+
+    if (
+      typeof audioDevicesInfo.revision === 'number' &&
+      typeof this._audioDevicesRevision === 'number' &&
+      audioDevicesInfo.revision <= this._audioDevicesRevision
+    ) {
+      return;
+    }
+
+    this._setAudioDevices(audioDevicesInfo);
+    this._emitAudioDevicesUpdated(
+      audioDevicesInfo.audioDevices,
+      audioDevicesInfo.selectedDevice
+    );
+  }
+
+  /**
+   * Replace the audio devices last reported by the native layer.
+   * @param audioDevicesInfo - The audio devices reported by the native layer.
+   */
+  private _setAudioDevices(audioDevicesInfo: NativeAudioDevicesInfo) {
+    this._audioDeviceInfos = new Map(
+      audioDevicesInfo.audioDevices.map(
+        (audioDeviceInfo: NativeAudioDeviceInfo) => [
+          audioDeviceInfo.uuid,
+          audioDeviceInfo,
+        ]
+      )
+    );
+    // the selected audio device is null rather than undefined on some platforms
+    const { selectedDevice } = audioDevicesInfo;
+    this._selectedAudioDeviceInfo =
+      selectedDevice !== null ? selectedDevice : undefined;
+    this._audioDevicesRevision = audioDevicesInfo.revision;
+  }
+
+  /**
+   * Construct {@link (AudioDevice:class) | AudioDevice objects} and emit them.
+   * @param audioDeviceInfos - The audio devices.
+   * @param selectedDeviceInfo - The selected audio device, if any.
+   */
+  private _emitAudioDevicesUpdated(
+    audioDeviceInfos: NativeAudioDeviceInfo[],
+    selectedDeviceInfo?: NativeAudioDeviceInfo | null
+  ) {
     const audioDevices = audioDeviceInfos.map(
       (audioDeviceInfo: NativeAudioDeviceInfo) =>
         new AudioDevice(audioDeviceInfo)
@@ -495,7 +696,7 @@ export class Voice extends EventEmitter {
         : undefined;
 
     this.emit(Voice.Event.AudioDevicesUpdated, audioDevices, selectedDevice);
-  };
+  }
 
   /**
    * Create an outgoing call.
@@ -660,6 +861,233 @@ export class Voice extends EventEmitter {
     return callInvitesMap;
   }
 
+  /**
+   * Get the version of the native call state.
+   *
+   * @remarks
+   * The version is incremented every time a call or call invite is added,
+   * removed or changes state on the native layer. Applications can compare
+   * the value against a previously fetched version to skip re-fetching
+   * {@link (Voice:class).getCalls} and {@link (Voice:class).getCallInvites}
+   * when nothing has changed.
+   *
+   * Unsupported platforms:
+   * - iOS
+   *
+   * @returns
+   * A `Promise` that
+   *  - Resolves with a number representing the current version.
+   *  - Rejects when invoked on an unsupported platform.
+   */
+  async getCallsVersion(): Promise<number> {
+    switch (Platform.OS) {
+      case 'android':
+        const version = await settleNativePromise(
+          NativeModule.voice_getCallsVersion()
+        );
+        return version;
+      default:
+        throw new UnsupportedPlatformError(
+          `Unsupported platform "${Platform.OS}". ` +
+            'This method is only supported on Android.'
+        );
+    }
+  }
+
+  /**
+   * Get a page of the history of completed calls, most recent call first.
+   *
+   * @remarks
+   * The native layer retains a bounded number of completed calls, the oldest
+   * calls are dropped once the capacity is reached. The capacity is read from
+   * the `twiliovoicereactnative_callhistory_capacity` integer resource.
+   *
+   * Unsupported platforms:
+   * - iOS
+   *
+   * @param offset - The number of most recent calls to skip. Defaults to `0`.
+   * @param limit - The maximum number of calls to return. Defaults to `20`.
+   *
+   * @returns
+   * A `Promise` that
+   *  - Resolves with an array of call history entries.
+   *  - Rejects if `offset` or `limit` is not a non-negative integer, or when
+   *    invoked on an unsupported platform.
+   */
+  async getCallHistory(
+    offset: number = 0,
+    limit: number = 20
+  ): Promise<CallHistoryEntry[]> {
+    switch (Platform.OS) {
+      case 'android':
+        if (!Number.isInteger(offset) || offset < 0) {
+          throw new InvalidArgumentError(
+            'Optional argument "offset" must be a non-negative integer.'
+          );
+        }
+
+        if (!Number.isInteger(limit) || limit < 0) {
+          throw new InvalidArgumentError(
+            'Optional argument "limit" must be a non-negative integer.'
+          );
+        }
+
+        const callHistory = await settleNativePromise(
+          NativeModule.voice_getCallHistory(offset, limit)
+        );
+        return callHistory;
+      default:
+        throw new UnsupportedPlatformError(
+          `Unsupported platform "${Platform.OS}". ` +
+            'This method is only supported on Android.'
+        );
+    }
+  }
+
+  /**
+   * Get the number of stale call records removed by the native call record
+   * reaper since the application process started.
+   *
+   * @remarks
+   * Call records that never reach a terminal state, such as call invites
+   * whose cancellation never arrives or calls that never connect, are reaped
+   * once they outlive the TTL configured for their call invite state. Calls
+   * still connecting after the longer connecting TTL are disconnected instead
+   * and counted as well. A steadily growing count indicates call records are
+   * being leaked.
+   *
+   * Unsupported platforms:
+   * - iOS
+   *
+   * @returns
+   * A `Promise` that
+   *  - Resolves with the reaped record counts, keyed by call invite state.
+   *  - Rejects when invoked on an unsupported platform.
+   */
+  async getReapedCallRecordCounts(): Promise<ReapedCallRecordCounts> {
+    switch (Platform.OS) {
+      case 'android':
+        const reapedCallRecordCounts = await settleNativePromise(
+          NativeModule.voice_getReapedCallRecordCounts()
+        );
+        return reapedCallRecordCounts;
+      default:
+        throw new UnsupportedPlatformError(
+          `Unsupported platform "${Platform.OS}". ` +
+            'This method is only supported on Android.'
+        );
+    }
+  }
+
+  /**
+   * Get the number of native events that were dropped instead of being
+   * delivered to the JS layer since the application process started.
+   *
+   * @remarks
+   * Events raised while the React instance is not yet active, such as call
+   * invites arriving while the application cold starts from a push, are held
+   * natively and replayed in order once the instance is active. Events are
+   * only dropped when the replay queue of their scope overflows or when they
+   * are held for too long. The queue capacity, maximum age and overflow
+   * policy are read from the `twiliovoicereactnative_event_replay_capacity`
+   * and `twiliovoicereactnative_event_replay_max_age_seconds` integer
+   * resources and the `twiliovoicereactnative_event_replay_overflow_policy`
+   * string resource.
+   *
+   * Unsupported platforms:
+   * - iOS
+   *
+   * @returns
+   * A `Promise` that
+   *  - Resolves with the dropped event counts, keyed by the reason the events
+   *    were dropped.
+   *  - Rejects when invoked on an unsupported platform.
+   */
+  async getDroppedEventCounts(): Promise<DroppedEventCounts> {
+    switch (Platform.OS) {
+      case 'android':
+        const droppedEventCounts = await settleNativePromise(
+          NativeModule.voice_getDroppedEventCounts()
+        );
+        return droppedEventCounts;
+      default:
+        throw new UnsupportedPlatformError(
+          `Unsupported platform "${Platform.OS}". ` +
+            'This method is only supported on Android.'
+        );
+    }
+  }
+
+  /**
+   * Get metrics of the work the native layer has done crossing the bridge to
+   * the JS layer since the application process started.
+   *
+   * @remarks
+   * Events sent, native promises settled and payloads built by the native
+   * serializer are each counted, along with the number of fields in their
+   * payloads and a histogram of their latencies. The histogram buckets are
+   * fixed, so metrics can be compared across releases.
+   *
+   * Metrics are only recorded when the
+   * `twiliovoicereactnative_bridge_metrics_enabled` boolean resource is set to
+   * `true`. It is `false` by default.
+   *
+   * Unsupported platforms:
+   * - iOS
+   *
+   * @returns
+   * A `Promise` that
+   *  - Resolves with the bridge metrics.
+   *  - Rejects when invoked on an unsupported platform.
+   */
+  async getBridgeMetrics(): Promise<BridgeMetrics> {
+    switch (Platform.OS) {
+      case 'android':
+        const bridgeMetrics = await settleNativePromise(
+          NativeModule.voice_getBridgeMetrics()
+        );
+        return bridgeMetrics;
+      default:
+        throw new UnsupportedPlatformError(
+          `Unsupported platform "${Platform.OS}". ` +
+            'This method is only supported on Android.'
+        );
+    }
+  }
+
+  /**
+   * Get the calls that were still in progress when the application process
+   * last terminated unexpectedly.
+   *
+   * @remarks
+   * The native layer journals every call while it is alive. If the process is
+   * killed mid-call, the journal is replayed on the next launch: notifications
+   * left behind by those calls are removed and the calls are reported here.
+   *
+   * Unsupported platforms:
+   * - iOS
+   *
+   * @returns
+   * A `Promise` that
+   *  - Resolves with an array of the calls lost by the previous process. The
+   *    array is empty if the previous process terminated cleanly.
+   *  - Rejects when invoked on an unsupported platform.
+   */
+  async getLostCalls(): Promise<LostCall[]> {
+    switch (Platform.OS) {
+      case 'android':
+        const lostCalls = await settleNativePromise(
+          NativeModule.voice_getLostCalls()
+        );
+        return lostCalls;
+      default:
+        throw new UnsupportedPlatformError(
+          `Unsupported platform "${Platform.OS}". ` +
+            'This method is only supported on Android.'
+        );
+    }
+  }
+
   /**
    * Handle Firebase messages from an out-of-band Firebase messaging service.
    *
@@ -843,6 +1271,61 @@ export class Voice extends EventEmitter {
     }
   }
 
+  /**
+   * Set the policy the native layer applies to choose the audio device a call
+   * is routed to.
+   *
+   * @example
+   * ```ts
+   * await voice.setAudioRoutingPolicy({
+   *   preferredDeviceTypes: [
+   *     AudioDevice.Type.Bluetooth,
+   *     AudioDevice.Type.Earpiece,
+   *   ],
+   *   incomingCallDeviceTypes: [AudioDevice.Type.Speaker],
+   *   autoSwitchOnConnect: true,
+   * });
+   * ```
+   * Outgoing calls are routed to a Bluetooth device when one is available,
+   * otherwise to a wired headset or the earpiece. Incoming calls are routed to
+   * the speaker. A Bluetooth device that connects during a call takes over the
+   * audio of the call.
+   *
+   * @remarks
+   * The audio device is selected natively before audio starts, so calls are
+   * routed correctly from their first audio frame without waiting for the JS
+   * layer. The policy is persisted, so it also applies to calls received
+   * before the JS layer has started. The audio device can still be changed
+   * during a call with {@link (AudioDevice:class).select}.
+   *
+   * Unsupported platforms:
+   * - iOS
+   *
+   * @param policy - The policy to apply. When invoked without a policy, the
+   * policy is unset and the default audio routing is restored.
+   *
+   * @returns
+   * A `Promise` that
+   *  - Resolves with `undefined` if the policy was set.
+   *  - Rejects with an `InvalidArgumentError` if the policy contains an
+   *    unknown audio device type.
+   *  - Rejects when invoked on an unsupported platform.
+   */
+  async setAudioRoutingPolicy(policy?: AudioRoutingPolicy): Promise<void> {
+    switch (Platform.OS) {
+      case 'android':
+        await settleNativePromise(
+          NativeModule.voice_setAudioRoutingPolicy(policy)
+        );
+        return;
+      default:
+        throw new UnsupportedPlatformError(
+          `Unsupported platform "${Platform.OS}". ` +
+            'This method is only supported on Android.'
+        );
+    }
+  }
+
   /**
    * Set the native call contact handle template.
    *
@@ -1038,6 +1521,17 @@ export namespace Voice {
      */
     'CallInvite' = 'callInvite',
 
+    /**
+     * Raised when a stale call record is removed by the native call record
+     * reaper. Only raised on Android.
+     *
+     * @remarks
+     *
+     * See {@link (Voice:interface).(addListener:6)
+     * | Voice.addListener(CallRecordReaped)}.
+     */
+    'CallRecordReaped' = 'callRecordReaped',
+
     /**
      * Raised when the SDK encounters an error.
      *
@@ -1099,6 +1593,17 @@ export namespace Voice {
      */
     export type CallInvite = (callInvite: CallInvite) => void;
 
+    /**
+     * Call record reaped event listener. This should be the function
+     * signature of an event listener bound to the
+     * {@link (Voice:namespace).Event.CallRecordReaped} event.
+     *
+     * @remarks
+     *
+     * See {@link (Voice:interface).(addListener:6)}.
+     */
+    export type CallRecordReaped = (reapedCallRecord: ReapedCallRecord) => void;
+
     /**
      * Error event listener. This should be the function signature of an event
      * listener bound to the
@@ -1140,7 +1645,7 @@ export namespace Voice {
      *
      * @remarks
      *
-     * See {@link (Voice:interface).(addListener:6)}.
+     * See {@link (Voice:interface).(addListener:7)}.
      */
     export type Generic = (...args: any[]) => void;
   }
@@ -1,6 +1,8 @@
 import type { AudioDevice } from '../AudioDevice';
+import { Constants } from '../constants';
 import type {
   NativeAudioDeviceInfo,
+  NativeAudioDevicesChangedEvent,
   NativeAudioDevicesInfo,
 } from '../type/AudioDevice';
 
@@ -36,5 +38,22 @@ export function createNativeAudioDevicesInfo(): NativeAudioDevicesInfo {
       type: 'speaker' as AudioDevice.Type,
       name: 'mock-nativeaudiodeviceinfo-name-two',
     },
+    revision: 1,
+  };
+}
+
+export function createNativeAudioDevicesChangedEvent(): NativeAudioDevicesChangedEvent {
+  return {
+    type: Constants.VoiceEventAudioDevicesChanged,
+    revision: 2,
+    addedDevices: [
+      {
+        uuid: 'mock-nativeaudiodeviceinfo-uuid-four',
+        type: 'bluetooth' as AudioDevice.Type,
+        name: 'mock-nativeaudiodeviceinfo-name-four',
+      },
+    ],
+    removedDeviceUuids: ['mock-nativeaudiodeviceinfo-uuid-three'],
+    selectedDeviceUuid: 'mock-nativeaudiodeviceinfo-uuid-four',
   };
 }
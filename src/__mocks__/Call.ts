@@ -1,7 +1,12 @@
-import type { NativeCallInfo } from '../type/Call';
+import type {
+  NativeCallInfo,
+  NativeCallQualityDegradingEvent,
+  NativeCallStatsEvent,
+} from '../type/Call';
 import { Constants } from '../constants';
 import { createNativeErrorInfo } from './Error';
 import { createNativeCallMessageInfo } from './CallMessage';
+import { createStatsReport } from './RTCStats';
 
 export function createNativeCallInfo(): NativeCallInfo {
   return {
@@ -99,3 +104,45 @@ export const mockCallNativeEvents = {
     },
   },
 };
+
+/**
+ * Stats events only identify their call, so they are kept apart from the
+ * events that update the call info.
+ */
+export function createNativeCallStatsEvent(): NativeCallStatsEvent {
+  return {
+    type: Constants.CallEventStats,
+    call: { uuid: 'mock-nativecallinfo-uuid' },
+    [Constants.CallEventStatsReport]: createStatsReport(),
+    [Constants.CallEventStatsSequence]: 1,
+  };
+}
+
+/**
+ * A delta against a stats stream report holding a single
+ * {@link createStatsReport}, as sent by a stats stream in delta mode right
+ * after that report.
+ */
+export function createNativeCallStatsDeltaEvent(): NativeCallStatsEvent {
+  return {
+    type: Constants.CallEventStats,
+    call: { uuid: 'mock-nativecallinfo-uuid' },
+    [Constants.CallEventStatsDelta]: [
+      {
+        [Constants.LocalAudioTrackStats]: [
+          { [Constants.AudioLevel]: 42, [Constants.BytesSent]: 160 },
+        ],
+      },
+    ],
+    [Constants.CallEventStatsSequence]: 2,
+  };
+}
+
+export function createNativeCallQualityDegradingEvent(): NativeCallQualityDegradingEvent {
+  return {
+    type: Constants.CallEventQualityDegrading,
+    call: { uuid: 'mock-nativecallinfo-uuid' },
+    [Constants.CallEventQualityDegradingConfidence]: 0.75,
+    [Constants.CallEventQualityDegradingMetrics]: ['jitter', 'packetLoss'],
+  };
+}
@@ -1,5 +1,8 @@
 import { Constants } from '../constants';
-import { createNativeAudioDevicesInfo } from './AudioDevice';
+import {
+  createNativeAudioDevicesChangedEvent,
+  createNativeAudioDevicesInfo,
+} from './AudioDevice';
 import { createNativeCallInviteInfo } from './CallInvite';
 import { createNativeErrorInfo } from './Error';
 
@@ -7,6 +10,10 @@ import { createNativeErrorInfo } from './Error';
  * Reusable default native call events.
  */
 export const mockVoiceNativeEvents = {
+  audioDevicesChanged: {
+    name: Constants.VoiceEventAudioDevicesChanged,
+    nativeEvent: createNativeAudioDevicesChangedEvent(),
+  },
   audioDevicesUpdated: {
     name: Constants.VoiceEventAudioDevicesUpdated,
     nativeEvent: {
@@ -21,6 +28,19 @@ export const mockVoiceNativeEvents = {
       callInvite: createNativeCallInviteInfo(),
     },
   },
+  callRecordReaped: {
+    name: Constants.VoiceEventCallRecordReaped,
+    nativeEvent: {
+      type: Constants.VoiceEventCallRecordReaped,
+      reapedCallRecord: {
+        uuid: 'mock-nativevoiceevent-reapedcallrecord-uuid',
+        callSid: 'mock-nativevoiceevent-reapedcallrecord-callsid',
+        direction: 'incoming',
+        callInviteState: 'active',
+        age: 300000,
+      },
+    },
+  },
   error: {
     name: Constants.VoiceEventError,
     nativeEvent: {
@@ -53,7 +53,27 @@ export const NativeModule = {
    * Call Mocks
    */
   call_disconnect: createMockWithResolvedValue(undefined),
+  call_getQualitySummary: createMockWithResolvedValue({
+    shortWindow: {
+      duration: 10000,
+      jitter: { sampleCount: 10, p50: 5, p95: 12, max: 14, trend: 0.5 },
+      rtt: { sampleCount: 10, p50: 80, p95: 95, max: 110, trend: -1 },
+      packetLoss: { sampleCount: 9, p50: 0, p95: 2, max: 3, trend: 0 },
+      mos: { sampleCount: 0 },
+    },
+    longWindow: {
+      duration: 60000,
+      jitter: { sampleCount: 10, p50: 5, p95: 12, max: 14, trend: 0.5 },
+      rtt: { sampleCount: 10, p50: 80, p95: 95, max: 110, trend: -1 },
+      packetLoss: { sampleCount: 9, p50: 0, p95: 2, max: 3, trend: 0 },
+      mos: { sampleCount: 0 },
+    },
+  }),
   call_getStats: createMockWithResolvedValue(createStatsReport()),
+  call_getTimeline: createMockWithResolvedValue([
+    { event: 'inviteReceived', timestamp: 1000, elapsed: 0 },
+    { event: 'notificationPosted', timestamp: 1010, elapsed: 10 },
+  ]),
   call_hold: jest.fn((_uuid: Uuid, hold: boolean) =>
     Promise.resolve(mockNativePromiseResolutionValue(hold))
   ),
@@ -67,6 +87,9 @@ export const NativeModule = {
   call_sendMessage: createMockWithResolvedValue(
     'mock-nativemodule-tracking-id'
   ),
+  call_startStatsStream: createMockWithResolvedValue(undefined),
+  call_stopStatsStream: createMockWithResolvedValue(undefined),
+  call_requestStatsReport: createMockWithResolvedValue(undefined),
 
   /**
    * Call Invite Mocks
@@ -91,6 +114,51 @@ export const NativeModule = {
   voice_getCallInvites: createMockWithResolvedValue([
     createNativeCallInviteInfo(),
   ]),
+  voice_getCallsVersion: createMockWithResolvedValue(1),
+  voice_getCallHistory: createMockWithResolvedValue([
+    {
+      callSid: 'mock-nativemodule-callhistory-callsid',
+      direction: 'outgoing',
+      connectTimestamp: 1000,
+      duration: 2000,
+      qualityWarnings: [],
+    },
+  ]),
+  voice_getReapedCallRecordCounts: createMockWithResolvedValue({
+    none: 1,
+    active: 2,
+    used: 3,
+  }),
+  voice_addEventListener: createMockWithResolvedValue(undefined),
+  voice_removeEventListeners: createMockWithResolvedValue(undefined),
+  voice_getDroppedEventCounts: createMockWithResolvedValue({
+    overflowed: 4,
+    expired: 5,
+    coalesced: 6,
+  }),
+  voice_getBridgeMetrics: createMockWithResolvedValue({
+    enabled: true,
+    latencyBucketBoundsMicros: [10, 50],
+    events: {
+      'scopeCall/callEventConnected': {
+        count: 1,
+        fieldCount: 2,
+        totalLatencyMicros: 30,
+        latencyHistogram: [0, 1, 0],
+      },
+    },
+    promises: {},
+    serializers: {},
+  }),
+  voice_getLostCalls: createMockWithResolvedValue([
+    {
+      uuid: 'mock-nativemodule-lostcall-uuid',
+      callSid: 'mock-nativemodule-lostcall-callsid',
+      direction: 'incoming',
+      callInviteState: 'active',
+      timestamp: 1000,
+    },
+  ]),
   voice_getDeviceToken: createMockWithResolvedValue(
     'mock-nativemodule-devicetoken'
   ),
@@ -99,6 +167,7 @@ export const NativeModule = {
   voice_initializePushRegistry: createMockWithResolvedValue(undefined),
   voice_register: createMockWithResolvedValue(undefined),
   voice_selectAudioDevice: createMockWithResolvedValue(undefined),
+  voice_setAudioRoutingPolicy: createMockWithResolvedValue(undefined),
   voice_setCallKitConfiguration: createMockWithResolvedValue(undefined),
   voice_setExpoVersion: createMockWithResolvedValue(undefined),
   voice_showNativeAvRoutePicker: createMockWithResolvedValue(undefined),
@@ -1,12 +1,22 @@
 import { IncomingCallMessage } from '../CallMessage/IncomingCallMessage';
-import { createNativeCallInfo, mockCallNativeEvents } from '../__mocks__/Call';
+import {
+  createNativeCallInfo,
+  createNativeCallQualityDegradingEvent,
+  createNativeCallStatsDeltaEvent,
+  createNativeCallStatsEvent,
+  mockCallNativeEvents,
+} from '../__mocks__/Call';
 import type { NativeEventEmitter as MockNativeEventEmitterType } from '../__mocks__/common';
 import { createNativeErrorInfo } from '../__mocks__/Error';
-import { createStatsReport } from '../__mocks__/RTCStats';
+import {
+  createLocalAudioTrackStats,
+  createStatsReport,
+} from '../__mocks__/RTCStats';
 import { Call } from '../Call';
-import { NativeEventEmitter, NativeModule } from '../common';
+import { NativeEventEmitter, NativeModule, Platform } from '../common';
 import { Constants } from '../constants';
 import { InvalidArgumentError } from '../error/InvalidArgumentError';
+import { UnsupportedPlatformError } from '../error/UnsupportedPlatformError';
 import type { NativeCallEventType } from '../type/Call';
 
 const MockNativeEventEmitter =
@@ -58,6 +68,7 @@ describe('Call class', () => {
         Constants.CallEventRinging,
         Constants.CallEventQualityWarningsChanged,
         Constants.CallEventMessageReceived,
+        Constants.CallEventStats,
       ].forEach((event: string) => {
         expect(event in nativeEventHandler).toBe(true);
       });
@@ -95,6 +106,30 @@ describe('Call class', () => {
           expect(handlerSpy.mock.calls).toEqual([[nativeEvent]]);
         });
 
+        it('handles batched events for matching uuids', () => {
+          const overrideEvent = {
+            ...nativeEvent,
+            call: {
+              ...nativeEvent.call,
+              uuid: 'mock-nativecallinfo-nonmatchinguuid',
+            },
+          };
+          const call = new Call(createNativeCallInfo());
+          const handlerSpy = jest.spyOn(
+            call['_nativeEventHandler'], // eslint-disable-line dot-notation
+            nativeEvent.type as NativeCallEventType
+          );
+          MockNativeEventEmitter.emit(Constants.ScopeCall, [
+            nativeEvent,
+            overrideEvent,
+            nativeEvent,
+          ]);
+          expect(handlerSpy.mock.calls).toEqual([
+            [nativeEvent],
+            [nativeEvent],
+          ]);
+        });
+
         it('ignores events for non-matching uuids', () => {
           const overrideEvent = {
             ...nativeEvent,
@@ -315,6 +350,206 @@ describe('Call class', () => {
         expect(call.getState()).toBe(Call.State.Connected);
       });
     });
+
+    describe(Constants.CallEventStats, () => {
+      it('re-emits the stats report', () => {
+        const call = new Call(createNativeCallInfo());
+        const listenerMock = jest.fn();
+        call.on(Call.Event.Stats, listenerMock);
+
+        MockNativeEventEmitter.emit(
+          Constants.ScopeCall,
+          createNativeCallStatsEvent()
+        );
+
+        expect(listenerMock.mock.calls).toEqual([[createStatsReport()]]);
+      });
+
+      it('ignores events for non-matching uuids', () => {
+        const call = new Call(createNativeCallInfo());
+        const listenerMock = jest.fn();
+        call.on(Call.Event.Stats, listenerMock);
+
+        MockNativeEventEmitter.emit(Constants.ScopeCall, {
+          ...createNativeCallStatsEvent(),
+          call: { uuid: 'mock-nativecallinfo-nonmatchinguuid' },
+        });
+
+        expect(listenerMock).not.toHaveBeenCalled();
+      });
+
+      it('does not update the call info', () => {
+        const call = new Call(createNativeCallInfo());
+        const updateSpy = jest.spyOn(call, '_update' as any);
+
+        MockNativeEventEmitter.emit(
+          Constants.ScopeCall,
+          createNativeCallStatsEvent()
+        );
+
+        expect(updateSpy).not.toHaveBeenCalled();
+        expect(call.getFrom()).toBe('mock-nativecallinfo-from');
+        expect(call.getSid()).toBe('mock-nativecallinfo-sid');
+        expect(call.getTo()).toBe('mock-nativecallinfo-to');
+      });
+
+      it('rebuilds delta encoded stats reports', () => {
+        const call = new Call(createNativeCallInfo());
+        const listenerMock = jest.fn();
+        call.on(Call.Event.Stats, listenerMock);
+
+        MockNativeEventEmitter.emit(Constants.ScopeCall, {
+          ...createNativeCallStatsEvent(),
+          [Constants.CallEventStatsReport]: [createStatsReport()],
+        });
+        MockNativeEventEmitter.emit(
+          Constants.ScopeCall,
+          createNativeCallStatsDeltaEvent()
+        );
+
+        expect(listenerMock.mock.calls).toEqual([
+          [[createStatsReport()]],
+          [
+            [
+              {
+                ...createStatsReport(),
+                localAudioTrackStats: [
+                  {
+                    ...createLocalAudioTrackStats(),
+                    audioLevel: 42,
+                    bytesSent: 160,
+                  },
+                ],
+              },
+            ],
+          ],
+        ]);
+      });
+
+      it('ignores deltas without a previous report', () => {
+        const call = new Call(createNativeCallInfo());
+        const listenerMock = jest.fn();
+        call.on(Call.Event.Stats, listenerMock);
+
+        MockNativeEventEmitter.emit(
+          Constants.ScopeCall,
+          createNativeCallStatsDeltaEvent()
+        );
+
+        expect(listenerMock).not.toHaveBeenCalled();
+      });
+
+      it('requests a full report without a previous report', () => {
+        new Call(createNativeCallInfo()); // eslint-disable-line no-new
+
+        MockNativeEventEmitter.emit(
+          Constants.ScopeCall,
+          createNativeCallStatsDeltaEvent()
+        );
+        MockNativeEventEmitter.emit(
+          Constants.ScopeCall,
+          createNativeCallStatsDeltaEvent()
+        );
+
+        expect(
+          jest.mocked(MockNativeModule.call_requestStatsReport).mock.calls
+        ).toEqual([['mock-nativecallinfo-uuid']]);
+      });
+
+      it('resynchronizes when a delta was missed', () => {
+        const call = new Call(createNativeCallInfo());
+        const listenerMock = jest.fn();
+        call.on(Call.Event.Stats, listenerMock);
+
+        MockNativeEventEmitter.emit(Constants.ScopeCall, {
+          ...createNativeCallStatsEvent(),
+          [Constants.CallEventStatsReport]: [createStatsReport()],
+        });
+        MockNativeEventEmitter.emit(Constants.ScopeCall, {
+          ...createNativeCallStatsDeltaEvent(),
+          [Constants.CallEventStatsSequence]: 3,
+        });
+        MockNativeEventEmitter.emit(
+          Constants.ScopeCall,
+          createNativeCallStatsDeltaEvent()
+        );
+
+        expect(listenerMock.mock.calls).toEqual([[[createStatsReport()]]]);
+        expect(
+          jest.mocked(MockNativeModule.call_requestStatsReport).mock.calls
+        ).toEqual([['mock-nativecallinfo-uuid']]);
+      });
+
+      it('resumes from a full report after resynchronizing', () => {
+        const call = new Call(createNativeCallInfo());
+        const listenerMock = jest.fn();
+        call.on(Call.Event.Stats, listenerMock);
+
+        MockNativeEventEmitter.emit(
+          Constants.ScopeCall,
+          createNativeCallStatsDeltaEvent()
+        );
+        MockNativeEventEmitter.emit(Constants.ScopeCall, {
+          ...createNativeCallStatsEvent(),
+          [Constants.CallEventStatsReport]: [createStatsReport()],
+          [Constants.CallEventStatsSequence]: 5,
+        });
+        MockNativeEventEmitter.emit(Constants.ScopeCall, {
+          ...createNativeCallStatsDeltaEvent(),
+          [Constants.CallEventStatsSequence]: 6,
+        });
+
+        expect(listenerMock).toHaveBeenCalledTimes(2);
+      });
+    });
+
+    describe(Constants.CallEventQualityDegrading, () => {
+      it('re-emits the confidence and metrics', () => {
+        const call = new Call(createNativeCallInfo());
+        const listenerMock = jest.fn();
+        call.on(Call.Event.QualityDegrading, listenerMock);
+
+        MockNativeEventEmitter.emit(
+          Constants.ScopeCall,
+          createNativeCallQualityDegradingEvent()
+        );
+
+        expect(listenerMock.mock.calls).toEqual([
+          [
+            0.75,
+            [
+              Call.QualityDegradingMetric.Jitter,
+              Call.QualityDegradingMetric.PacketLoss,
+            ],
+          ],
+        ]);
+      });
+
+      it('ignores events for non-matching uuids', () => {
+        const call = new Call(createNativeCallInfo());
+        const listenerMock = jest.fn();
+        call.on(Call.Event.QualityDegrading, listenerMock);
+
+        MockNativeEventEmitter.emit(Constants.ScopeCall, {
+          ...createNativeCallQualityDegradingEvent(),
+          call: { uuid: 'mock-nativecallinfo-nonmatchinguuid' },
+        });
+
+        expect(listenerMock).not.toHaveBeenCalled();
+      });
+
+      it('does not update the call info', () => {
+        const call = new Call(createNativeCallInfo());
+        const updateSpy = jest.spyOn(call, '_update' as any);
+
+        MockNativeEventEmitter.emit(
+          Constants.ScopeCall,
+          createNativeCallQualityDegradingEvent()
+        );
+
+        expect(updateSpy).not.toHaveBeenCalled();
+      });
+    });
   });
 
   describe('uses the error constructor', () => {
@@ -459,12 +694,248 @@ describe('Call class', () => {
         ]);
       });
 
+      describe('android platform', () => {
+        beforeEach(() => {
+          jest.spyOn(Platform, 'OS', 'get').mockReturnValue('android');
+        });
+
+        it('passes the projection to the native module', async () => {
+          await new Call(createNativeCallInfo()).getStats([
+            'localAudioTrackStats',
+            'remoteAudioTrackStats.mos',
+          ]);
+          expect(
+            jest.mocked(MockNativeModule.call_getStats).mock.calls
+          ).toEqual([
+            [
+              'mock-nativecallinfo-uuid',
+              ['localAudioTrackStats', 'remoteAudioTrackStats.mos'],
+            ],
+          ]);
+        });
+
+        it('requests every field without a projection', async () => {
+          await new Call(createNativeCallInfo()).getStats();
+          expect(
+            jest.mocked(MockNativeModule.call_getStats).mock.calls
+          ).toEqual([['mock-nativecallinfo-uuid', null]]);
+        });
+      });
+
+      describe('ios platform', () => {
+        beforeEach(() => {
+          jest.spyOn(Platform, 'OS', 'get').mockReturnValue('ios');
+        });
+
+        it('ignores the projection', async () => {
+          await new Call(createNativeCallInfo()).getStats([
+            'localAudioTrackStats',
+          ]);
+          expect(
+            jest.mocked(MockNativeModule.call_getStats).mock.calls
+          ).toEqual([['mock-nativecallinfo-uuid']]);
+        });
+      });
+
       it('returns the call stats', async () => {
         const statsPromise = new Call(createNativeCallInfo()).getStats();
         await expect(statsPromise).resolves.toEqual(createStatsReport());
       });
     });
 
+    describe('.startStatsStream', () => {
+      describe('android platform', () => {
+        beforeEach(() => {
+          jest.spyOn(Platform, 'OS', 'get').mockReturnValue('android');
+        });
+
+        it('invokes the native module', async () => {
+          await new Call(createNativeCallInfo()).startStatsStream(1000, [
+            'localAudioTrackStats',
+          ]);
+          expect(
+            jest.mocked(MockNativeModule.call_startStatsStream).mock.calls
+          ).toEqual([
+            [
+              'mock-nativecallinfo-uuid',
+              1000,
+              ['localAudioTrackStats'],
+              false,
+            ],
+          ]);
+        });
+
+        it('streams every field by default', async () => {
+          await new Call(createNativeCallInfo()).startStatsStream(1000);
+          expect(
+            jest.mocked(MockNativeModule.call_startStatsStream).mock.calls
+          ).toEqual([['mock-nativecallinfo-uuid', 1000, undefined, false]]);
+        });
+
+        it('starts a delta mode stream', async () => {
+          await new Call(createNativeCallInfo()).startStatsStream(
+            1000,
+            undefined,
+            true
+          );
+          expect(
+            jest.mocked(MockNativeModule.call_startStatsStream).mock.calls
+          ).toEqual([['mock-nativecallinfo-uuid', 1000, undefined, true]]);
+        });
+
+        it('returns a Promise<void>', async () => {
+          await expect(
+            new Call(createNativeCallInfo()).startStatsStream(1000)
+          ).resolves.toBeUndefined();
+        });
+
+        [0, -1, 1.5, NaN].forEach((intervalMs) => {
+          it(`rejects an interval of ${intervalMs}`, async () => {
+            await expect(
+              new Call(createNativeCallInfo()).startStatsStream(intervalMs)
+            ).rejects.toBeInstanceOf(InvalidArgumentError);
+            expect(
+              jest.mocked(MockNativeModule.call_startStatsStream).mock.calls
+            ).toEqual([]);
+          });
+        });
+      });
+
+      describe('ios platform', () => {
+        beforeEach(() => {
+          jest.spyOn(Platform, 'OS', 'get').mockReturnValue('ios');
+        });
+
+        it('throws an UnsupportedPlatformError', async () => {
+          await expect(
+            new Call(createNativeCallInfo()).startStatsStream(1000)
+          ).rejects.toBeInstanceOf(UnsupportedPlatformError);
+          expect(
+            jest.mocked(MockNativeModule.call_startStatsStream).mock.calls
+          ).toEqual([]);
+        });
+      });
+    });
+
+    describe('.stopStatsStream', () => {
+      describe('android platform', () => {
+        beforeEach(() => {
+          jest.spyOn(Platform, 'OS', 'get').mockReturnValue('android');
+        });
+
+        it('invokes the native module', async () => {
+          await new Call(createNativeCallInfo()).stopStatsStream();
+          expect(
+            jest.mocked(MockNativeModule.call_stopStatsStream).mock.calls
+          ).toEqual([['mock-nativecallinfo-uuid']]);
+        });
+
+        it('returns a Promise<void>', async () => {
+          await expect(
+            new Call(createNativeCallInfo()).stopStatsStream()
+          ).resolves.toBeUndefined();
+        });
+      });
+
+      describe('ios platform', () => {
+        beforeEach(() => {
+          jest.spyOn(Platform, 'OS', 'get').mockReturnValue('ios');
+        });
+
+        it('throws an UnsupportedPlatformError', async () => {
+          await expect(
+            new Call(createNativeCallInfo()).stopStatsStream()
+          ).rejects.toBeInstanceOf(UnsupportedPlatformError);
+          expect(
+            jest.mocked(MockNativeModule.call_stopStatsStream).mock.calls
+          ).toEqual([]);
+        });
+      });
+    });
+
+    describe('.getQualitySummary', () => {
+      describe('android platform', () => {
+        beforeEach(() => {
+          jest.spyOn(Platform, 'OS', 'get').mockReturnValue('android');
+        });
+
+        it('invokes the native module', async () => {
+          await new Call(createNativeCallInfo()).getQualitySummary();
+          expect(
+            jest.mocked(MockNativeModule.call_getQualitySummary).mock.calls
+          ).toEqual([['mock-nativecallinfo-uuid']]);
+        });
+
+        it('returns the quality summary', async () => {
+          const qualitySummary = await new Call(
+            createNativeCallInfo()
+          ).getQualitySummary();
+          expect(qualitySummary.shortWindow.duration).toBe(10000);
+          expect(qualitySummary.longWindow.rtt).toEqual({
+            sampleCount: 10,
+            p50: 80,
+            p95: 95,
+            max: 110,
+            trend: -1,
+          });
+          expect(qualitySummary.longWindow.mos).toEqual({ sampleCount: 0 });
+        });
+      });
+
+      describe('ios platform', () => {
+        beforeEach(() => {
+          jest.spyOn(Platform, 'OS', 'get').mockReturnValue('ios');
+        });
+
+        it('throws an UnsupportedPlatformError', async () => {
+          await expect(
+            new Call(createNativeCallInfo()).getQualitySummary()
+          ).rejects.toBeInstanceOf(UnsupportedPlatformError);
+          expect(
+            jest.mocked(MockNativeModule.call_getQualitySummary).mock.calls
+          ).toEqual([]);
+        });
+      });
+    });
+
+    describe('.getTimeline', () => {
+      describe('android platform', () => {
+        beforeEach(() => {
+          jest.spyOn(Platform, 'OS', 'get').mockReturnValue('android');
+        });
+
+        it('invokes the native module', async () => {
+          await new Call(createNativeCallInfo()).getTimeline();
+          expect(
+            jest.mocked(MockNativeModule.call_getTimeline).mock.calls
+          ).toEqual([['mock-nativecallinfo-uuid']]);
+        });
+
+        it('returns the call timeline', async () => {
+          const timelinePromise = new Call(createNativeCallInfo()).getTimeline();
+          await expect(timelinePromise).resolves.toEqual([
+            { event: 'inviteReceived', timestamp: 1000, elapsed: 0 },
+            { event: 'notificationPosted', timestamp: 1010, elapsed: 10 },
+          ]);
+        });
+      });
+
+      describe('ios platform', () => {
+        beforeEach(() => {
+          jest.spyOn(Platform, 'OS', 'get').mockReturnValue('ios');
+        });
+
+        it('throws an UnsupportedPlatformError', async () => {
+          await expect(
+            new Call(createNativeCallInfo()).getTimeline()
+          ).rejects.toBeInstanceOf(UnsupportedPlatformError);
+          expect(
+            jest.mocked(MockNativeModule.call_getTimeline).mock.calls
+          ).toEqual([]);
+        });
+      });
+    });
+
     describe('.getTo', () => {
       it('returns the to value', () => {
         const to = new Call(createNativeCallInfo()).getTo();
@@ -729,6 +1200,7 @@ describe('Call class', () => {
       '_handleRingingEvent',
       '_handleQualityWarningsChangedEvent',
       '_handleMessageReceivedEvent',
+      '_handleStatsEvent',
     ].forEach((privateMethodKey) => {
       describe(`.${privateMethodKey}`, () => {
         it('throws an error for an invalid event', () => {
@@ -1,4 +1,7 @@
-import { createNativeAudioDevicesInfo } from '../__mocks__/AudioDevice';
+import {
+  createNativeAudioDevicesChangedEvent,
+  createNativeAudioDevicesInfo,
+} from '../__mocks__/AudioDevice';
 import { createNativeCallInviteInfo } from '../__mocks__/CallInvite';
 import type { NativeEventEmitter as MockNativeEventEmitterType } from '../__mocks__/common';
 import { mockVoiceNativeEvents } from '../__mocks__/Voice';
@@ -18,6 +21,7 @@ import {
 } from '../error';
 import { IceTransportPolicy } from '../type/Ice';
 import { AudioCodecType } from '../type/AudioCodec';
+import type { AudioRoutingPolicy } from '../type/AudioRoutingPolicy';
 import type { NativeVoiceEventType } from '../type/Voice';
 import * as PreflightTestOptionsModule from '../utility/preflightTestOptions';
 import { Voice } from '../Voice';
@@ -82,8 +86,10 @@ describe('Voice class', () => {
         // eslint-disable-next-line dot-notation
         const nativeEventHandler = voice['_nativeEventHandler'];
         [
+          Constants.VoiceEventAudioDevicesChanged,
           Constants.VoiceEventAudioDevicesUpdated,
           Constants.VoiceEventTypeValueIncomingCallInvite,
+          Constants.VoiceEventCallRecordReaped,
           Constants.VoiceEventError,
           Constants.VoiceEventRegistered,
           Constants.VoiceEventUnregistered,
@@ -143,6 +149,24 @@ describe('Voice class', () => {
           expect(intermediateHandlerSpy.mock.calls).toEqual([[nativeEvent]]);
           expect(handlerSpy.mock.calls).toEqual([[nativeEvent]]);
         });
+
+        it('handles batched events', () => {
+          const voice = new Voice();
+          const handlerSpy = jest.spyOn(
+            voice['_nativeEventHandler'] /* eslint-disable-line dot-notation */,
+            nativeEvent.type as NativeVoiceEventType
+          );
+
+          MockNativeEventEmitter.emit(Constants.ScopeVoice, [
+            nativeEvent,
+            nativeEvent,
+          ]);
+
+          expect(handlerSpy.mock.calls).toEqual([
+            [nativeEvent],
+            [nativeEvent],
+          ]);
+        });
       });
     });
 
@@ -208,6 +232,129 @@ describe('Voice class', () => {
       });
     });
 
+    describe(Constants.VoiceEventAudioDevicesChanged, () => {
+      it('applies the change to the reported audio devices', () => {
+        const voice = new Voice();
+        const listenerMock = jest.fn();
+        voice.on(Voice.Event.AudioDevicesUpdated, listenerMock);
+
+        MockNativeEventEmitter.emit(
+          Constants.ScopeVoice,
+          mockVoiceNativeEvents.audioDevicesUpdated.nativeEvent
+        );
+        MockAudioDevice.mockClear();
+        MockNativeEventEmitter.emit(
+          Constants.ScopeVoice,
+          mockVoiceNativeEvents.audioDevicesChanged.nativeEvent
+        );
+
+        const [deviceOne, deviceTwo] =
+          createNativeAudioDevicesInfo().audioDevices;
+        const [deviceFour] =
+          createNativeAudioDevicesChangedEvent().addedDevices;
+        expect(MockNativeModule.voice_getAudioDevices).not.toHaveBeenCalled();
+        expect(listenerMock).toHaveBeenCalledTimes(2);
+        expect(MockAudioDevice.mock.calls).toEqual([
+          [deviceOne],
+          [deviceTwo],
+          [deviceFour],
+          [deviceFour],
+        ]);
+      });
+
+      it('emits undefined when no audio device is selected', () => {
+        const voice = new Voice();
+        const listenerMock = jest.fn();
+        voice.on(Voice.Event.AudioDevicesUpdated, listenerMock);
+
+        MockNativeEventEmitter.emit(
+          Constants.ScopeVoice,
+          mockVoiceNativeEvents.audioDevicesUpdated.nativeEvent
+        );
+        MockNativeEventEmitter.emit(Constants.ScopeVoice, {
+          ...mockVoiceNativeEvents.audioDevicesChanged.nativeEvent,
+          selectedDeviceUuid: undefined,
+        });
+
+        expect(listenerMock).toHaveBeenCalledTimes(2);
+        const [audioDevices, selectedDevice]: [AudioDevice[], AudioDevice] =
+          listenerMock.mock.calls[1];
+        expect(audioDevices).toHaveLength(3);
+        expect(selectedDevice).toBeUndefined();
+      });
+
+      it('fetches the audio devices when none were reported', async () => {
+        const voice = new Voice();
+        const fetchSpy = jest.spyOn(voice, '_fetchAudioDevices' as any);
+        const listenerMock = jest.fn();
+        voice.on(Voice.Event.AudioDevicesUpdated, listenerMock);
+
+        MockNativeEventEmitter.emit(
+          Constants.ScopeVoice,
+          mockVoiceNativeEvents.audioDevicesChanged.nativeEvent
+        );
+        await fetchSpy.mock.results[0]?.value;
+
+        expect(MockNativeModule.voice_getAudioDevices).toHaveBeenCalledTimes(1);
+        expect(listenerMock).toHaveBeenCalledTimes(1);
+        expect(MockAudioDevice.mock.calls).toEqual([
+          ...createNativeAudioDevicesInfo().audioDevices.map((d) => [d]),
+          [createNativeAudioDevicesInfo().selectedDevice],
+        ]);
+      });
+
+      it('fetches the audio devices when a revision was missed', async () => {
+        jest
+          .mocked(MockNativeModule.voice_getAudioDevices)
+          .mockResolvedValueOnce(
+            mockNativePromiseResolutionValue({
+              ...createNativeAudioDevicesInfo(),
+              revision: 3,
+            })
+          );
+        const voice = new Voice();
+        const fetchSpy = jest.spyOn(voice, '_fetchAudioDevices' as any);
+        const listenerMock = jest.fn();
+        voice.on(Voice.Event.AudioDevicesUpdated, listenerMock);
+
+        MockNativeEventEmitter.emit(
+          Constants.ScopeVoice,
+          mockVoiceNativeEvents.audioDevicesUpdated.nativeEvent
+        );
+        MockNativeEventEmitter.emit(Constants.ScopeVoice, {
+          ...mockVoiceNativeEvents.audioDevicesChanged.nativeEvent,
+          revision: 3,
+        });
+        await fetchSpy.mock.results[0]?.value;
+
+        expect(MockNativeModule.voice_getAudioDevices).toHaveBeenCalledTimes(1);
+        expect(listenerMock).toHaveBeenCalledTimes(2);
+        // eslint-disable-next-line dot-notation
+        expect(voice['_audioDevicesRevision']).toBe(3);
+      });
+
+      it('does not emit fetched audio devices older than the applied revision', async () => {
+        const voice = new Voice();
+        const fetchSpy = jest.spyOn(voice, '_fetchAudioDevices' as any);
+        const listenerMock = jest.fn();
+        voice.on(Voice.Event.AudioDevicesUpdated, listenerMock);
+
+        MockNativeEventEmitter.emit(
+          Constants.ScopeVoice,
+          mockVoiceNativeEvents.audioDevicesChanged.nativeEvent
+        );
+        MockNativeEventEmitter.emit(Constants.ScopeVoice, {
+          ...mockVoiceNativeEvents.audioDevicesUpdated.nativeEvent,
+          revision: 2,
+        });
+        await fetchSpy.mock.results[0]?.value;
+
+        expect(listenerMock).toHaveBeenCalledTimes(1);
+        // eslint-disable-next-line dot-notation
+        expect(voice['_audioDevicesRevision']).toBe(2);
+      });
+    });
+
     describe(Constants.VoiceEventTypeValueIncomingCallInvite, () => {
       it('constructs a pending CallInvite', () => {
         new Voice(); // eslint-disable-line no-new
@@ -287,6 +434,21 @@ describe('Voice class', () => {
       });
     });
 
+    describe(Constants.VoiceEventCallRecordReaped, () => {
+      it('emits the event', () => {
+        const voice = new Voice();
+        const listenerMock = jest.fn();
+        voice.on(Voice.Event.CallRecordReaped, listenerMock);
+        MockNativeEventEmitter.emit(
+          Constants.ScopeVoice,
+          mockVoiceNativeEvents.callRecordReaped.nativeEvent
+        );
+        expect(listenerMock.mock.calls).toEqual([
+          [mockVoiceNativeEvents.callRecordReaped.nativeEvent.reapedCallRecord],
+        ]);
+      });
+    });
+
     describe(Constants.VoiceEventUnregistered, () => {
       it('emits the event', () => {
         const voice = new Voice();
@@ -817,6 +979,267 @@ describe('Voice class', () => {
       });
     });
 
+    describe('.getCallsVersion', () => {
+      performTestForPlatforms(
+        ['android'],
+        'it invokes the native module',
+        async () => {
+          await new Voice().getCallsVersion();
+          expect(
+            jest.mocked(MockNativeModule.voice_getCallsVersion).mock.calls
+          ).toEqual([[]]);
+        }
+      );
+
+      performTestForPlatforms(
+        ['android'],
+        'it returns a Promise<number>',
+        async () => {
+          const result = new Voice().getCallsVersion();
+          await expect(result).resolves.toBe(1);
+        }
+      );
+
+      performTestForPlatforms(
+        ['ios'],
+        'it rejects with an UnsupportedPlatformError',
+        async () => {
+          expect.assertions(1);
+          const result = new Voice().getCallsVersion();
+          await expect(result).rejects.toBeInstanceOf(UnsupportedPlatformError);
+        }
+      );
+    });
+
+    describe('.getCallHistory', () => {
+      performTestForPlatforms(
+        ['android'],
+        'it invokes the native module with default paging',
+        async () => {
+          await new Voice().getCallHistory();
+          expect(
+            jest.mocked(MockNativeModule.voice_getCallHistory).mock.calls
+          ).toEqual([[0, 20]]);
+        }
+      );
+
+      performTestForPlatforms(
+        ['android'],
+        'it invokes the native module with the passed paging',
+        async () => {
+          await new Voice().getCallHistory(10, 5);
+          expect(
+            jest.mocked(MockNativeModule.voice_getCallHistory).mock.calls
+          ).toEqual([[10, 5]]);
+        }
+      );
+
+      performTestForPlatforms(
+        ['android'],
+        'it returns a Promise<CallHistoryEntry[]>',
+        async () => {
+          const result = await new Voice().getCallHistory();
+          expect(result).toEqual([
+            {
+              callSid: 'mock-nativemodule-callhistory-callsid',
+              direction: 'outgoing',
+              connectTimestamp: 1000,
+              duration: 2000,
+              qualityWarnings: [],
+            },
+          ]);
+        }
+      );
+
+      [
+        [-1, 20],
+        [0.5, 20],
+        [0, -1],
+        [0, 1.5],
+      ].forEach(([offset, limit]) => {
+        performTestForPlatforms(
+          ['android'],
+          `it rejects with an InvalidArgumentError for (${offset}, ${limit})`,
+          async () => {
+            expect.assertions(2);
+            const result = new Voice().getCallHistory(offset, limit);
+            await expect(result).rejects.toBeInstanceOf(InvalidArgumentError);
+            expect(
+              jest.mocked(MockNativeModule.voice_getCallHistory).mock.calls
+            ).toEqual([]);
+          }
+        );
+      });
+
+      performTestForPlatforms(
+        ['ios'],
+        'it rejects with an UnsupportedPlatformError',
+        async () => {
+          expect.assertions(1);
+          const result = new Voice().getCallHistory();
+          await expect(result).rejects.toBeInstanceOf(UnsupportedPlatformError);
+        }
+      );
+    });
+
+    describe('.getReapedCallRecordCounts', () => {
+      performTestForPlatforms(
+        ['android'],
+        'it invokes the native module',
+        async () => {
+          await new Voice().getReapedCallRecordCounts();
+          expect(
+            jest.mocked(MockNativeModule.voice_getReapedCallRecordCounts).mock
+              .calls
+          ).toEqual([[]]);
+        }
+      );
+
+      performTestForPlatforms(
+        ['android'],
+        'it returns a Promise<ReapedCallRecordCounts>',
+        async () => {
+          const result = new Voice().getReapedCallRecordCounts();
+          await expect(result).resolves.toEqual({
+            none: 1,
+            active: 2,
+            used: 3,
+          });
+        }
+      );
+
+      performTestForPlatforms(
+        ['ios'],
+        'it rejects with an UnsupportedPlatformError',
+        async () => {
+          expect.assertions(1);
+          const result = new Voice().getReapedCallRecordCounts();
+          await expect(result).rejects.toBeInstanceOf(UnsupportedPlatformError);
+        }
+      );
+    });
+
+    describe('.getDroppedEventCounts', () => {
+      performTestForPlatforms(
+        ['android'],
+        'it invokes the native module',
+        async () => {
+          await new Voice().getDroppedEventCounts();
+          expect(
+            jest.mocked(MockNativeModule.voice_getDroppedEventCounts).mock.calls
+          ).toEqual([[]]);
+        }
+      );
+
+      performTestForPlatforms(
+        ['android'],
+        'it returns a Promise<DroppedEventCounts>',
+        async () => {
+          const result = new Voice().getDroppedEventCounts();
+          await expect(result).resolves.toEqual({
+            overflowed: 4,
+            expired: 5,
+            coalesced: 6,
+          });
+        }
+      );
+
+      performTestForPlatforms(
+        ['ios'],
+        'it rejects with an UnsupportedPlatformError',
+        async () => {
+          expect.assertions(1);
+          const result = new Voice().getDroppedEventCounts();
+          await expect(result).rejects.toBeInstanceOf(UnsupportedPlatformError);
+        }
+      );
+    });
+
+    describe('.getBridgeMetrics', () => {
+      performTestForPlatforms(
+        ['android'],
+        'it invokes the native module',
+        async () => {
+          await new Voice().getBridgeMetrics();
+          expect(
+            jest.mocked(MockNativeModule.voice_getBridgeMetrics).mock.calls
+          ).toEqual([[]]);
+        }
+      );
+
+      performTestForPlatforms(
+        ['android'],
+        'it returns a Promise<BridgeMetrics>',
+        async () => {
+          const result = new Voice().getBridgeMetrics();
+          await expect(result).resolves.toEqual({
+            enabled: true,
+            latencyBucketBoundsMicros: [10, 50],
+            events: {
+              'scopeCall/callEventConnected': {
+                count: 1,
+                fieldCount: 2,
+                totalLatencyMicros: 30,
+                latencyHistogram: [0, 1, 0],
+              },
+            },
+            promises: {},
+            serializers: {},
+          });
+        }
+      );
+
+      performTestForPlatforms(
+        ['ios'],
+        'it rejects with an UnsupportedPlatformError',
+        async () => {
+          expect.assertions(1);
+          const result = new Voice().getBridgeMetrics();
+          await expect(result).rejects.toBeInstanceOf(UnsupportedPlatformError);
+        }
+      );
+    });
+
+    describe('.getLostCalls', () => {
+      performTestForPlatforms(
+        ['android'],
+        'it invokes the native module',
+        async () => {
+          await new Voice().getLostCalls();
+          expect(
+            jest.mocked(MockNativeModule.voice_getLostCalls).mock.calls
+          ).toEqual([[]]);
+        }
+      );
+
+      performTestForPlatforms(
+        ['android'],
+        'it returns a Promise<LostCall[]>',
+        async () => {
+          const result = await new Voice().getLostCalls();
+          expect(result).toEqual([
+            {
+              uuid: 'mock-nativemodule-lostcall-uuid',
+              callSid: 'mock-nativemodule-lostcall-callsid',
+              direction: 'incoming',
+              callInviteState: 'active',
+              timestamp: 1000,
+            },
+          ]);
+        }
+      );
+
+      performTestForPlatforms(
+        ['ios'],
+        'it rejects with an UnsupportedPlatformError',
+        async () => {
+          expect.assertions(1);
+          const result = new Voice().getLostCalls();
+          await expect(result).rejects.toBeInstanceOf(UnsupportedPlatformError);
+        }
+      );
+    });
+
     describe('.handleFirebaseMessage', () => {
       performTestForPlatforms(
         ['android'],
@@ -994,6 +1417,60 @@ describe('Voice class', () => {
       });
     });
 
+    describe('.setAudioRoutingPolicy', () => {
+      const policy: AudioRoutingPolicy = {
+        preferredDeviceTypes: [
+          'bluetooth' as AudioDevice.Type,
+          'earpiece' as AudioDevice.Type,
+        ],
+        incomingCallDeviceTypes: ['speaker' as AudioDevice.Type],
+        autoSwitchOnConnect: true,
+      };
+
+      performTestForPlatforms(
+        ['android'],
+        'it invokes the native module with the policy',
+        async () => {
+          await new Voice().setAudioRoutingPolicy(policy);
+          expect(
+            jest.mocked(MockNativeModule.voice_setAudioRoutingPolicy).mock
+              .calls
+          ).toEqual([[policy]]);
+        }
+      );
+
+      performTestForPlatforms(
+        ['android'],
+        'it invokes the native module with no policy',
+        async () => {
+          await new Voice().setAudioRoutingPolicy();
+          expect(
+            jest.mocked(MockNativeModule.voice_setAudioRoutingPolicy).mock
+              .calls
+          ).toEqual([[undefined]]);
+        }
+      );
+
+      performTestForPlatforms(
+        ['android'],
+        'it returns a Promise<void>',
+        async () => {
+          const result = new Voice().setAudioRoutingPolicy(policy);
+          await expect(result).resolves.toBeUndefined();
+        }
+      );
+
+      performTestForPlatforms(
+        ['ios'],
+        'it rejects with an UnsupportedPlatformError',
+        async () => {
+          expect.assertions(1);
+          const result = new Voice().setAudioRoutingPolicy(policy);
+          await expect(result).rejects.toBeInstanceOf(UnsupportedPlatformError);
+        }
+      );
+    });
+
     describe('.setIncomingCallContactHandleTemplate', () => {
       it('invokes the native module with a string', async () => {
         const template = 'Foo ${DisplayName}';
@@ -1180,8 +1657,10 @@ describe('Voice class', () => {
      */
     [
       '_handleNativeEvent',
+      '_handleAudioDevicesChanged',
       '_handleAudioDevicesUpdated',
       '_handleCallInvite',
+      '_handleCallRecordReaped',
       '_handleError',
       '_handleRegistered',
       '_handleUnregistered',
@@ -0,0 +1,48 @@
+import { ListenerCountingEventEmitter } from '../utility/listenerCountingEventEmitter';
+
+const createMockNativeModule = () => ({
+  voice_addEventListener: jest.fn(),
+  voice_removeEventListeners: jest.fn(),
+});
+
+describe('ListenerCountingEventEmitter', () => {
+  it('reports added listeners with their scope', () => {
+    const nativeModule = createMockNativeModule();
+    const emitter = new ListenerCountingEventEmitter(nativeModule as any);
+
+    emitter.addListener('foo', jest.fn());
+    emitter.addListener('bar', jest.fn());
+
+    expect(nativeModule.voice_addEventListener.mock.calls).toEqual([
+      ['foo'],
+      ['bar'],
+    ]);
+    expect(nativeModule.voice_removeEventListeners.mock.calls).toEqual([]);
+  });
+
+  it('reports a removed listener once', () => {
+    const nativeModule = createMockNativeModule();
+    const emitter = new ListenerCountingEventEmitter(nativeModule as any);
+
+    const subscription = emitter.addListener('foo', jest.fn());
+    subscription.remove();
+    subscription.remove();
+
+    expect(nativeModule.voice_removeEventListeners.mock.calls).toEqual([
+      ['foo', 1],
+    ]);
+  });
+
+  it('delivers events to listeners', () => {
+    const nativeModule = createMockNativeModule();
+    const emitter = new ListenerCountingEventEmitter(nativeModule as any);
+    const listener = jest.fn();
+
+    const subscription = emitter.addListener('foo', listener);
+    emitter.emit('foo', 'foobar');
+    subscription.remove();
+    emitter.emit('foo', 'foobar');
+
+    expect(listener.mock.calls).toEqual([['foobar']]);
+  });
+});
@@ -0,0 +1,77 @@
+import {
+  createLocalAudioTrackStats,
+  createRemoteAudioTrackStats,
+  createStatsReport,
+} from '../__mocks__/RTCStats';
+import { Constants } from '../constants';
+import type { RTCStats } from '../type/RTCStats';
+import { applyStatsReportDelta } from '../utility/statsReportDelta';
+
+function createStreamReport(): RTCStats.StatsReport {
+  return [createStatsReport()] as unknown as RTCStats.StatsReport;
+}
+
+describe('applyStatsReportDelta', () => {
+  it('adds counter increments', () => {
+    const statsReport = applyStatsReportDelta(createStreamReport(), [
+      {
+        [Constants.LocalAudioTrackStats]: [
+          { [Constants.BytesSent]: 160, [Constants.PacketsLost]: 2 },
+        ],
+      },
+    ]);
+    expect(statsReport).toEqual([
+      {
+        ...createStatsReport(),
+        localAudioTrackStats: [
+          { ...createLocalAudioTrackStats(), bytesSent: 160, packetsLost: 2 },
+        ],
+      },
+    ]);
+  });
+
+  it('replaces other fields', () => {
+    const statsReport = applyStatsReportDelta(createStreamReport(), [
+      {
+        [Constants.RemoteAudioTrackStats]: [
+          { [Constants.Codec]: 'opus', [Constants.Mos]: 4.2 },
+        ],
+      },
+    ]);
+    expect(statsReport).toEqual([
+      {
+        ...createStatsReport(),
+        remoteAudioTrackStats: [
+          { ...createRemoteAudioTrackStats(), codec: 'opus', mos: 4.2 },
+        ],
+      },
+    ]);
+  });
+
+  it('keeps the report when nothing changed', () => {
+    const statsReport = applyStatsReportDelta(createStreamReport(), [{}]);
+    expect(statsReport).toEqual(createStreamReport());
+  });
+
+  it('does not modify the previous report', () => {
+    const previousReport = createStreamReport();
+    applyStatsReportDelta(previousReport, [
+      {
+        [Constants.LocalAudioTrackStats]: [{ [Constants.BytesSent]: 160 }],
+      },
+    ]);
+    expect(previousReport).toEqual(createStreamReport());
+  });
+
+  it('shares sections that did not change', () => {
+    const previousReport = createStreamReport() as any;
+    const statsReport = applyStatsReportDelta(previousReport, [
+      {
+        [Constants.LocalAudioTrackStats]: [{ [Constants.BytesSent]: 160 }],
+      },
+    ]) as any;
+    expect(statsReport[0].iceCandidateStats).toBe(
+      previousReport[0].iceCandidateStats
+    );
+  });
+});
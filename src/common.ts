@@ -9,6 +9,7 @@ import { requireNativeModule } from 'expo-modules-core';
 import * as ReactNative from 'react-native';
 import type { TwilioVoiceReactNative as TwilioVoiceReactNativeType } from './type/NativeModule';
 import { getExpoVersion } from './utility/expoVersion';
+import { ListenerCountingEventEmitter } from './utility/listenerCountingEventEmitter';
 
 export const Platform = ReactNative.Platform;
 
@@ -19,7 +20,7 @@ export const NativeModule: TwilioVoiceReactNativeType =
 
 export const NativeEventEmitter =
   Platform.OS === 'android'
-    ? new ReactNative.NativeEventEmitter()
+    ? new ListenerCountingEventEmitter(NativeModule)
     : new ReactNative.NativeEventEmitter(NativeModule);
 
 export const setTimeout = global.setTimeout;
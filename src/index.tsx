@@ -17,10 +17,25 @@ export {
   PCMUAudioCodec,
 } from './type/AudioCodec';
 export { AudioDevice } from './AudioDevice';
+export { AudioRoutingPolicy } from './type/AudioRoutingPolicy';
 export { Call } from './Call';
 export { CallInvite } from './CallInvite';
 export { CallMessage } from './CallMessage/CallMessage';
+export { CallHistoryEntry } from './type/CallHistory';
+export {
+  CallQualityMetric,
+  CallQualitySummary,
+  CallQualityWindow,
+} from './type/CallQuality';
+export { CallTimelineEntry } from './type/CallTimeline';
+export {
+  ReapedCallRecord,
+  ReapedCallRecordCounts,
+} from './type/CallRecordReaper';
+export { BridgeMetrics, BridgeMetricsEntry } from './type/BridgeMetrics';
+export { DroppedEventCounts } from './type/DroppedEventCounts';
 export { IceServer, IceTransportPolicy } from './type/Ice';
+export { LostCall } from './type/LostCall';
 export { IncomingCallMessage } from './CallMessage/IncomingCallMessage';
 export { OutgoingCallMessage } from './CallMessage/OutgoingCallMessage';
 export { CustomParameters } from './type/common';
@@ -11,8 +11,25 @@ export interface NativeAudioDeviceInfo {
 export interface NativeAudioDevicesInfo {
   audioDevices: NativeAudioDeviceInfo[];
   selectedDevice?: NativeAudioDeviceInfo;
+  /**
+   * Incremented by the native layer each time the audio devices change. Only
+   * reported on Android.
+   */
+  revision?: number;
 }
 
 export interface NativeAudioDevicesUpdatedEvent extends NativeAudioDevicesInfo {
   type: Constants.VoiceEventAudioDevicesUpdated;
 }
+
+/**
+ * A change of the audio devices, relative to the audio devices of the
+ * previous revision. Only raised on Android.
+ */
+export interface NativeAudioDevicesChangedEvent {
+  type: Constants.VoiceEventAudioDevicesChanged;
+  revision: number;
+  addedDevices: NativeAudioDeviceInfo[];
+  removedDeviceUuids: Uuid[];
+  selectedDeviceUuid?: Uuid;
+}
@@ -0,0 +1,39 @@
+import type { AudioDevice } from '../AudioDevice';
+import type { Constants } from '../constants';
+
+/**
+ * The policy the native layer applies to choose the audio device a call is
+ * routed to.
+ *
+ * @remarks
+ * Audio devices are chosen by type, in order of preference. Devices of the
+ * same type are chosen in the order the system lists them, so a wired headset
+ * is chosen over the built-in earpiece. When no available audio device is of a
+ * preferred type, the default routing applies.
+ *
+ * Only available on Android, see {@link (Voice:class).setAudioRoutingPolicy}.
+ *
+ * @public
+ */
+export interface AudioRoutingPolicy {
+  /**
+   * Audio device types in order of preference.
+   */
+  [Constants.AudioRoutingPolicyKeyPreferredDeviceTypes]: AudioDevice.Type[];
+  /**
+   * Audio device types in order of preference for incoming calls. Defaults to
+   * the preferred device types.
+   */
+  [Constants.AudioRoutingPolicyKeyIncomingCallDeviceTypes]?: AudioDevice.Type[];
+  /**
+   * Audio device types in order of preference for outgoing calls. Defaults to
+   * the preferred device types.
+   */
+  [Constants.AudioRoutingPolicyKeyOutgoingCallDeviceTypes]?: AudioDevice.Type[];
+  /**
+   * Whether a call in progress switches to an audio device that connects
+   * during the call, when its type is preferred over the type of the selected
+   * audio device. Defaults to `false`.
+   */
+  [Constants.AudioRoutingPolicyKeyAutoSwitchOnConnect]?: boolean;
+}
@@ -0,0 +1,64 @@
+import type { Constants } from '../constants';
+
+/**
+ * Metrics recorded under a single name, such as an event type or a serializer
+ * entry point.
+ *
+ * @public
+ */
+export interface BridgeMetricsEntry {
+  /**
+   * The number of times the metrics were recorded.
+   */
+  [Constants.BridgeMetricsEntryCount]: number;
+  /**
+   * The total number of top level fields in the payloads. Map payloads count
+   * their keys and array payloads count their elements.
+   */
+  [Constants.BridgeMetricsEntryFieldCount]: number;
+  /**
+   * The total latency, in microseconds.
+   */
+  [Constants.BridgeMetricsEntryTotalLatency]: number;
+  /**
+   * The number of recordings in each latency bucket. Bucket `i` counts
+   * latencies up to the `i`-th bucket bound, and the last bucket counts
+   * latencies above every bound.
+   */
+  [Constants.BridgeMetricsEntryLatencyHistogram]: number[];
+}
+
+/**
+ * Metrics of the work the native layer has done crossing the bridge to the JS
+ * layer since the application process started.
+ *
+ * @remarks
+ * Only available on Android, see {@link (Voice:class).getBridgeMetrics}.
+ *
+ * @public
+ */
+export interface BridgeMetrics {
+  /**
+   * Whether metrics are being recorded. When `false`, every category is empty.
+   */
+  [Constants.BridgeMetricsEnabled]: boolean;
+  /**
+   * The upper bounds of the latency histogram buckets, in microseconds.
+   */
+  [Constants.BridgeMetricsLatencyBucketBounds]: number[];
+  /**
+   * Events sent to the JS layer, keyed by `<scope>/<event type>`. Latency is
+   * measured from when the event payload starts being built until the event is
+   * emitted, batched or held for replay.
+   */
+  [Constants.BridgeMetricsEvents]: Record<string, BridgeMetricsEntry>;
+  /**
+   * Native promises settled, keyed by `resolved`, `rejectedWithCode` or
+   * `rejectedWithName`.
+   */
+  [Constants.BridgeMetricsPromises]: Record<string, BridgeMetricsEntry>;
+  /**
+   * Payloads built by the native serializer, keyed by serializer entry point.
+   */
+  [Constants.BridgeMetricsSerializers]: Record<string, BridgeMetricsEntry>;
+}
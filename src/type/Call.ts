@@ -3,6 +3,7 @@ import type { CustomParameters, Uuid } from './common';
 import type { NativeErrorInfo } from './Error';
 import type { Call } from '../Call';
 import type { NativeCallMessageInfo } from './CallMessage';
+import type { RTCStats } from './RTCStats';
 
 export interface NativeCallInfo {
   uuid: Uuid;
@@ -64,6 +65,35 @@ export interface NativeCallMessageReceivedEvent {
   [Constants.CallMessage]: NativeCallMessageInfo;
 }
 
+/**
+ * A stats report encoded as a delta against the previous report of a stats
+ * stream. Each stats report holds only the sections that changed, and each
+ * entry of those sections only the fields that changed. Counters are sent as
+ * their increment.
+ */
+export type NativeStatsReportDelta = Array<
+  Record<string, Array<Record<string, unknown>>>
+>;
+
+/**
+ * A stats event carries either a full stats report or, in delta mode, a delta
+ * against the previous report of the stream.
+ */
+export interface NativeCallStatsEvent {
+  type: Constants.CallEventStats;
+  call: Pick<NativeCallInfo, 'uuid'>;
+  [Constants.CallEventStatsReport]?: RTCStats.StatsReport;
+  [Constants.CallEventStatsDelta]?: NativeStatsReportDelta;
+  [Constants.CallEventStatsSequence]: number;
+}
+
+export interface NativeCallQualityDegradingEvent {
+  type: Constants.CallEventQualityDegrading;
+  call: Pick<NativeCallInfo, 'uuid'>;
+  [Constants.CallEventQualityDegradingConfidence]: number;
+  [Constants.CallEventQualityDegradingMetrics]: string[];
+}
+
 export type NativeCallEvent =
   | NativeCallConnectedEvent
   | NativeCallConnectFailureEvent
@@ -72,7 +102,9 @@ export type NativeCallEvent =
   | NativeCallDisconnectedEvent
   | NativeCallRingingEvent
   | NativeCallQualityWarningsEvent
-  | NativeCallMessageReceivedEvent;
+  | NativeCallMessageReceivedEvent
+  | NativeCallStatsEvent
+  | NativeCallQualityDegradingEvent;
 
 export type NativeCallEventType =
   | Constants.CallEventConnectFailure
@@ -82,7 +114,9 @@ export type NativeCallEventType =
   | Constants.CallEventReconnected
   | Constants.CallEventReconnecting
   | Constants.CallEventRinging
-  | Constants.CallEventMessageReceived;
+  | Constants.CallEventMessageReceived
+  | Constants.CallEventStats
+  | Constants.CallEventQualityDegrading;
 
 export type NativeCallFeedbackIssue =
   | Constants.CallFeedbackIssueAudioLatency
@@ -0,0 +1,41 @@
+import type { Call } from '../Call';
+import type { Constants } from '../constants';
+
+/**
+ * A completed call, as retained by the native call history.
+ *
+ * @remarks
+ * Only available on Android, see {@link (Voice:class).getCallHistory}.
+ *
+ * @public
+ */
+export interface CallHistoryEntry {
+  /**
+   * The call SID, if one had been assigned to the call.
+   */
+  [Constants.CallHistoryEntryCallSid]?: string;
+  /**
+   * Whether the call was incoming or outgoing.
+   */
+  [Constants.CallHistoryEntryDirection]:
+    | Constants.CallDirectionIncoming
+    | Constants.CallDirectionOutgoing;
+  /**
+   * Milliseconds since the epoch at which the call connected. Not present if
+   * the call never connected.
+   */
+  [Constants.CallHistoryEntryConnectTimestamp]?: number;
+  /**
+   * Milliseconds the call was connected for.
+   */
+  [Constants.CallHistoryEntryDuration]: number;
+  /**
+   * The code of the error the call ended with. Not present if the call ended
+   * without an error.
+   */
+  [Constants.CallHistoryEntryErrorCode]?: number;
+  /**
+   * The quality warnings that were active when the call ended.
+   */
+  [Constants.CallHistoryEntryQualityWarnings]: Call.QualityWarning[];
+}
@@ -0,0 +1,83 @@
+import type { Constants } from '../constants';
+
+/**
+ * Summary of a call quality metric over a window.
+ *
+ * @remarks
+ * The statistics are only present when the window holds samples of the
+ * metric.
+ *
+ * @public
+ */
+export interface CallQualityMetric {
+  /**
+   * The number of samples of the metric within the window.
+   */
+  [Constants.CallQualityMetricSampleCount]: number;
+  /**
+   * The median of the metric.
+   */
+  [Constants.CallQualityMetricP50]?: number;
+  /**
+   * The 95th percentile of the metric.
+   */
+  [Constants.CallQualityMetricP95]?: number;
+  /**
+   * The highest value of the metric.
+   */
+  [Constants.CallQualityMetricMax]?: number;
+  /**
+   * The change of the metric per second, as the least squares slope of its
+   * samples. Only present when the window holds at least two samples.
+   */
+  [Constants.CallQualityMetricTrend]?: number;
+}
+
+/**
+ * Summary of the quality metrics of a call over a window of its most recent
+ * samples.
+ *
+ * @public
+ */
+export interface CallQualityWindow {
+  /**
+   * The duration of the window, in milliseconds.
+   */
+  [Constants.CallQualityWindowDuration]: number;
+  /**
+   * The highest jitter of the local & remote audio tracks, in milliseconds.
+   */
+  [Constants.CallQualityWindowJitter]: CallQualityMetric;
+  /**
+   * The round trip time, in milliseconds.
+   */
+  [Constants.CallQualityWindowRtt]: CallQualityMetric;
+  /**
+   * The share of remote audio packets lost between samples, in percent.
+   */
+  [Constants.CallQualityWindowPacketLoss]: CallQualityMetric;
+  /**
+   * The lowest MOS of the remote audio tracks.
+   */
+  [Constants.CallQualityWindowMos]: CallQualityMetric;
+}
+
+/**
+ * Summary of the quality of a call, aggregated natively from periodic stats
+ * samples.
+ *
+ * @remarks
+ * Only available on Android, see {@link (Call:class).getQualitySummary}.
+ *
+ * @public
+ */
+export interface CallQualitySummary {
+  /**
+   * The summary over the short window, 10 seconds by default.
+   */
+  [Constants.CallQualitySummaryShortWindow]: CallQualityWindow;
+  /**
+   * The summary over the long window, 60 seconds by default.
+   */
+  [Constants.CallQualitySummaryLongWindow]: CallQualityWindow;
+}
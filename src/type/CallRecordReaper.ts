@@ -0,0 +1,54 @@
+import type { Constants } from '../constants';
+import type { Uuid } from './common';
+
+/**
+ * A call record that was removed by the native call record reaper because it
+ * never reached a terminal state, for example a call invite whose cancellation
+ * never arrived or a call that never connected.
+ *
+ * @remarks
+ * Only available on Android, see
+ * {@link (Voice:namespace).Event.CallRecordReaped}.
+ *
+ * @public
+ */
+export interface ReapedCallRecord {
+  /**
+   * The UUID of the call or call invite.
+   */
+  [Constants.ReapedCallRecordInfoUuid]: Uuid;
+  /**
+   * The call SID, if one had been assigned.
+   */
+  [Constants.ReapedCallRecordInfoCallSid]?: string;
+  /**
+   * Whether the call was incoming or outgoing.
+   */
+  [Constants.ReapedCallRecordInfoDirection]:
+    | Constants.CallDirectionIncoming
+    | Constants.CallDirectionOutgoing;
+  /**
+   * The state of the call invite when the record was reaped.
+   */
+  [Constants.ReapedCallRecordInfoCallInviteState]:
+    | Constants.CallInviteStateNone
+    | Constants.CallInviteStateActive
+    | Constants.CallInviteStateUsed;
+  /**
+   * Milliseconds the record was held before it was reaped.
+   */
+  [Constants.ReapedCallRecordInfoAge]: number;
+}
+
+/**
+ * The number of call records reaped since the application process started,
+ * keyed by the call invite state the records were in when reaped.
+ *
+ * @public
+ */
+export type ReapedCallRecordCounts = Record<
+  | Constants.CallInviteStateNone
+  | Constants.CallInviteStateActive
+  | Constants.CallInviteStateUsed,
+  number
+>;
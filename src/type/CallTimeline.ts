@@ -0,0 +1,36 @@
+import type { Constants } from '../constants';
+
+/**
+ * A lifecycle event of a call, as traced by the native layer.
+ *
+ * @remarks
+ * Only available on Android, see {@link (Call:class).getTimeline}.
+ *
+ * @public
+ */
+export interface CallTimelineEntry {
+  /**
+   * The lifecycle event.
+   */
+  [Constants.CallTimelineEntryEvent]:
+    | Constants.CallTimelineEventInviteReceived
+    | Constants.CallTimelineEventConnectRequested
+    | Constants.CallTimelineEventNotificationPosted
+    | Constants.CallTimelineEventAcceptRequested
+    | Constants.CallTimelineEventAcceptReturned
+    | Constants.CallTimelineEventRinging
+    | Constants.CallTimelineEventConnected
+    | Constants.CallTimelineEventConnectFailure
+    | Constants.CallTimelineEventReconnecting
+    | Constants.CallTimelineEventReconnected
+    | Constants.CallTimelineEventDisconnected;
+  /**
+   * Milliseconds since the epoch at which the event happened.
+   */
+  [Constants.CallTimelineEntryTimestamp]: number;
+  /**
+   * Milliseconds between the native layer first learning of the call and the
+   * event.
+   */
+  [Constants.CallTimelineEntryElapsed]: number;
+}
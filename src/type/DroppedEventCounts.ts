@@ -0,0 +1,26 @@
+import type { Constants } from '../constants';
+
+/**
+ * The number of native events dropped instead of being delivered to the JS
+ * layer since the application process started.
+ *
+ * @remarks
+ * Only available on Android, see {@link (Voice:class).getDroppedEventCounts}.
+ *
+ * @public
+ */
+export interface DroppedEventCounts {
+  /**
+   * Events dropped because the replay queue of their scope was full.
+   */
+  [Constants.DroppedEventCountsOverflowed]: number;
+  /**
+   * Events dropped because they were held longer than the maximum replay age.
+   */
+  [Constants.DroppedEventCountsExpired]: number;
+  /**
+   * Low priority events, such as audio device updates and call quality warning
+   * changes, superseded by a later event of the same kind before delivery.
+   */
+  [Constants.DroppedEventCountsCoalesced]: number;
+}
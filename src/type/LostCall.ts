@@ -0,0 +1,40 @@
+import type { Constants } from '../constants';
+import type { Uuid } from './common';
+
+/**
+ * A call that was still in progress when the application process terminated
+ * unexpectedly, recovered from the native call journal on the next launch.
+ *
+ * @remarks
+ * Only available on Android, see {@link (Voice:class).getLostCalls}.
+ *
+ * @public
+ */
+export interface LostCall {
+  /**
+   * The UUID the call was tracked with by the previous process.
+   */
+  [Constants.LostCallInfoUuid]: Uuid;
+  /**
+   * The call SID, if one had been assigned to the call.
+   */
+  [Constants.LostCallInfoCallSid]?: string;
+  /**
+   * Whether the call was incoming or outgoing.
+   */
+  [Constants.LostCallInfoDirection]:
+    | Constants.CallDirectionIncoming
+    | Constants.CallDirectionOutgoing;
+  /**
+   * The state of the call invite when the process terminated. An `active`
+   * state means the incoming call was never answered nor rejected.
+   */
+  [Constants.LostCallInfoCallInviteState]:
+    | Constants.CallInviteStateNone
+    | Constants.CallInviteStateActive
+    | Constants.CallInviteStateUsed;
+  /**
+   * Milliseconds since the epoch at which the call was first recorded.
+   */
+  [Constants.LostCallInfoTimestamp]: number;
+}
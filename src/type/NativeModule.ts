@@ -1,14 +1,23 @@
 import type { NativeModulesStatic } from 'react-native';
+import type { Call } from '../Call';
 import type { CallInvite } from '../CallInvite';
 import type { PreflightTest } from '../PreflightTest';
 import type { NativeAudioDevicesInfo } from './AudioDevice';
+import type { AudioRoutingPolicy } from './AudioRoutingPolicy';
 import type {
   NativeCallInfo,
   NativeCallFeedbackIssue,
   NativeCallFeedbackScore,
 } from './Call';
 import type { NativeCallInviteInfo } from './CallInvite';
+import type { CallHistoryEntry } from './CallHistory';
+import type { CallQualitySummary } from './CallQuality';
+import type { CallTimelineEntry } from './CallTimeline';
+import type { ReapedCallRecordCounts } from './CallRecordReaper';
 import type { Uuid } from './common';
+import type { BridgeMetrics } from './BridgeMetrics';
+import type { DroppedEventCounts } from './DroppedEventCounts';
+import type { LostCall } from './LostCall';
 import type { RTCStats } from './RTCStats';
 import type { Constants } from '../constants';
 import type { IceServer, IceTransportPolicy } from './Ice';
@@ -52,7 +61,12 @@ export interface TwilioVoiceReactNative extends NativeModulesStatic {
    * Call bindings.
    */
   call_disconnect(callUuid: Uuid): NativePromise<void>;
-  call_getStats(callUuid: Uuid): NativePromise<RTCStats.StatsReport>;
+  call_getQualitySummary(callUuid: Uuid): NativePromise<CallQualitySummary>;
+  call_getStats(
+    callUuid: Uuid,
+    fields?: Call.StatsField[] | null
+  ): NativePromise<RTCStats.StatsReport>;
+  call_getTimeline(callUuid: Uuid): NativePromise<CallTimelineEntry[]>;
   call_hold(callUuid: Uuid, hold: boolean): NativePromise<boolean>;
   call_isOnHold(callUuid: Uuid): NativePromise<boolean>;
   call_isMuted(callUuid: Uuid): NativePromise<boolean>;
@@ -69,6 +83,14 @@ export interface TwilioVoiceReactNative extends NativeModulesStatic {
     contentType: string,
     messageType: string
   ): NativePromise<string>;
+  call_startStatsStream(
+    callUuid: Uuid,
+    intervalMs: number,
+    fields: Call.StatsField[] | undefined,
+    delta: boolean
+  ): NativePromise<void>;
+  call_stopStatsStream(callUuid: Uuid): NativePromise<void>;
+  call_requestStatsReport(callUuid: Uuid): NativePromise<void>;
 
   /**
    * Call Invite bindings.
@@ -115,9 +137,26 @@ export interface TwilioVoiceReactNative extends NativeModulesStatic {
   voice_setIncomingCallContactHandleTemplate(
     template?: string
   ): NativePromise<void>;
+  voice_setAudioRoutingPolicy(
+    policy: AudioRoutingPolicy | undefined
+  ): NativePromise<void>;
   voice_getAudioDevices(): NativePromise<NativeAudioDevicesInfo>;
   voice_getCalls(): NativePromise<NativeCallInfo[]>;
   voice_getCallInvites(): NativePromise<NativeCallInviteInfo[]>;
+  voice_getCallsVersion(): NativePromise<number>;
+  voice_getLostCalls(): NativePromise<LostCall[]>;
+  voice_getReapedCallRecordCounts(): NativePromise<ReapedCallRecordCounts>;
+  voice_getCallHistory(
+    offset: number,
+    limit: number
+  ): NativePromise<CallHistoryEntry[]>;
+  voice_addEventListener(eventName: string): NativePromise<void>;
+  voice_removeEventListeners(
+    eventName: string,
+    count: number
+  ): NativePromise<void>;
+  voice_getDroppedEventCounts(): NativePromise<DroppedEventCounts>;
+  voice_getBridgeMetrics(): NativePromise<BridgeMetrics>;
   voice_getDeviceToken(): NativePromise<string>;
   voice_getVersion(): NativePromise<string>;
   voice_handleEvent(
@@ -1,6 +1,10 @@
 import type { Constants } from '../constants';
-import type { NativeAudioDevicesUpdatedEvent } from './AudioDevice';
+import type {
+  NativeAudioDevicesChangedEvent,
+  NativeAudioDevicesUpdatedEvent,
+} from './AudioDevice';
 import type { NativeCallInviteInfo } from './CallInvite';
+import type { ReapedCallRecord } from './CallRecordReaper';
 import type { NativeErrorEvent } from './Error';
 
 export interface NativeRegisteredEvent {
@@ -16,16 +20,25 @@ export interface NativeCallInviteIncomingEvent {
   callInvite: NativeCallInviteInfo;
 }
 
+export interface NativeCallRecordReapedEvent {
+  type: Constants.VoiceEventCallRecordReaped;
+  [Constants.VoiceEventKeyReapedCallRecord]: ReapedCallRecord;
+}
+
 export type NativeVoiceEvent =
+  | NativeAudioDevicesChangedEvent
   | NativeAudioDevicesUpdatedEvent
   | NativeCallInviteIncomingEvent
+  | NativeCallRecordReapedEvent
   | NativeErrorEvent
   | NativeRegisteredEvent
   | NativeUnregisteredEvent;
 
 export type NativeVoiceEventType =
+  | Constants.VoiceEventAudioDevicesChanged
   | Constants.VoiceEventAudioDevicesUpdated
   | Constants.VoiceEventTypeValueIncomingCallInvite
+  | Constants.VoiceEventCallRecordReaped
   | Constants.VoiceEventError
   | Constants.VoiceEventRegistered
   | Constants.VoiceEventUnregistered;
@@ -0,0 +1,50 @@
+import { NativeEventEmitter } from 'react-native';
+import type { EmitterSubscription } from 'react-native';
+import type { TwilioVoiceReactNative } from '../type/NativeModule';
+
+type ListenerCountingNativeModule = Pick<
+  TwilioVoiceReactNative,
+  'voice_addEventListener' | 'voice_removeEventListeners'
+>;
+
+/**
+ * A `NativeEventEmitter` that reports the listeners added and removed for
+ * each scope to the native layer, so that the native layer can skip building
+ * events for scopes nobody listens to.
+ *
+ * @remarks
+ * On Android the emitter is not bound to the native module, so React Native
+ * does not report listeners to the native layer by itself. Even when bound,
+ * React Native only reports the number of removed listeners, not their scope.
+ *
+ * @internal
+ */
+export class ListenerCountingEventEmitter extends NativeEventEmitter {
+  private _voiceNativeModule: ListenerCountingNativeModule;
+
+  constructor(voiceNativeModule: ListenerCountingNativeModule) {
+    super();
+    this._voiceNativeModule = voiceNativeModule;
+  }
+
+  addListener(
+    eventType: string,
+    listener: (event: any) => void,
+    context?: any
+  ): EmitterSubscription {
+    const subscription = super.addListener(eventType, listener, context);
+    this._voiceNativeModule.voice_addEventListener(eventType);
+
+    const remove = subscription.remove.bind(subscription);
+    let isRemoved = false;
+    subscription.remove = () => {
+      remove();
+      if (!isRemoved) {
+        isRemoved = true;
+        this._voiceNativeModule.voice_removeEventListeners(eventType, 1);
+      }
+    };
+
+    return subscription;
+  }
+}
@@ -0,0 +1,76 @@
+import { Constants } from '../constants';
+import type { NativeStatsReportDelta } from '../type/Call';
+import type { RTCStats } from '../type/RTCStats';
+
+type StatsEntry = Record<string, unknown>;
+type NativeStatsReport = Record<string, unknown>;
+
+/**
+ * Stats entry fields the native layer sends as their increment since the
+ * previous report. Must match `StatsReportDeltaEncoder.COUNTER_FIELDS`.
+ */
+const counterFields = new Set<string>([
+  Constants.BytesReceived,
+  Constants.BytesSent,
+  Constants.ConsentRequestsReceived,
+  Constants.ConsentRequestsSent,
+  Constants.ConsentResponsesReceived,
+  Constants.ConsentResponsesSent,
+  Constants.PacketsLost,
+  Constants.PacketsReceived,
+  Constants.PacketsSent,
+  Constants.RequestsReceived,
+  Constants.RequestsSent,
+  Constants.ResponsesReceived,
+  Constants.ResponsesSent,
+  Constants.RetransmissionsReceived,
+  Constants.RetransmissionsSent,
+]);
+
+function applyStatsEntryDelta(
+  statsEntry: StatsEntry,
+  statsEntryDelta: StatsEntry | undefined
+): StatsEntry {
+  const appliedEntry = { ...statsEntry };
+  Object.entries(statsEntryDelta ?? {}).forEach(([field, value]) => {
+    const previousValue = statsEntry[field];
+    appliedEntry[field] =
+      counterFields.has(field) &&
+      typeof previousValue === 'number' &&
+      typeof value === 'number'
+        ? previousValue + value
+        : value;
+  });
+  return appliedEntry;
+}
+
+/**
+ * Rebuild a stats report from the previous report of a stats stream and the
+ * delta the native layer sent against it.
+ *
+ * @remarks
+ * Sections that did not change are shared with the previous report.
+ *
+ * @param statsReport - The previous stats report.
+ * @param statsReportDelta - The delta against the previous stats report.
+ * @returns The stats report the delta encodes.
+ */
+export function applyStatsReportDelta(
+  statsReport: RTCStats.StatsReport,
+  statsReportDelta: NativeStatsReportDelta
+): RTCStats.StatsReport {
+  // the native layer sends a stats report per peer connection
+  const reports = statsReport as unknown as NativeStatsReport[];
+  return reports.map((report, i) => {
+    const appliedReport = { ...report };
+    Object.entries(statsReportDelta[i] ?? {}).forEach(
+      ([section, entryDeltas]) => {
+        const entries = report[section] as StatsEntry[];
+        appliedReport[section] = entries.map((entry, j) =>
+          applyStatsEntryDelta(entry, entryDeltas[j])
+        );
+      }
+    );
+    return appliedReport;
+  }) as unknown as RTCStats.StatsReport;
+}